@@ -0,0 +1,68 @@
+package com.employee.management.benchmark;
+
+import com.employee.management.dto.request.EmployeeRequestDTO;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean Validation of the create/update body, as @Valid runs it on every employee write. The invalid
+ * case also pays for message interpolation of each violation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private EmployeeRequestDTO valid;
+    private EmployeeRequestDTO invalid;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+
+        valid = new EmployeeRequestDTO("Anna", "Smith", "anna.smith@example.com", "+15551234567",
+                LocalDate.of(1990, 5, 17), LocalDate.of(2020, 1, 6), new BigDecimal("72500.00"),
+                "1 Main Street", null, 7L, 11L);
+        invalid = new EmployeeRequestDTO("A", "", "not-an-email", "12",
+                LocalDate.now().plusDays(1), null, new BigDecimal("-1"), null, null, null, null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<EmployeeRequestDTO>> validRequest() {
+        return validator.validate(valid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<EmployeeRequestDTO>> invalidRequest() {
+        return validator.validate(invalid);
+    }
+}
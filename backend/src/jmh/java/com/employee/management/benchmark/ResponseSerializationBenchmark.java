@@ -0,0 +1,63 @@
+package com.employee.management.benchmark;
+
+import com.employee.management.dto.response.EmployeeResponseDTO;
+import com.employee.management.entity.enums.EmployeeStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON encoding of an employee list response. Output goes to a null stream so only Jackson's own
+ * CPU and allocation is measured, not buffer growth.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseSerializationBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private List<EmployeeResponseDTO> employees;
+
+    @Setup
+    public void setUp() {
+        employees = new ArrayList<>(size);
+        LocalDateTime created = LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123_456_000);
+        for (int i = 0; i < size; i++) {
+            employees.add(new EmployeeResponseDTO((long) i + 1, "First" + i, "Last" + (i % 977),
+                    "employee" + i + "@example.com", "+1555" + (1_000_000 + i), LocalDate.of(1980 + i % 30, 1 + i % 12, 1 + i % 28),
+                    LocalDate.of(2010 + i % 15, 1 + i % 12, 1 + i % 28), BigDecimal.valueOf(4_000_000 + i, 2),
+                    i + " Main Street", EmployeeStatus.values()[i % EmployeeStatus.values().length],
+                    (long) (1 + i % 20), "Department " + i % 20, (long) (1 + i % 60), "Position " + i % 60,
+                    created.plusMinutes(i), created.plusMinutes(i).plusDays(30), (long) i % 5));
+        }
+    }
+
+    @Benchmark
+    public void json() {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), employees);
+    }
+}
@@ -0,0 +1,93 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.dto.response.DepartmentResponseDTO;
+import com.employee.management.dto.response.EmployeeResponseDTO;
+import com.employee.management.dto.response.PositionResponseDTO;
+import com.employee.management.entity.Department;
+import com.employee.management.entity.Employee;
+import com.employee.management.entity.Position;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-response conversions used on every write path (reads go through the repository
+ * projections). Lives in service.impl for the package-private converters.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseConversionBenchmark {
+
+    private Employee employee;
+    private Department department;
+    private Position position;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.of(2024, 3, 1, 9, 30);
+
+        department = new Department();
+        department.setId(7L);
+        department.setName("Engineering");
+        department.setDescription("Builds the product");
+        department.setCreatedAt(now);
+        department.setUpdatedAt(now);
+        department.setVersion(3L);
+
+        position = new Position();
+        position.setId(11L);
+        position.setTitle("Developer");
+        position.setDescription("Writes code");
+        position.setDepartment(department);
+        position.setCreatedAt(now);
+        position.setUpdatedAt(now);
+        position.setVersion(1L);
+
+        employee = new Employee();
+        employee.setId(42L);
+        employee.setFirstName("Anna");
+        employee.setLastName("Smith");
+        employee.setEmail("anna.smith@example.com");
+        employee.setPhone("+15551234567");
+        employee.setDateOfBirth(LocalDate.of(1990, 5, 17));
+        employee.setHireDate(LocalDate.of(2020, 1, 6));
+        employee.setSalary(new BigDecimal("72500.00"));
+        employee.setAddress("1 Main Street");
+        employee.setDepartment(department);
+        employee.setPosition(position);
+        employee.setCreatedAt(now);
+        employee.setUpdatedAt(now);
+        employee.setVersion(5L);
+    }
+
+    @Benchmark
+    public EmployeeResponseDTO employee() {
+        return EmployeeServiceImpl.convertToResponseDTO(employee);
+    }
+
+    @Benchmark
+    public DepartmentResponseDTO department() {
+        return DepartmentServiceImpl.convertToResponseDTO(department, 120);
+    }
+
+    @Benchmark
+    public PositionResponseDTO position() {
+        return PositionServiceImpl.convertToResponseDTO(position, 35);
+    }
+}
@@ -0,0 +1,36 @@
+package com.employee.management.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "employee.admission.enabled", havingValue = "true")
+public class AdmissionLimitConfig {
+
+    // Limits connections, not requests, so health checks, metrics and in-memory API routes stay reachable
+    // while the database is saturated. static so the post-processor does not pull this configuration in early
+    @Bean
+    public static BeanPostProcessor admissionLimitedDataSource(Environment environment,
+                                                               ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof AdmissionLimitedDataSource)) {
+                    return new AdmissionLimitedDataSource(dataSource,
+                            environment.getProperty("employee.admission.max-concurrent", Integer.class, 10),
+                            environment.getProperty("employee.admission.max-wait", Duration.class, Duration.ofSeconds(5)),
+                            meterRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,131 @@
+package com.employee.management.config;
+
+import com.employee.management.exception.AdmissionRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caps the number of connections checked out at once. With virtual threads every request gets a thread,
+ * so without a cap a burst goes straight to Hikari and times out there; here callers wait in FIFO order on
+ * a fair semaphore and get AdmissionRejectedException (503 with Retry-After) once max-wait runs out.
+ * <p>
+ * The permit is taken when a connection is acquired and returned when it is closed, so only work that
+ * actually uses the database queues: cache hits, typeahead lookups, 304 answers and buffered attendance
+ * punches never wait behind a burst of database-bound requests.
+ */
+public class AdmissionLimitedDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final Duration maxWait;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    public AdmissionLimitedDataSource(DataSource target, int maxConcurrent, Duration maxWait,
+                                      MeterRegistry meterRegistry) {
+        super(target);
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxWait = maxWait;
+        this.waitTimer = Timer.builder("employee.admission.wait")
+                .description("Time spent waiting for a database connection permit")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("employee.admission.rejected")
+                .description("Connection requests refused because no permit freed up within max-wait")
+                .register(meterRegistry);
+        Gauge.builder("employee.admission.in-flight", permits, p -> maxConcurrent - p.availablePermits())
+                .description("Connections currently holding a permit")
+                .register(meterRegistry);
+        Gauge.builder("employee.admission.queued", permits, Semaphore::getQueueLength)
+                .description("Callers waiting for a database connection permit")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        return withPermit(super::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        return withPermit(() -> super.getConnection(username, password));
+    }
+
+    private void acquire() throws SQLException {
+        long waitStart = System.nanoTime();
+        boolean admitted;
+        try {
+            admitted = permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        waitTimer.record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+        if (!admitted) {
+            rejected.increment();
+            throw new AdmissionRejectedException("Server busy: no database connection permit within " + maxWait);
+        }
+    }
+
+    private interface ConnectionSource {
+        Connection get() throws SQLException;
+    }
+
+    // The permit goes back exactly once, when the caller closes or aborts the connection (or acquiring it failed)
+    private Connection withPermit(ConnectionSource source) throws SQLException {
+        Connection connection;
+        try {
+            connection = source.get();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        };
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        // Identity of the proxy itself, not of the pooled connection behind it
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "close":
+                        case "abort":
+                            try {
+                                return invoke(connection, method, args);
+                            } finally {
+                                release.run();
+                            }
+                        default:
+                            return invoke(connection, method, args);
+                    }
+                });
+    }
+
+    private static Object invoke(Connection connection, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(connection, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
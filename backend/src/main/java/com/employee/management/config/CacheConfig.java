@@ -0,0 +1,39 @@
+package com.employee.management.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // EmployeeResponseDTO by employee id
+    public static final String EMPLOYEES_CACHE = "employees";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${employee.cache.maximum-size:10000}") long maximumSize,
+            @Value("${employee.cache.time-to-live:10m}") Duration timeToLive) {
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats());
+        // Fixed cache names so the caches exist at startup and get metrics bound
+        cacheManager.setCacheNames(List.of(EMPLOYEES_CACHE));
+        cacheManager.setAllowNullValues(false);
+
+        // Puts and evictions only take effect once the surrounding transaction commits
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,59 @@
+package com.employee.management.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+
+import javax.sql.DataSource;
+
+/**
+ * Per-request SQL instrumentation: the DataSource is wrapped by datasource-proxy so every statement,
+ * its time and its rows reach SqlStats, whatever issued them (Hibernate, Spring Data, JdbcTemplate).
+ */
+@Configuration
+@ConditionalOnProperty(name = "employee.sql.instrumentation-enabled", havingValue = "true", matchIfMissing = true)
+public class SqlInstrumentationConfig {
+
+    // static so the post-processor does not pull this configuration in before other beans are processed
+    @Bean
+    public static BeanPostProcessor sqlStatsDataSourceProxy() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    SqlStatsListener listener = new SqlStatsListener();
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(listener)
+                            .proxyResultSet()
+                            .methodListener(listener)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatsFilter> sqlStatsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${employee.sql.statement-budget:20}") int statementBudget,
+            @Value("${employee.sql.repeated-statement-threshold:10}") int repeatedStatementThreshold) {
+
+        FilterRegistrationBean<SqlStatsFilter> registration = new FilterRegistrationBean<>(
+                new SqlStatsFilter(meterRegistry, statementBudget, repeatedStatementThreshold));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    @ControllerAdvice
+    @ConditionalOnProperty(name = "employee.sql.headers-enabled", havingValue = "true")
+    static class HeaderAdvice extends SqlStatsHeaderAdvice {
+    }
+}
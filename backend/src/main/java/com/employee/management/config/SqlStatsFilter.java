@@ -0,0 +1,89 @@
+package com.employee.management.config;
+
+import com.employee.management.util.SqlStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opens a SqlStats scope per API request, publishes what it collected as employee.sql.* metrics
+ * tagged by route, and warns when a request goes over the statement budget or repeats one statement
+ * shape often enough to look like an N+1.
+ */
+@Slf4j
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+    private final int repeatedStatementThreshold;
+    private final Counter budgetExceeded;
+    private final Counter repeatedStatements;
+
+    public SqlStatsFilter(MeterRegistry meterRegistry, int statementBudget, int repeatedStatementThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+        this.budgetExceeded = Counter.builder("employee.sql.budget.exceeded")
+                .description("Requests that issued more statements than employee.sql.statement-budget")
+                .register(meterRegistry);
+        this.repeatedStatements = Counter.builder("employee.sql.repeated")
+                .description("Requests that repeated one statement shape at least employee.sql.repeated-statement-threshold times")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        SqlStats stats = SqlStats.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStats.close(stats);
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        DistributionSummary.builder("employee.sql.statements")
+                .description("SQL statements issued per request")
+                .tag("method", method).tag("uri", uri)
+                .register(meterRegistry).record(stats.getStatements());
+        DistributionSummary.builder("employee.sql.rows")
+                .description("Rows read or written per request")
+                .tag("method", method).tag("uri", uri)
+                .register(meterRegistry).record(stats.getRows());
+        Timer.builder("employee.sql.time")
+                .description("Time spent executing SQL per request")
+                .tag("method", method).tag("uri", uri)
+                .register(meterRegistry).record(stats.getNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.getStatements() > statementBudget) {
+            budgetExceeded.increment();
+            log.warn("{} {} issued {} SQL statements, over the budget of {}",
+                    method, request.getRequestURI(), stats.getStatements(), statementBudget);
+        }
+        Map.Entry<String, Integer> repeated = stats.mostRepeated();
+        if (repeated != null && repeated.getValue() >= repeatedStatementThreshold) {
+            repeatedStatements.increment();
+            log.warn("{} {} ran the same statement {} times (possible N+1): {}",
+                    method, request.getRequestURI(), repeated.getValue(), repeated.getKey());
+        }
+    }
+}
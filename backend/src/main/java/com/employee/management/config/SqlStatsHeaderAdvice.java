@@ -0,0 +1,40 @@
+package com.employee.management.config;
+
+import com.employee.management.util.SqlStats;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adds the request's SQL counts as response headers just before the body is written. A development
+ * aid, registered only when employee.sql.headers-enabled is set; bodiless responses carry no headers.
+ */
+public class SqlStatsHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String ROWS_HEADER = "X-SQL-Rows";
+    public static final String TIME_HEADER = "X-SQL-Time-Ms";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlStats stats = SqlStats.current();
+        if (stats != null) {
+            response.getHeaders().set(STATEMENTS_HEADER, String.valueOf(stats.getStatements()));
+            response.getHeaders().set(ROWS_HEADER, String.valueOf(stats.getRows()));
+            response.getHeaders().set(TIME_HEADER, String.valueOf(TimeUnit.NANOSECONDS.toMillis(stats.getNanos())));
+        }
+        return body;
+    }
+}
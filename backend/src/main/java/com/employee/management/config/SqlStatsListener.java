@@ -0,0 +1,59 @@
+package com.employee.management.config;
+
+import com.employee.management.util.SqlStats;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * Feeds SqlStats from the proxied DataSource: one statement per JDBC execution (a batch is one round
+ * trip), its wall time, rows returned by ResultSet.next() and update counts.
+ */
+class SqlStatsListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final String START = SqlStatsListener.class.getName() + ".start";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START, Long.class);
+        long elapsed = start != null ? System.nanoTime() - start : 0;
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+        SqlStats.recordStatement(sql, elapsed);
+
+        Object result = execInfo.getResult();
+        if (result instanceof Integer count && count > 0) {
+            SqlStats.recordRows(count);
+        } else if (result instanceof Long count && count > 0) {
+            SqlStats.recordRows(count);
+        } else if (result instanceof int[] counts) {
+            long sum = 0;
+            for (int count : counts) {
+                sum += Math.max(count, 0);
+            }
+            SqlStats.recordRows(sum);
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && "next".equals(executionContext.getMethod().getName())
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            SqlStats.recordRows(1);
+        }
+    }
+}
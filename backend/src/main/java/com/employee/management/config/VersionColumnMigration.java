@@ -0,0 +1,61 @@
+package com.employee.management.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * One-time backfill of the optimistic-lock version column (BaseEntity @Version). Hibernate adds it as
+ * a nullable column to tables that predate it, and a NULL version would make every update of those rows
+ * fail its version check. A table whose column still allows NULL is backfilled and the column becomes
+ * NOT NULL DEFAULT 0; after that a start costs one catalog query instead of a full scan per table.
+ * PostgreSQL only.
+ */
+@Component
+@Slf4j
+public class VersionColumnMigration implements SmartInitializingSingleton {
+
+    // Tables that held rows before the version column was added
+    static final List<String> TABLES = List.of("departments", "positions", "employees", "users", "attendance",
+            "leave_requests", "leave_balances");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public VersionColumnMigration(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // After Hibernate DDL has added the column, before the web server takes requests
+    @Override
+    public void afterSingletonsInstantiated() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equals(product)) {
+            return;
+        }
+        migrate();
+    }
+
+    // Returns the tables it backfilled
+    List<String> migrate() {
+        List<String> nullable = jdbcTemplate.queryForList("SELECT table_name FROM information_schema.columns " +
+                "WHERE table_schema = current_schema() AND column_name = 'version' AND is_nullable = 'YES' " +
+                "AND table_name = ANY (?)", String.class, (Object) TABLES.toArray(String[]::new));
+        for (String table : nullable) {
+            transactionTemplate.executeWithoutResult(status -> {
+                int rows = jdbcTemplate.update("UPDATE " + table + " SET version = 0 WHERE version IS NULL");
+                jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN version SET DEFAULT 0, " +
+                        "ALTER COLUMN version SET NOT NULL");
+                log.info("Backfilled the version column of {} ({} rows) and made it NOT NULL", table, rows);
+            });
+        }
+        return nullable;
+    }
+}
@@ -0,0 +1,127 @@
+package com.employee.management.controller;
+
+import com.employee.management.dto.request.AttendancePunchBatchRequestDTO;
+import com.employee.management.dto.request.AttendancePunchRequestDTO;
+import com.employee.management.dto.response.AttendanceArchiveResponseDTO;
+import com.employee.management.dto.response.AttendanceDepartmentReportDTO;
+import com.employee.management.dto.response.AttendanceImportResponseDTO;
+import com.employee.management.dto.response.AttendanceIngestResponseDTO;
+import com.employee.management.dto.response.AttendanceMonthlyReportDTO;
+import com.employee.management.dto.response.AttendancePartitionDTO;
+import com.employee.management.dto.response.AttendanceResponseDTO;
+import com.employee.management.dto.response.AttendanceRollupRebuildResponseDTO;
+import com.employee.management.service.AttendanceImportService;
+import com.employee.management.service.AttendancePartitionService;
+import com.employee.management.service.AttendanceService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/attendance")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "http://localhost:3000")
+public class AttendanceController {
+
+    private final AttendanceService attendanceService;
+    private final AttendancePartitionService attendancePartitionService;
+    private final AttendanceImportService attendanceImportService;
+
+    // PUNCH - 202 once buffered, 503 with Retry-After when the queue is full
+    @PostMapping("/punches")
+    public ResponseEntity<AttendanceIngestResponseDTO> recordPunch(
+            @Valid @RequestBody AttendancePunchRequestDTO requestDTO) {
+
+        log.debug("REST request to record {} of employee {}", requestDTO.getType(), requestDTO.getEmployeeId());
+        AttendanceIngestResponseDTO response = attendanceService.recordPunches(List.of(requestDTO));
+        return new ResponseEntity<>(response, HttpStatus.ACCEPTED);
+    }
+
+    // PUNCH BATCH - accepted or refused as a whole
+    @PostMapping("/punches/batch")
+    public ResponseEntity<AttendanceIngestResponseDTO> recordPunches(
+            @Valid @RequestBody AttendancePunchBatchRequestDTO requestDTO) {
+
+        log.debug("REST request to record {} punches", requestDTO.getPunches().size());
+        AttendanceIngestResponseDTO response = attendanceService.recordPunches(requestDTO.getPunches());
+        return new ResponseEntity<>(response, HttpStatus.ACCEPTED);
+    }
+
+    // IMPORT - CSV with the columns email, date, checkIn, checkOut, streamed through COPY (PostgreSQL)
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<AttendanceImportResponseDTO> importAttendance(Reader csv) throws IOException {
+        log.info("REST request to import attendance from CSV");
+        AttendanceImportResponseDTO response = attendanceImportService.importAttendance(csv);
+        return ResponseEntity.ok(response);
+    }
+
+    // GET BY EMPLOYEE - days in [from, to], reflecting punches flushed so far
+    @GetMapping("/employee/{employeeId}")
+    public ResponseEntity<List<AttendanceResponseDTO>> getAttendance(
+            @PathVariable Long employeeId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        log.debug("REST request to get attendance of employee {} from {} to {}", employeeId, from, to);
+        List<AttendanceResponseDTO> response = attendanceService.getAttendance(employeeId, from, to);
+        return ResponseEntity.ok(response);
+    }
+
+    // MONTHLY REPORT - hours, days present and late arrivals per employee, e.g. ?month=2024-03
+    @GetMapping("/reports/monthly")
+    public ResponseEntity<List<AttendanceMonthlyReportDTO>> getMonthlyReport(
+            @RequestParam YearMonth month,
+            @RequestParam(required = false) Long departmentId) {
+
+        log.debug("REST request to get attendance report for {}", month);
+        List<AttendanceMonthlyReportDTO> response = attendanceService.getMonthlyReport(month, departmentId);
+        return ResponseEntity.ok(response);
+    }
+
+    // DEPARTMENT REPORT - totals per department over [from, to]
+    @GetMapping("/reports/departments")
+    public ResponseEntity<List<AttendanceDepartmentReportDTO>> getDepartmentReport(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        log.debug("REST request to get department attendance report from {} to {}", from, to);
+        List<AttendanceDepartmentReportDTO> response = attendanceService.getDepartmentReport(from, to);
+        return ResponseEntity.ok(response);
+    }
+
+    // REBUILD ROLLUPS - recompute the reports' rollups for whole months, e.g. after a backfill
+    @PostMapping("/rollups/rebuild")
+    public ResponseEntity<AttendanceRollupRebuildResponseDTO> rebuildRollups(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        log.info("REST request to rebuild attendance rollups from {} to {}", from, to);
+        AttendanceRollupRebuildResponseDTO response = attendanceService.rebuildRollups(from, to);
+        return ResponseEntity.ok(response);
+    }
+
+    // PARTITIONS - monthly partitions of the attendance table (empty unless partitioning is enabled)
+    @GetMapping("/partitions")
+    public ResponseEntity<List<AttendancePartitionDTO>> getPartitions() {
+        log.debug("REST request to get attendance partitions");
+        return ResponseEntity.ok(attendancePartitionService.getPartitions());
+    }
+
+    // ARCHIVE - run the retention job now instead of waiting for its nightly schedule
+    @PostMapping("/partitions/archive")
+    public ResponseEntity<List<AttendanceArchiveResponseDTO>> archiveExpiredPartitions() {
+        log.info("REST request to archive expired attendance partitions");
+        return ResponseEntity.ok(attendancePartitionService.archiveExpiredPartitions());
+    }
+}
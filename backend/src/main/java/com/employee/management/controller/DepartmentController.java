@@ -3,12 +3,15 @@ package com.employee.management.controller;
 import com.employee.management.dto.request.DepartmentRequestDTO;
 import com.employee.management.dto.response.DepartmentResponseDTO;
 import com.employee.management.service.DepartmentService;
+import com.employee.management.util.ETags;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -28,25 +31,31 @@ public class DepartmentController {
 
         log.info("REST request to create department: {}", requestDTO.getName());
         DepartmentResponseDTO response = departmentService.createDepartment(requestDTO);
-        return new ResponseEntity<>(response, HttpStatus.CREATED);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(ETags.of(response))
+                .body(response);
     }
 
     // UPDATE - PUT /api/departments/{id}
     @PutMapping("/{id}")
     public ResponseEntity<DepartmentResponseDTO> updateDepartment(
             @PathVariable Long id,
-            @Valid @RequestBody DepartmentRequestDTO requestDTO) {
+            @Valid @RequestBody DepartmentRequestDTO requestDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
         log.info("REST request to update department with ID: {}", id);
-        DepartmentResponseDTO response = departmentService.updateDepartment(id, requestDTO);
-        return ResponseEntity.ok(response);
+        DepartmentResponseDTO response = departmentService.updateDepartment(id, requestDTO, ETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(response)).body(response);
     }
 
     // DELETE - DELETE /api/departments/{id}
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteDepartment(@PathVariable Long id) {
+    public ResponseEntity<Void> deleteDepartment(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
         log.info("REST request to delete department with ID: {}", id);
-        departmentService.deleteDepartment(id);
+        departmentService.deleteDepartment(id, ETags.expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
@@ -55,15 +64,22 @@ public class DepartmentController {
     public ResponseEntity<DepartmentResponseDTO> getDepartmentById(@PathVariable Long id) {
         log.info("REST request to get department with ID: {}", id);
         DepartmentResponseDTO response = departmentService.getDepartmentById(id);
-        return ResponseEntity.ok(response);
+        // ETag only: employeeCount changes without touching this row's updatedAt
+        return ResponseEntity.ok().eTag(ETags.of(response)).body(response);
     }
 
     // GET ALL - GET /api/departments
     @GetMapping
-    public ResponseEntity<List<DepartmentResponseDTO>> getAllDepartments() {
+    public ResponseEntity<List<DepartmentResponseDTO>> getAllDepartments(WebRequest request) {
+        // Answer 304 from the fingerprint alone, before the list is queried
+        String eTag = ETags.of(departmentService.getDepartmentsFingerprint());
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
         log.info("REST request to get all departments");
         List<DepartmentResponseDTO> response = departmentService.getAllDepartments();
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(eTag).body(response);
     }
 
     // GET BY NAME - GET /api/departments/name/{name}
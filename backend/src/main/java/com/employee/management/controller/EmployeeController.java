@@ -1,21 +1,50 @@
 package com.employee.management.controller;
 
+import com.employee.management.dto.request.EmployeeBatchGetRequestDTO;
+import com.employee.management.dto.request.EmployeeBulkDepartmentRequestDTO;
+import com.employee.management.dto.request.EmployeeBulkStatusRequestDTO;
+import com.employee.management.dto.request.EmployeeFieldSelection;
 import com.employee.management.dto.request.EmployeeRequestDTO;
+import com.employee.management.dto.response.BulkImportResponseDTO;
+import com.employee.management.dto.response.BulkUpdateResponseDTO;
+import com.employee.management.dto.response.EmployeeBatchResponseDTO;
+import com.employee.management.dto.response.EmployeeFieldsDTO;
 import com.employee.management.dto.response.EmployeeResponseDTO;
+import com.employee.management.dto.response.EmployeeScrollResponseDTO;
+import com.employee.management.dto.response.EmployeeSuggestionDTO;
 import com.employee.management.entity.enums.EmployeeStatus;
+import com.employee.management.service.EmployeeExportService;
+import com.employee.management.service.EmployeeImportService;
 import com.employee.management.service.EmployeeService;
+import com.employee.management.service.EmployeeTypeaheadService;
+import com.employee.management.util.ETags;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.JsonNode;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/employees")
@@ -24,7 +53,18 @@ import java.util.List;
 @CrossOrigin(origins = "http://localhost:3000")
 public class EmployeeController {
 
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    private static final List<MediaType> EXPORT_TYPES = List.of(MediaType.APPLICATION_NDJSON, TEXT_CSV);
+    static final String HAS_NEXT_HEADER = "X-Has-Next";
+
     private final EmployeeService employeeService;
+    private final EmployeeExportService employeeExportService;
+    private final EmployeeImportService employeeImportService;
+    private final EmployeeTypeaheadService employeeTypeaheadService;
+
+    // Streaming a large roster can outlive the global async timeout, which every other async request keeps
+    @Value("${employee.export.timeout:10m}")
+    private Duration exportTimeout;
 
     // CREATE
     @PostMapping
@@ -34,6 +74,26 @@ public class EmployeeController {
         log.info("REST request to create employee: {} {}",
                 requestDTO.getFirstName(), requestDTO.getLastName());
         EmployeeResponseDTO response = employeeService.createEmployee(requestDTO);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(ETags.of(response))
+                .body(response);
+    }
+
+    // BULK CREATE - JSON array, validated as a whole and inserted in JDBC batches
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkImportResponseDTO> importEmployees(
+            @RequestBody List<EmployeeRequestDTO> requests) {
+
+        log.info("REST request to bulk create {} employees", requests.size());
+        BulkImportResponseDTO response = employeeImportService.importEmployees(requests);
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    // BULK CREATE - CSV with a header row naming EmployeeRequestDTO fields
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    public ResponseEntity<BulkImportResponseDTO> importEmployeesFromCsv(Reader csv) throws IOException {
+        log.info("REST request to bulk create employees from CSV");
+        BulkImportResponseDTO response = employeeImportService.importEmployeesFromCsv(csv);
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
@@ -41,44 +101,124 @@ public class EmployeeController {
     @PutMapping("/{id}")
     public ResponseEntity<EmployeeResponseDTO> updateEmployee(
             @PathVariable Long id,
-            @Valid @RequestBody EmployeeRequestDTO requestDTO) {
+            @Valid @RequestBody EmployeeRequestDTO requestDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
         log.info("REST request to update employee with ID: {}", id);
-        EmployeeResponseDTO response = employeeService.updateEmployee(id, requestDTO);
+        EmployeeResponseDTO response = employeeService.updateEmployee(id, requestDTO, ETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(response)).body(response);
+    }
+
+    // PATCH - JSON Merge Patch, writes only the supplied fields
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<EmployeeResponseDTO> patchEmployee(
+            @PathVariable Long id,
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+        log.info("REST request to patch employee with ID: {}", id);
+        EmployeeResponseDTO response = employeeService.patchEmployee(id, patch, ETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(response)).body(response);
+    }
+
+    // BULK STATUS - one UPDATE for every employee matching the filters
+    @PutMapping("/bulk/status")
+    public ResponseEntity<BulkUpdateResponseDTO> updateStatuses(
+            @Valid @RequestBody EmployeeBulkStatusRequestDTO requestDTO) {
+
+        log.info("REST request to bulk update employee status to {}", requestDTO.getStatus());
+        BulkUpdateResponseDTO response = employeeService.updateStatuses(requestDTO);
+        return ResponseEntity.ok(response);
+    }
+
+    // BULK DEPARTMENT - one UPDATE moving every employee matching the filters
+    @PutMapping("/bulk/department")
+    public ResponseEntity<BulkUpdateResponseDTO> reassignDepartment(
+            @Valid @RequestBody EmployeeBulkDepartmentRequestDTO requestDTO) {
+
+        log.info("REST request to bulk reassign employees to department ID: {}", requestDTO.getTargetDepartmentId());
+        BulkUpdateResponseDTO response = employeeService.reassignDepartment(requestDTO);
         return ResponseEntity.ok(response);
     }
 
     // DELETE (soft delete - changes status to TERMINATED)
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteEmployee(@PathVariable Long id) {
+    public ResponseEntity<Void> deleteEmployee(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
         log.info("REST request to delete employee with ID: {}", id);
-        employeeService.deleteEmployee(id);
+        employeeService.deleteEmployee(id, ETags.expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
-    // GET ONE
+    // GET ONE (?fields= and ?expand= select columns and joins, see EmployeeFieldSelection)
     @GetMapping("/{id}")
-    public ResponseEntity<EmployeeResponseDTO> getEmployeeById(@PathVariable Long id) {
+    public ResponseEntity<?> getEmployeeById(
+            @PathVariable Long id,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand) {
+
         log.info("REST request to get employee with ID: {}", id);
+        EmployeeFieldSelection selection = EmployeeFieldSelection.parse(fields, expand);
+        if (selection != null) {
+            // Read straight from the database, bypassing the cache; the tag also covers the selection
+            EmployeeFieldsDTO response = employeeService.getEmployeeFieldsById(id, selection);
+            return ResponseEntity.ok()
+                    .eTag(ETags.of(id, selection, response))
+                    .body(response.getFields());
+        }
         EmployeeResponseDTO response = employeeService.getEmployeeById(id);
-        return ResponseEntity.ok(response);
+        // Served from the employees cache; a matching If-None-Match is answered 304 without serializing.
+        // Last-Modified tracks the employee row only, the ETag also covers the embedded department/position names
+        return ResponseEntity.ok()
+                .eTag(ETags.of(response))
+                .lastModified(ETags.lastModified(response.getUpdatedAt()))
+                .body(response);
     }
 
     // GET ALL
     @GetMapping
-    public ResponseEntity<List<EmployeeResponseDTO>> getAllEmployees() {
+    public ResponseEntity<List<?>> getAllEmployees(
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand) {
+
         log.info("REST request to get all employees");
+        EmployeeFieldSelection selection = EmployeeFieldSelection.parse(fields, expand);
+        if (selection != null) {
+            return ResponseEntity.ok(employeeService.getEmployeeFields(selection, Map.of()));
+        }
         List<EmployeeResponseDTO> response = employeeService.getAllEmployees();
         return ResponseEntity.ok(response);
     }
 
+    // MULTI-GET - many employees by id in one request, e.g. ?ids=3,1,2
+    @GetMapping(params = "ids")
+    public ResponseEntity<EmployeeBatchResponseDTO> getEmployeesByIds(@RequestParam List<Long> ids) {
+        log.info("REST request to get {} employees by ID", ids.size());
+        EmployeeBatchResponseDTO response = employeeService.getEmployeesByIds(ids);
+        return ResponseEntity.ok(response);
+    }
+
+    // MULTI-GET for id lists too long for a query string
+    @PostMapping("/batch-get")
+    public ResponseEntity<EmployeeBatchResponseDTO> batchGetEmployees(
+            @Valid @RequestBody EmployeeBatchGetRequestDTO requestDTO) {
+
+        log.info("REST request to batch get {} employees", requestDTO.getIds().size());
+        EmployeeBatchResponseDTO response = employeeService.getEmployeesByIds(requestDTO.getIds());
+        return ResponseEntity.ok(response);
+    }
+
     // GET ALL WITH PAGINATION
     @GetMapping("/paginated")
-    public ResponseEntity<Page<EmployeeResponseDTO>> getAllEmployeesPaginated(
+    public ResponseEntity<Page<?>> getAllEmployeesPaginated(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "id") String sortBy,
-            @RequestParam(defaultValue = "ASC") String sortDir) {
+            @RequestParam(defaultValue = "ASC") String sortDir,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand) {
 
         log.info("REST request to get employees page: {}, size: {}", page, size);
 
@@ -87,48 +227,147 @@ public class EmployeeController {
                 : Sort.by(sortBy).descending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
+        EmployeeFieldSelection selection = EmployeeFieldSelection.parse(fields, expand);
+        if (selection != null) {
+            return ResponseEntity.ok(employeeService.getEmployeeFieldsPaginated(selection, pageable));
+        }
         Page<EmployeeResponseDTO> response = employeeService.getAllEmployeesPaginated(pageable);
 
         return ResponseEntity.ok(response);
     }
 
+    // GET ALL WITH CURSOR (keyset pagination, no total count)
+    @GetMapping("/scroll")
+    public ResponseEntity<EmployeeScrollResponseDTO> scrollEmployees(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "ASC") String sortDir) {
+
+        log.info("REST request to scroll employees after: {}, size: {}", after, size);
+        EmployeeScrollResponseDTO response = employeeService.scrollEmployees(after, size, sortBy, sortDir);
+        return ResponseEntity.ok(response);
+    }
+
+    // EXPORT - streamed row by row, never held in memory as a list (Accept: application/x-ndjson or text/csv)
+    @GetMapping(value = "/export", produces = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<StreamingResponseBody> exportEmployees(
+            @RequestHeader(value = HttpHeaders.ACCEPT, defaultValue = "application/x-ndjson") String accept,
+            HttpServletRequest request) {
+
+        extendAsyncTimeout(request, exportTimeout);
+        if (TEXT_CSV.equals(negotiateExportType(accept))) {
+            log.info("REST request to export employees as CSV");
+            StreamingResponseBody body = employeeExportService::exportEmployeesAsCsv;
+            return ResponseEntity.ok()
+                    .contentType(TEXT_CSV)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"employees.csv\"")
+                    .body(body);
+        }
+
+        log.info("REST request to export employees as NDJSON");
+        StreamingResponseBody body = employeeExportService::exportEmployeesAsNdjson;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     // GET BY DEPARTMENT
     @GetMapping("/department/{departmentId}")
-    public ResponseEntity<List<EmployeeResponseDTO>> getEmployeesByDepartment(
-            @PathVariable Long departmentId) {
+    public ResponseEntity<List<?>> getEmployeesByDepartment(
+            @PathVariable Long departmentId,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand) {
 
         log.info("REST request to get employees for department ID: {}", departmentId);
+        EmployeeFieldSelection selection = EmployeeFieldSelection.parse(fields, expand);
+        if (selection != null) {
+            return ResponseEntity.ok(employeeService.getEmployeeFields(selection, Map.of("department.id", departmentId)));
+        }
         List<EmployeeResponseDTO> response = employeeService.getEmployeesByDepartment(departmentId);
         return ResponseEntity.ok(response);
     }
 
     // GET BY POSITION
     @GetMapping("/position/{positionId}")
-    public ResponseEntity<List<EmployeeResponseDTO>> getEmployeesByPosition(
-            @PathVariable Long positionId) {
+    public ResponseEntity<List<?>> getEmployeesByPosition(
+            @PathVariable Long positionId,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand) {
 
         log.info("REST request to get employees for position ID: {}", positionId);
+        EmployeeFieldSelection selection = EmployeeFieldSelection.parse(fields, expand);
+        if (selection != null) {
+            return ResponseEntity.ok(employeeService.getEmployeeFields(selection, Map.of("position.id", positionId)));
+        }
         List<EmployeeResponseDTO> response = employeeService.getEmployeesByPosition(positionId);
         return ResponseEntity.ok(response);
     }
 
     // GET BY STATUS
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<EmployeeResponseDTO>> getEmployeesByStatus(
-            @PathVariable EmployeeStatus status) {
+    public ResponseEntity<List<?>> getEmployeesByStatus(
+            @PathVariable EmployeeStatus status,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand) {
 
         log.info("REST request to get employees with status: {}", status);
+        EmployeeFieldSelection selection = EmployeeFieldSelection.parse(fields, expand);
+        if (selection != null) {
+            return ResponseEntity.ok(employeeService.getEmployeeFields(selection, Map.of("status", status)));
+        }
         List<EmployeeResponseDTO> response = employeeService.getEmployeesByStatus(status);
         return ResponseEntity.ok(response);
     }
 
-    // SEARCH
+    // SEARCH - ranked, one page at a time; X-Has-Next tells whether another page of matches exists
     @GetMapping("/search")
     public ResponseEntity<List<EmployeeResponseDTO>> searchEmployees(
-            @RequestParam String keyword) {
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
 
         log.info("REST request to search employees with keyword: {}", keyword);
-        List<EmployeeResponseDTO> response = employeeService.searchEmployees(keyword);
+        Slice<EmployeeResponseDTO> response = employeeService.searchEmployees(keyword, PageRequest.of(page, size));
+        return ResponseEntity.ok()
+                .header(HAS_NEXT_HEADER, String.valueOf(response.hasNext()))
+                .body(response.getContent());
+    }
+
+    // AUTOCOMPLETE - served from the in-memory typeahead index
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<EmployeeSuggestionDTO>> autocompleteEmployees(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        log.debug("REST request to autocomplete employees with query: {}", q);
+        List<EmployeeSuggestionDTO> response = employeeTypeaheadService.suggest(q, limit);
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    // The adapter has applied the global default by now; the body's async processing starts with this instead
+    private static void extendAsyncTimeout(HttpServletRequest request, Duration timeout) {
+        AsyncWebRequest asyncWebRequest = WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest();
+        if (asyncWebRequest != null) {
+            asyncWebRequest.setTimeout(timeout.toMillis());
+        }
+    }
+
+    // Export format the client prefers: highest q-value first, then the order it listed them in; NDJSON for
+    // wildcards. The produces condition only routes here when at least one of the two is acceptable
+    private static MediaType negotiateExportType(String accept) {
+        List<MediaType> accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType type : accepted) {
+            if (type.getQualityValue() == 0) {
+                continue;
+            }
+            for (MediaType exportType : EXPORT_TYPES) {
+                if (type.includes(exportType)) {
+                    return exportType;
+                }
+            }
+        }
+        return MediaType.APPLICATION_NDJSON;
+    }
+}
@@ -0,0 +1,68 @@
+package com.employee.management.controller;
+
+import com.employee.management.dto.request.LeaveDecisionRequestDTO;
+import com.employee.management.dto.request.LeaveRequestDTO;
+import com.employee.management.dto.response.LeaveRequestResponseDTO;
+import com.employee.management.service.LeaveRequestService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/leave-requests")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "http://localhost:3000")
+public class LeaveRequestController {
+
+    private final LeaveRequestService leaveRequestService;
+
+    // SUBMIT - POST /api/leave-requests (409 when it overlaps a pending or approved leave)
+    @PostMapping
+    public ResponseEntity<LeaveRequestResponseDTO> submitLeaveRequest(
+            @Valid @RequestBody LeaveRequestDTO requestDTO) {
+
+        log.info("REST request to submit leave for employee ID: {}", requestDTO.getEmployeeId());
+        LeaveRequestResponseDTO response = leaveRequestService.submitLeaveRequest(requestDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    // GET ONE - GET /api/leave-requests/{id}
+    @GetMapping("/{id}")
+    public ResponseEntity<LeaveRequestResponseDTO> getLeaveRequestById(@PathVariable Long id) {
+        log.info("REST request to get leave request with ID: {}", id);
+        return ResponseEntity.ok(leaveRequestService.getLeaveRequestById(id));
+    }
+
+    // GET BY EMPLOYEE - GET /api/leave-requests/employee/{employeeId}
+    @GetMapping("/employee/{employeeId}")
+    public ResponseEntity<List<LeaveRequestResponseDTO>> getLeaveRequestsByEmployee(@PathVariable Long employeeId) {
+        log.info("REST request to get leave requests for employee ID: {}", employeeId);
+        return ResponseEntity.ok(leaveRequestService.getLeaveRequestsByEmployee(employeeId));
+    }
+
+    // APPROVE - POST /api/leave-requests/{id}/approve (409 when the department would be short-staffed)
+    @PostMapping("/{id}/approve")
+    public ResponseEntity<LeaveRequestResponseDTO> approveLeaveRequest(
+            @PathVariable Long id,
+            @Valid @RequestBody LeaveDecisionRequestDTO requestDTO) {
+
+        log.info("REST request to approve leave request with ID: {}", id);
+        return ResponseEntity.ok(leaveRequestService.approveLeaveRequest(id, requestDTO.getApproverId()));
+    }
+
+    // REJECT - POST /api/leave-requests/{id}/reject
+    @PostMapping("/{id}/reject")
+    public ResponseEntity<LeaveRequestResponseDTO> rejectLeaveRequest(
+            @PathVariable Long id,
+            @Valid @RequestBody LeaveDecisionRequestDTO requestDTO) {
+
+        log.info("REST request to reject leave request with ID: {}", id);
+        return ResponseEntity.ok(leaveRequestService.rejectLeaveRequest(id, requestDTO.getApproverId()));
+    }
+}
@@ -3,12 +3,15 @@ package com.employee.management.controller;
 import com.employee.management.dto.request.PositionRequestDTO;
 import com.employee.management.dto.response.PositionResponseDTO;
 import com.employee.management.service.PositionService;
+import com.employee.management.util.ETags;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -28,25 +31,31 @@ public class PositionController {
 
         log.info("REST request to create position: {}", requestDTO.getTitle());
         PositionResponseDTO response = positionService.createPosition(requestDTO);
-        return new ResponseEntity<>(response, HttpStatus.CREATED);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(ETags.of(response))
+                .body(response);
     }
 
     // UPDATE
     @PutMapping("/{id}")
     public ResponseEntity<PositionResponseDTO> updatePosition(
             @PathVariable Long id,
-            @Valid @RequestBody PositionRequestDTO requestDTO) {
+            @Valid @RequestBody PositionRequestDTO requestDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
         log.info("REST request to update position with ID: {}", id);
-        PositionResponseDTO response = positionService.updatePosition(id, requestDTO);
-        return ResponseEntity.ok(response);
+        PositionResponseDTO response = positionService.updatePosition(id, requestDTO, ETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(response)).body(response);
     }
 
     // DELETE
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deletePosition(@PathVariable Long id) {
+    public ResponseEntity<Void> deletePosition(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
         log.info("REST request to delete position with ID: {}", id);
-        positionService.deletePosition(id);
+        positionService.deletePosition(id, ETags.expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
@@ -55,15 +64,22 @@ public class PositionController {
     public ResponseEntity<PositionResponseDTO> getPositionById(@PathVariable Long id) {
         log.info("REST request to get position with ID: {}", id);
         PositionResponseDTO response = positionService.getPositionById(id);
-        return ResponseEntity.ok(response);
+        // ETag only: employeeCount changes without touching this row's updatedAt
+        return ResponseEntity.ok().eTag(ETags.of(response)).body(response);
     }
 
     // GET ALL
     @GetMapping
-    public ResponseEntity<List<PositionResponseDTO>> getAllPositions() {
+    public ResponseEntity<List<PositionResponseDTO>> getAllPositions(WebRequest request) {
+        // Answer 304 from the fingerprint alone, before the list is queried
+        String eTag = ETags.of(positionService.getPositionsFingerprint());
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
         log.info("REST request to get all positions");
         List<PositionResponseDTO> response = positionService.getAllPositions();
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(eTag).body(response);
     }
 
     // GET BY DEPARTMENT
@@ -0,0 +1,26 @@
+package com.employee.management.controller;
+
+import com.employee.management.dto.response.HeadcountResponseDTO;
+import com.employee.management.service.HeadcountService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/stats")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "http://localhost:3000")
+public class StatsController {
+
+    private final HeadcountService headcountService;
+
+    // HEADCOUNT - GET /api/stats/headcount, served from in-memory counters
+    @GetMapping("/headcount")
+    public ResponseEntity<HeadcountResponseDTO> getHeadcount() {
+        log.debug("REST request to get headcount");
+        HeadcountResponseDTO response = headcountService.getHeadcount();
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,20 @@
+package com.employee.management.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendancePunchBatchRequestDTO {
+
+    @NotEmpty(message = "At least one punch is required")
+    @Size(max = 5000, message = "At most 5000 punches can be sent per request")
+    private List<@Valid AttendancePunchRequestDTO> punches;
+}
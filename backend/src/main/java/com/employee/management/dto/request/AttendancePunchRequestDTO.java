@@ -0,0 +1,28 @@
+package com.employee.management.dto.request;
+
+import com.employee.management.entity.enums.PunchType;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendancePunchRequestDTO {
+
+    @NotNull(message = "Employee id is required")
+    private Long employeeId;
+
+    @NotNull(message = "Punch type is required")
+    private PunchType type;
+
+    @NotNull(message = "Punch time is required")
+    private LocalDateTime timestamp;
+
+    // Work day the punch belongs to; defaults to the day of timestamp (set it for shifts crossing midnight)
+    private LocalDate date;
+}
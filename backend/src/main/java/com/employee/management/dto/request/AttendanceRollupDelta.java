@@ -0,0 +1,19 @@
+package com.employee.management.dto.request;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Change to one rollup row: ownerId is the employee (monthly rollup) or department (daily rollup) and
+// period the first day of the month or the day
+public record AttendanceRollupDelta(Long ownerId, LocalDate period, BigDecimal totalHours, int daysPresent,
+                                    int lateArrivals) {
+
+    public AttendanceRollupDelta plus(AttendanceRollupDelta other) {
+        return new AttendanceRollupDelta(ownerId, period, totalHours.add(other.totalHours),
+                daysPresent + other.daysPresent, lateArrivals + other.lateArrivals);
+    }
+
+    public boolean isZero() {
+        return totalHours.signum() == 0 && daysPresent == 0 && lateArrivals == 0;
+    }
+}
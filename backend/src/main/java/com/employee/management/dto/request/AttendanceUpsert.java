@@ -0,0 +1,45 @@
+package com.employee.management.dto.request;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+// One attendance day to merge into the table: the earliest check-in and latest check-out seen so far
+public record AttendanceUpsert(Long employeeId, LocalDate date, LocalDateTime checkInTime, LocalDateTime checkOutTime) {
+
+    // attendance.hours_worked is NUMERIC(4, 2)
+    public static final BigDecimal MAX_HOURS = new BigDecimal("99.99");
+
+    private static final BigDecimal NANOS_PER_HOUR = BigDecimal.valueOf(3_600_000_000_000L);
+
+    // Null until both punches are in; the SQL upsert derives the same value from the merged times
+    public BigDecimal hoursWorked() {
+        if (checkInTime == null || checkOutTime == null || !checkOutTime.isAfter(checkInTime)) {
+            return null;
+        }
+        BigDecimal hours = BigDecimal.valueOf(Duration.between(checkInTime, checkOutTime).toNanos())
+                .divide(NANOS_PER_HOUR, 2, RoundingMode.HALF_UP);
+        return hours.min(MAX_HOURS);
+    }
+
+    public boolean lateAfter(LocalTime start) {
+        return checkInTime != null && checkInTime.toLocalTime().isAfter(start);
+    }
+
+    // This day merged with a newer punch row for the same employee and date
+    public AttendanceUpsert mergedWith(AttendanceUpsert next) {
+        return new AttendanceUpsert(employeeId, date, earliest(checkInTime, next.checkInTime),
+                latest(checkOutTime, next.checkOutTime));
+    }
+
+    private static LocalDateTime earliest(LocalDateTime a, LocalDateTime b) {
+        return a == null ? b : b == null || a.isBefore(b) ? a : b;
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        return a == null ? b : b == null || a.isAfter(b) ? a : b;
+    }
+}
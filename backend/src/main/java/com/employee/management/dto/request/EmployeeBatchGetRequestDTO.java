@@ -0,0 +1,19 @@
+package com.employee.management.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeBatchGetRequestDTO {
+
+    @NotEmpty(message = "At least one id is required")
+    @Size(max = 1000, message = "At most 1000 ids can be fetched per request")
+    private List<Long> ids;
+}
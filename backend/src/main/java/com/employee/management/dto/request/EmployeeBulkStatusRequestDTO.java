@@ -0,0 +1,25 @@
+package com.employee.management.dto.request;
+
+import com.employee.management.entity.enums.EmployeeStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeBulkStatusRequestDTO {
+
+    // Filters - combined with AND, at least one is required
+    private List<Long> ids;
+
+    private Long departmentId;
+
+    private EmployeeStatus currentStatus;
+
+    @NotNull(message = "Status is required")
+    private EmployeeStatus status;
+}
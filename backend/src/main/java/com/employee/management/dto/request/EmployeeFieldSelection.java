@@ -0,0 +1,129 @@
+package com.employee.management.dto.request;
+
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parsed ?fields= and ?expand= of the employee read endpoints. Every name is checked against a
+ * whitelist before it reaches the JPQL, and each field knows whether it needs a join.
+ */
+@Getter
+public class EmployeeFieldSelection {
+
+    public static final String EXPAND_DEPARTMENT = "department";
+    public static final String EXPAND_POSITION = "position";
+
+    // Response field -> JPQL path; departmentId and positionId read the foreign key columns without a join
+    private static final Map<String, String> FIELD_PATHS = new LinkedHashMap<>();
+
+    static {
+        FIELD_PATHS.put("id", "e.id");
+        FIELD_PATHS.put("firstName", "e.firstName");
+        FIELD_PATHS.put("lastName", "e.lastName");
+        FIELD_PATHS.put("email", "e.email");
+        FIELD_PATHS.put("phone", "e.phone");
+        FIELD_PATHS.put("dateOfBirth", "e.dateOfBirth");
+        FIELD_PATHS.put("hireDate", "e.hireDate");
+        FIELD_PATHS.put("salary", "e.salary");
+        FIELD_PATHS.put("address", "e.address");
+        FIELD_PATHS.put("status", "e.status");
+        FIELD_PATHS.put("departmentId", "e.department.id");
+        FIELD_PATHS.put("departmentName", "d.name");
+        FIELD_PATHS.put("positionId", "e.position.id");
+        FIELD_PATHS.put("positionTitle", "p.title");
+        FIELD_PATHS.put("createdAt", "e.createdAt");
+        FIELD_PATHS.put("updatedAt", "e.updatedAt");
+        FIELD_PATHS.put("version", "e.version");
+    }
+
+    // The flat response without the joined names, used when only ?expand= is given
+    private static final List<String> DEFAULT_FIELDS = FIELD_PATHS.keySet().stream()
+            .filter(field -> !field.equals("departmentName") && !field.equals("positionTitle"))
+            .toList();
+
+    private final List<String> fields;
+    private final boolean expandDepartment;
+    private final boolean expandPosition;
+
+    private EmployeeFieldSelection(List<String> fields, boolean expandDepartment, boolean expandPosition) {
+        this.fields = fields;
+        this.expandDepartment = expandDepartment;
+        this.expandPosition = expandPosition;
+    }
+
+    // null when neither parameter is present, meaning the full EmployeeResponseDTO
+    public static EmployeeFieldSelection parse(String fields, String expand) {
+        if (fields == null && expand == null) {
+            return null;
+        }
+
+        List<String> selected = fields != null ? split(fields) : DEFAULT_FIELDS;
+        for (String field : selected) {
+            if (!FIELD_PATHS.containsKey(field)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Unknown field '" + field + "', expected one of " + FIELD_PATHS.keySet());
+            }
+        }
+
+        List<String> expansions = expand != null ? split(expand) : List.of();
+        for (String expansion : expansions) {
+            if (!EXPAND_DEPARTMENT.equals(expansion) && !EXPAND_POSITION.equals(expansion)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Unknown expansion '" + expansion + "', expected department or position");
+            }
+        }
+        if (selected.isEmpty() && expansions.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Select at least one field");
+        }
+        return new EmployeeFieldSelection(selected,
+                expansions.contains(EXPAND_DEPARTMENT), expansions.contains(EXPAND_POSITION));
+    }
+
+    public static String pathOf(String field) {
+        return FIELD_PATHS.get(field);
+    }
+
+    // Joined names are left out: ordering by them would join for every page even when they are not selected
+    public static boolean isSortable(String field) {
+        String path = FIELD_PATHS.get(field);
+        return path != null && path.startsWith("e.");
+    }
+
+    public static void checkSortable(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!isSortable(order.getProperty())) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Cannot sort by '" + order.getProperty() + "'");
+            }
+        }
+    }
+
+    public boolean joinsDepartment() {
+        return expandDepartment || fields.contains("departmentName");
+    }
+
+    public boolean joinsPosition() {
+        return expandPosition || fields.contains("positionTitle");
+    }
+
+    private static List<String> split(String names) {
+        List<String> result = new ArrayList<>();
+        Arrays.stream(names.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .forEach(name -> {
+                    if (!result.contains(name)) {
+                        result.add(name);
+                    }
+                });
+        return result;
+    }
+}
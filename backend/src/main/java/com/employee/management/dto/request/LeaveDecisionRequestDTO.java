@@ -0,0 +1,16 @@
+package com.employee.management.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaveDecisionRequestDTO {
+
+    // Employee approving or rejecting the request; stored as approvedBy either way
+    @NotNull(message = "Approver id is required")
+    private Long approverId;
+}
@@ -0,0 +1,32 @@
+package com.employee.management.dto.request;
+
+import com.employee.management.entity.enums.LeaveType;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaveRequestDTO {
+
+    @NotNull(message = "Employee id is required")
+    private Long employeeId;
+
+    @NotNull(message = "Leave type is required")
+    private LeaveType leaveType;
+
+    @NotNull(message = "Start date is required")
+    private LocalDate startDate;
+
+    // Inclusive
+    @NotNull(message = "End date is required")
+    private LocalDate endDate;
+
+    @Size(max = 1000, message = "Reason must not exceed 1000 characters")
+    private String reason;
+}
@@ -0,0 +1,17 @@
+package com.employee.management.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceArchiveResponseDTO {
+
+    private String partition;
+    private long rows;
+    // gzip-compressed CSV with a header row, as written by COPY
+    private String file;
+    private long bytes;
+}
@@ -0,0 +1,20 @@
+package com.employee.management.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceDepartmentReportDTO {
+
+    private Long departmentId;
+    private String departmentName;
+    private BigDecimal totalHours;
+    // Employee-days with a check-in
+    private Long daysPresent;
+    private Long lateArrivals;
+}
@@ -0,0 +1,26 @@
+package com.employee.management.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceImportResponseDTO {
+
+    private long rowsRead;
+    private long accepted;
+    private long rejected;
+    // Days inserted or changed; replaying an import writes none
+    private long written;
+    // Range of the accepted rows, whose rollups were rebuilt; null when nothing was accepted
+    private LocalDate from;
+    private LocalDate to;
+    // Side file listing each rejected row with its line number and reason; null when there were none
+    private String rejectsFile;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+}
@@ -0,0 +1,17 @@
+package com.employee.management.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceIngestResponseDTO {
+
+    // Punches buffered by this request; they reach the attendance table on the next flush
+    private int accepted;
+
+    // Punches waiting to be flushed, including these
+    private int queueDepth;
+}
@@ -0,0 +1,24 @@
+package com.employee.management.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceMonthlyReportDTO {
+
+    private Long employeeId;
+    private String firstName;
+    private String lastName;
+    private Long departmentId;
+    // First day of the month
+    private LocalDate month;
+    private BigDecimal totalHours;
+    private Integer daysPresent;
+    private Integer lateArrivals;
+}
@@ -0,0 +1,20 @@
+package com.employee.management.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendancePartitionDTO {
+
+    private String name;
+    // Inclusive lower and exclusive upper bound on attendance.date
+    private LocalDate from;
+    private LocalDate to;
+    // Planner estimate (pg_class.reltuples), -1 before the partition is first analyzed
+    private long estimatedRows;
+}
@@ -0,0 +1,24 @@
+package com.employee.management.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceResponseDTO {
+
+    private Long id;
+    private Long employeeId;
+    private LocalDate date;
+    private LocalDateTime checkInTime;
+    private LocalDateTime checkOutTime;
+    private BigDecimal hoursWorked;
+    private LocalDateTime updatedAt;
+    private Long version;
+}
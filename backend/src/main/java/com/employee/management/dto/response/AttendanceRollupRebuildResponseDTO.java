@@ -0,0 +1,20 @@
+package com.employee.management.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceRollupRebuildResponseDTO {
+
+    // Requested range widened to whole months
+    private LocalDate from;
+    private LocalDate to;
+    private int monthlyRows;
+    private int departmentDailyRows;
+    private long elapsedMillis;
+}
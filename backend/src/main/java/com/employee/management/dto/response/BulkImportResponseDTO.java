@@ -0,0 +1,15 @@
+package com.employee.management.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResponseDTO {
+
+    private int created;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+}
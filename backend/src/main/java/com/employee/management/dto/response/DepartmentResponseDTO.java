@@ -17,4 +17,5 @@ public class DepartmentResponseDTO {
     private Integer employeeCount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.employee.management.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeBatchResponseDTO {
+
+    // In request order, each id once
+    private List<EmployeeResponseDTO> employees;
+
+    // Requested ids with no matching employee
+    private List<Long> missing;
+}
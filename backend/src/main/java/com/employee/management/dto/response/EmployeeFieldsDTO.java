@@ -0,0 +1,17 @@
+package com.employee.management.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+// One row of a ?fields= / ?expand= read; the version is read with it for the ETag whether or not it was selected
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeFieldsDTO {
+
+    private Map<String, Object> fields;
+    private Long version;
+}
@@ -0,0 +1,17 @@
+package com.employee.management.dto.response;
+
+import com.employee.management.entity.enums.EmployeeStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeePlacementDTO {
+
+    private Long id;
+    private Long departmentId;
+    private Long positionId;
+    private EmployeeStatus status;
+}
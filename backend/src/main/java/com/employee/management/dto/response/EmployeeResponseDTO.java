@@ -35,4 +35,5 @@ public class EmployeeResponseDTO {
 
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.employee.management.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeScrollResponseDTO {
+
+    private List<EmployeeResponseDTO> content;
+    private int size;
+    private boolean hasNext;
+
+    // Opaque cursor to pass as 'after' for the next window, null on the last one
+    private String nextCursor;
+}
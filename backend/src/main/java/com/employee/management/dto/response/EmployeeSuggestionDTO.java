@@ -0,0 +1,16 @@
+package com.employee.management.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeSuggestionDTO {
+
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private String email;
+}
@@ -0,0 +1,24 @@
+package com.employee.management.dto.response;
+
+import com.employee.management.entity.enums.EmployeeStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HeadcountResponseDTO {
+
+    // Employees not TERMINATED
+    private long total;
+
+    // Every status, TERMINATED included
+    private Map<EmployeeStatus, Long> byStatus;
+
+    // Keyed by department / position id, TERMINATED employees excluded
+    private Map<Long, Long> byDepartment;
+    private Map<Long, Long> byPosition;
+}
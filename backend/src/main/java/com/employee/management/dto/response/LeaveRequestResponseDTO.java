@@ -0,0 +1,29 @@
+package com.employee.management.dto.response;
+
+import com.employee.management.entity.enums.LeaveStatus;
+import com.employee.management.entity.enums.LeaveType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaveRequestResponseDTO {
+
+    private Long id;
+    private Long employeeId;
+    private LeaveType leaveType;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String reason;
+    private LeaveStatus status;
+    private Long approvedById;
+    private LocalDateTime approvedAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long version;
+}
@@ -0,0 +1,32 @@
+package com.employee.management.dto.response;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Row count plus the latest updated_at across the tables a listing is built from
+@Data
+@NoArgsConstructor
+public class ListFingerprintDTO {
+
+    private long count;
+    private LocalDateTime lastModified;
+
+    public ListFingerprintDTO(Long count, LocalDateTime updatedAt, LocalDateTime dependentsUpdatedAt) {
+        this.count = count;
+        this.lastModified = latest(updatedAt, dependentsUpdatedAt);
+    }
+
+    public ListFingerprintDTO(Long count, LocalDateTime updatedAt, LocalDateTime firstDependentsUpdatedAt,
+                              LocalDateTime secondDependentsUpdatedAt) {
+        this(count, updatedAt, latest(firstDependentsUpdatedAt, secondDependentsUpdatedAt));
+    }
+
+    private static LocalDateTime latest(LocalDateTime first, LocalDateTime second) {
+        if (first == null) {
+            return second;
+        }
+        return second == null || first.isAfter(second) ? first : second;
+    }
+}
@@ -19,4 +19,5 @@ public class PositionResponseDTO {
     private Integer employeeCount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 }
\ No newline at end of file
@@ -16,8 +16,10 @@ import java.time.LocalDateTime;
 @EqualsAndHashCode(callSuper = true)
 public class Attendance extends BaseEntity {
 
+    // On PostgreSQL the foreign key is declared by AttendancePartitionServiceImpl along with the partitioning;
+    // Hibernate's schema update cannot see constraints of a partitioned table and would re-add it on every start
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "employee_id", nullable = false)
+    @JoinColumn(name = "employee_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Employee employee;
 
     @Column(nullable = false)
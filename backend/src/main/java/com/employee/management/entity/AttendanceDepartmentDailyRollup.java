@@ -0,0 +1,36 @@
+package com.employee.management.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Attendance totals of one department on one day, maintained alongside attendance writes
+@Entity
+@Table(name = "attendance_department_daily_rollups",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"department_id", "date"}),
+        indexes = @Index(name = "idx_attendance_department_daily_rollups_date", columnList = "date"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class AttendanceDepartmentDailyRollup extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "department_id", nullable = false)
+    private Department department;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(name = "total_hours", nullable = false, precision = 12, scale = 2)
+    private BigDecimal totalHours;
+
+    // Employee-days with a check-in
+    @Column(name = "days_present", nullable = false)
+    private Integer daysPresent;
+
+    @Column(name = "late_arrivals", nullable = false)
+    private Integer lateArrivals;
+}
@@ -0,0 +1,36 @@
+package com.employee.management.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Attendance totals of one employee in one month, maintained alongside attendance writes
+@Entity
+@Table(name = "attendance_monthly_rollups",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"employee_id", "month"}),
+        indexes = @Index(name = "idx_attendance_monthly_rollups_month", columnList = "month"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class AttendanceMonthlyRollup extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "employee_id", nullable = false)
+    private Employee employee;
+
+    // First day of the month
+    @Column(nullable = false)
+    private LocalDate month;
+
+    @Column(name = "total_hours", nullable = false, precision = 10, scale = 2)
+    private BigDecimal totalHours;
+
+    @Column(name = "days_present", nullable = false)
+    private Integer daysPresent;
+
+    @Column(name = "late_arrivals", nullable = false)
+    private Integer lateArrivals;
+}
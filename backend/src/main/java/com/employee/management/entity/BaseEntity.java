@@ -12,8 +12,9 @@ import java.time.LocalDateTime;
 @MappedSuperclass
 public abstract class BaseEntity {
 
+    // Pooled <table>_seq sequences; unlike IDENTITY this lets Hibernate batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
     @CreationTimestamp
@@ -23,4 +24,8 @@ public abstract class BaseEntity {
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    // Optimistic lock: updates are guarded by "WHERE version = ?" and exposed as the ETag
+    @Version
+    private Long version;
 }
\ No newline at end of file
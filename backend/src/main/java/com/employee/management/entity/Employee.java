@@ -3,6 +3,7 @@ package com.employee.management.entity;
 import com.employee.management.entity.enums.EmployeeStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -10,7 +11,17 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "employees")
+@Table(name = "employees", indexes = {
+        @Index(name = "idx_employees_first_name_id", columnList = "first_name, id"),
+        @Index(name = "idx_employees_last_name_id", columnList = "last_name, id"),
+        @Index(name = "idx_employees_hire_date_id", columnList = "hire_date, id"),
+        @Index(name = "idx_employees_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_employees_department_id", columnList = "department_id"),
+        @Index(name = "idx_employees_position_id", columnList = "position_id"),
+        @Index(name = "idx_employees_updated_at", columnList = "updated_at")
+})
+// UPDATE lists only the columns that changed, so partial edits stay narrow
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
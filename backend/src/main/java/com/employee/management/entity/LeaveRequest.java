@@ -9,7 +9,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "leave_requests")
+@Table(name = "leave_requests",
+        indexes = @Index(name = "idx_leave_requests_employee_id_start_date", columnList = "employee_id, start_date"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
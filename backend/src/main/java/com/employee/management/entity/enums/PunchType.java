@@ -0,0 +1,6 @@
+package com.employee.management.entity.enums;
+
+public enum PunchType {
+    CHECK_IN,
+    CHECK_OUT
+}
@@ -0,0 +1,15 @@
+package com.employee.management.event;
+
+import com.employee.management.dto.response.EmployeeResponseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// Published once per bulk update so listeners can apply the whole batch in one pass after commit
+@Getter
+@AllArgsConstructor
+public class EmployeeBatchChangedEvent {
+
+    private final List<EmployeeResponseDTO> employees;
+}
@@ -0,0 +1,13 @@
+package com.employee.management.event;
+
+import com.employee.management.dto.response.EmployeeResponseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Published by EmployeeServiceImpl on create/update/delete; listeners react after commit
+@Getter
+@AllArgsConstructor
+public class EmployeeChangedEvent {
+
+    private final EmployeeResponseDTO employee;
+}
@@ -0,0 +1,13 @@
+package com.employee.management.event;
+
+import com.employee.management.dto.response.LeaveRequestResponseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Published by LeaveRequestServiceImpl on submit/approve/reject; listeners react after commit
+@Getter
+@AllArgsConstructor
+public class LeaveRequestChangedEvent {
+
+    private final LeaveRequestResponseDTO leaveRequest;
+}
@@ -0,0 +1,11 @@
+package com.employee.management.exception;
+
+import java.sql.SQLTransientConnectionException;
+
+// No database connection permit freed up within max-wait; surfaces as 503 so the client retries shortly
+public class AdmissionRejectedException extends SQLTransientConnectionException {
+
+    public AdmissionRejectedException(String message) {
+        super(message);
+    }
+}
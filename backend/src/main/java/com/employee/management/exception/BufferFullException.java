@@ -0,0 +1,9 @@
+package com.employee.management.exception;
+
+// A write-behind buffer has no room for the submitted items; the client should retry shortly
+public class BufferFullException extends RuntimeException {
+
+    public BufferFullException(String message) {
+        super(message);
+    }
+}
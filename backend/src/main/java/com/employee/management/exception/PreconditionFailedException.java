@@ -0,0 +1,17 @@
+package com.employee.management.exception;
+
+// An If-Match precondition did not hold: the resource changed since the client read it
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+
+    // expectedVersion null means the request carried no If-Match, so there is nothing to check
+    public static void checkVersion(String resource, Long id, Long expectedVersion, Long currentVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            throw new PreconditionFailedException(resource + " with ID " + id + " is at version " + currentVersion +
+                    ", not the expected version " + expectedVersion);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.employee.management.repository;
+
+import com.employee.management.dto.response.AttendanceDepartmentReportDTO;
+import com.employee.management.entity.AttendanceDepartmentDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface AttendanceDepartmentDailyRollupRepository extends JpaRepository<AttendanceDepartmentDailyRollup, Long> {
+
+    // Sums at most departments x days rollup rows, whatever the attendance volume
+    @Query("SELECT new com.employee.management.dto.response.AttendanceDepartmentReportDTO(" +
+            "d.id, d.name, SUM(r.totalHours), SUM(r.daysPresent), SUM(r.lateArrivals)) " +
+            "FROM AttendanceDepartmentDailyRollup r JOIN r.department d " +
+            "WHERE r.date BETWEEN :from AND :to GROUP BY d.id, d.name ORDER BY d.name")
+    List<AttendanceDepartmentReportDTO> findReport(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
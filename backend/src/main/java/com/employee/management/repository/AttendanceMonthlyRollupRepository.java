@@ -0,0 +1,29 @@
+package com.employee.management.repository;
+
+import com.employee.management.dto.response.AttendanceMonthlyReportDTO;
+import com.employee.management.entity.AttendanceMonthlyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface AttendanceMonthlyRollupRepository extends JpaRepository<AttendanceMonthlyRollup, Long> {
+
+    // One row per employee with attendance that month; keep in sync with AttendanceMonthlyReportDTO's field order
+    String REPORT_SELECT = "SELECT new com.employee.management.dto.response.AttendanceMonthlyReportDTO(" +
+            "e.id, e.firstName, e.lastName, e.department.id, r.month, r.totalHours, r.daysPresent, r.lateArrivals) " +
+            "FROM AttendanceMonthlyRollup r JOIN r.employee e WHERE r.month = :month ";
+
+    String REPORT_ORDER = "ORDER BY e.lastName, e.firstName, e.id";
+
+    @Query(REPORT_SELECT + REPORT_ORDER)
+    List<AttendanceMonthlyReportDTO> findReport(@Param("month") LocalDate month);
+
+    @Query(REPORT_SELECT + "AND e.department.id = :departmentId " + REPORT_ORDER)
+    List<AttendanceMonthlyReportDTO> findReportByDepartment(@Param("month") LocalDate month,
+                                                            @Param("departmentId") Long departmentId);
+}
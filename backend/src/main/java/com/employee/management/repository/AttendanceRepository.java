@@ -0,0 +1,25 @@
+package com.employee.management.repository;
+
+import com.employee.management.dto.response.AttendanceResponseDTO;
+import com.employee.management.entity.Attendance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface AttendanceRepository extends JpaRepository<Attendance, Long>, AttendanceRepositoryCustom {
+
+    // Keep in sync with AttendanceResponseDTO's field order
+    String RESPONSE_SELECT = "SELECT new com.employee.management.dto.response.AttendanceResponseDTO(" +
+            "a.id, a.employee.id, a.date, a.checkInTime, a.checkOutTime, a.hoursWorked, a.updatedAt, a.version) " +
+            "FROM Attendance a ";
+
+    // Served by the (employee_id, date) unique index
+    @Query(RESPONSE_SELECT + "WHERE a.employee.id = :employeeId AND a.date BETWEEN :from AND :to ORDER BY a.date")
+    List<AttendanceResponseDTO> findResponsesByEmployee(@Param("employeeId") Long employeeId,
+                                                        @Param("from") LocalDate from, @Param("to") LocalDate to);
+}
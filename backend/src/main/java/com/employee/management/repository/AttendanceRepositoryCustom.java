@@ -0,0 +1,35 @@
+package com.employee.management.repository;
+
+import com.employee.management.dto.request.AttendanceRollupDelta;
+import com.employee.management.dto.request.AttendanceUpsert;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface AttendanceRepositoryCustom {
+
+    // One JDBC batch of upserts keyed on (employee_id, date). Check-in keeps the earliest time, check-out
+    // the latest, and hours_worked follows both, so replaying rows already applied changes nothing.
+    // rows must hold each (employeeId, date) at most once
+    void upsert(List<AttendanceUpsert> rows);
+
+    // Upserts the rows of a staging table (employee_id, date, check_in_time, check_out_time) with the same
+    // merge rules in one set-based statement; several rows for one day are folded together first.
+    // PostgreSQL only. Returns the days inserted or changed
+    int mergeStaged(String stagingTable);
+
+    // Stored days of these employees in [from, to], locked until the transaction ends
+    List<AttendanceUpsert> findDaysForUpdate(Collection<Long> employeeIds, LocalDate from, LocalDate to);
+
+    // Adds each delta to its attendance_monthly_rollups row (ownerId = employee), creating missing rows
+    void addToMonthlyRollups(Collection<AttendanceRollupDelta> deltas);
+
+    // Adds each delta to its attendance_department_daily_rollups row (ownerId = department)
+    void addToDepartmentDailyRollups(Collection<AttendanceRollupDelta> deltas);
+
+    // Recomputes both rollups for [from, to] from the attendance rows; from and to must span whole months.
+    // Returns the monthly and daily rollup rows written
+    int[] rebuildRollups(LocalDate from, LocalDate to, LocalTime lateAfter);
+}
@@ -0,0 +1,212 @@
+package com.employee.management.repository;
+
+import com.employee.management.dto.request.AttendanceRollupDelta;
+import com.employee.management.dto.request.AttendanceUpsert;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+public class AttendanceRepositoryCustomImpl implements AttendanceRepositoryCustom {
+
+    private static final String COLUMNS =
+            "(id, employee_id, date, check_in_time, check_out_time, hours_worked, created_at, updated_at, version) ";
+
+    // Plain INSERT ... VALUES so reWriteBatchedInserts can fold a batch into multi-row statements
+    private static final String POSTGRESQL_UPSERT = "INSERT INTO attendance AS a " + COLUMNS +
+            "VALUES (nextval('attendance_seq'), ?, ?, ?, ?, ?, LOCALTIMESTAMP, LOCALTIMESTAMP, 0) " +
+            "ON CONFLICT (employee_id, date) DO UPDATE SET " + merge("EXCLUDED") + "WHERE " + changed("EXCLUDED");
+
+    // Other databases (H2 in tests): SQL:2003 MERGE, same semantics without ON CONFLICT's race-free insert
+    private static final String STANDARD_UPSERT = "MERGE INTO attendance a USING (VALUES (CAST(? AS BIGINT), " +
+            "CAST(? AS DATE), CAST(? AS TIMESTAMP), CAST(? AS TIMESTAMP), CAST(? AS NUMERIC(4, 2)))) " +
+            "AS v (employee_id, work_date, check_in_time, check_out_time, hours_worked) " +
+            "ON a.employee_id = v.employee_id AND a.date = v.work_date " +
+            "WHEN MATCHED AND " + changed("v") + " THEN UPDATE SET " + merge("v") +
+            "WHEN NOT MATCHED THEN INSERT " + COLUMNS +
+            "VALUES (NEXT VALUE FOR attendance_seq, v.employee_id, v.work_date, v.check_in_time, v.check_out_time, " +
+            "v.hours_worked, LOCALTIMESTAMP, LOCALTIMESTAMP, 0)";
+
+    private static final String MONTHLY_ROLLUPS = "attendance_monthly_rollups";
+    private static final String DEPARTMENT_DAILY_ROLLUPS = "attendance_department_daily_rollups";
+
+    // Per-row late flag for the rollup rebuild; the threshold is the one bound parameter
+    private static final String SUMS = "SUM(COALESCE(a.hours_worked, 0)), COUNT(a.check_in_time), " +
+            "SUM(CASE WHEN CAST(a.check_in_time AS TIME) > ? THEN 1 ELSE 0 END)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgresql;
+
+    public AttendanceRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void upsert(List<AttendanceUpsert> rows) {
+        jdbcTemplate.batchUpdate(isPostgresql() ? POSTGRESQL_UPSERT : STANDARD_UPSERT, rows, rows.size(),
+                (statement, row) -> {
+                    statement.setLong(1, row.employeeId());
+                    statement.setDate(2, Date.valueOf(row.date()));
+                    statement.setTimestamp(3, timestamp(row.checkInTime()));
+                    statement.setTimestamp(4, timestamp(row.checkOutTime()));
+                    statement.setObject(5, row.hoursWorked(), Types.NUMERIC);
+                });
+    }
+
+    @Override
+    public int mergeStaged(String stagingTable) {
+        return jdbcTemplate.update("INSERT INTO attendance AS a " + COLUMNS +
+                "SELECT nextval('attendance_seq'), s.employee_id, s.date, s.check_in_time, s.check_out_time, " +
+                hours("s.check_in_time", "s.check_out_time") + ", LOCALTIMESTAMP, LOCALTIMESTAMP, 0 " +
+                "FROM (SELECT employee_id, date, MIN(check_in_time) AS check_in_time, " +
+                "MAX(check_out_time) AS check_out_time FROM " + stagingTable + " GROUP BY employee_id, date " +
+                // Key order walks the unique index sequentially instead of probing it at random
+                "ORDER BY employee_id, date) s " +
+                "ON CONFLICT (employee_id, date) DO UPDATE SET " + merge("EXCLUDED") + "WHERE " + changed("EXCLUDED"));
+    }
+
+    @Override
+    public List<AttendanceUpsert> findDaysForUpdate(Collection<Long> employeeIds, LocalDate from, LocalDate to) {
+        if (employeeIds.isEmpty()) {
+            return List.of();
+        }
+        String ids = String.join(", ", Collections.nCopies(employeeIds.size(), "?"));
+        List<Object> args = new ArrayList<>(employeeIds);
+        args.add(Date.valueOf(from));
+        args.add(Date.valueOf(to));
+        return jdbcTemplate.query("SELECT employee_id, date, check_in_time, check_out_time FROM attendance " +
+                        "WHERE employee_id IN (" + ids + ") AND date BETWEEN ? AND ? FOR UPDATE",
+                (rs, rowNum) -> new AttendanceUpsert(rs.getLong(1), rs.getObject(2, LocalDate.class),
+                        rs.getObject(3, LocalDateTime.class), rs.getObject(4, LocalDateTime.class)),
+                args.toArray());
+    }
+
+    @Override
+    public void addToMonthlyRollups(Collection<AttendanceRollupDelta> deltas) {
+        addToRollups(MONTHLY_ROLLUPS, "employee_id", "month", deltas);
+    }
+
+    @Override
+    public void addToDepartmentDailyRollups(Collection<AttendanceRollupDelta> deltas) {
+        addToRollups(DEPARTMENT_DAILY_ROLLUPS, "department_id", "date", deltas);
+    }
+
+    @Override
+    public int[] rebuildRollups(LocalDate from, LocalDate to, LocalTime lateAfter) {
+        Time late = Time.valueOf(lateAfter);
+        jdbcTemplate.update("DELETE FROM " + MONTHLY_ROLLUPS + " WHERE month BETWEEN ? AND ?",
+                Date.valueOf(from), Date.valueOf(to));
+        jdbcTemplate.update("DELETE FROM " + DEPARTMENT_DAILY_ROLLUPS + " WHERE date BETWEEN ? AND ?",
+                Date.valueOf(from), Date.valueOf(to));
+
+        // One grouped INSERT ... SELECT per month keeps the SQL free of dialect-specific date truncation
+        int monthly = 0;
+        for (LocalDate month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            monthly += jdbcTemplate.update("INSERT INTO " + MONTHLY_ROLLUPS + " " + rollupColumns("employee_id", "month") +
+                            "SELECT " + nextId(MONTHLY_ROLLUPS) + ", a.employee_id, CAST(? AS DATE), " + SUMS + ", " +
+                            "LOCALTIMESTAMP, LOCALTIMESTAMP, 0 FROM attendance a " +
+                            "WHERE a.date >= ? AND a.date < ? GROUP BY a.employee_id",
+                    Date.valueOf(month), late, Date.valueOf(month), Date.valueOf(month.plusMonths(1)));
+        }
+        // Days are attributed to the employee's current department
+        int daily = jdbcTemplate.update("INSERT INTO " + DEPARTMENT_DAILY_ROLLUPS + " " +
+                        rollupColumns("department_id", "date") +
+                        "SELECT " + nextId(DEPARTMENT_DAILY_ROLLUPS) + ", e.department_id, a.date, " + SUMS + ", " +
+                        "LOCALTIMESTAMP, LOCALTIMESTAMP, 0 FROM attendance a JOIN employees e ON e.id = a.employee_id " +
+                        "WHERE e.department_id IS NOT NULL AND a.date BETWEEN ? AND ? GROUP BY e.department_id, a.date",
+                late, Date.valueOf(from), Date.valueOf(to));
+        return new int[]{monthly, daily};
+    }
+
+    private void addToRollups(String table, String ownerColumn, String periodColumn,
+                              Collection<AttendanceRollupDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        String add = "total_hours = r.total_hours + %1$s.total_hours, days_present = r.days_present + %1$s.days_present, " +
+                "late_arrivals = r.late_arrivals + %1$s.late_arrivals, updated_at = LOCALTIMESTAMP, version = r.version + 1";
+        String sql;
+        if (isPostgresql()) {
+            sql = "INSERT INTO " + table + " AS r " + rollupColumns(ownerColumn, periodColumn) +
+                    "VALUES (" + nextId(table) + ", ?, ?, ?, ?, ?, LOCALTIMESTAMP, LOCALTIMESTAMP, 0) " +
+                    "ON CONFLICT (" + ownerColumn + ", " + periodColumn + ") DO UPDATE SET " + add.formatted("EXCLUDED");
+        } else {
+            sql = "MERGE INTO " + table + " r USING (VALUES (CAST(? AS BIGINT), CAST(? AS DATE), " +
+                    "CAST(? AS NUMERIC(12, 2)), CAST(? AS INTEGER), CAST(? AS INTEGER))) " +
+                    "AS v (owner_id, period, total_hours, days_present, late_arrivals) " +
+                    "ON r." + ownerColumn + " = v.owner_id AND r." + periodColumn + " = v.period " +
+                    "WHEN MATCHED THEN UPDATE SET " + add.formatted("v") + " " +
+                    "WHEN NOT MATCHED THEN INSERT " + rollupColumns(ownerColumn, periodColumn) +
+                    "VALUES (" + nextId(table) + ", v.owner_id, v.period, v.total_hours, v.days_present, " +
+                    "v.late_arrivals, LOCALTIMESTAMP, LOCALTIMESTAMP, 0)";
+        }
+        jdbcTemplate.batchUpdate(sql, deltas, deltas.size(), (statement, delta) -> {
+            statement.setLong(1, delta.ownerId());
+            statement.setDate(2, Date.valueOf(delta.period()));
+            statement.setBigDecimal(3, delta.totalHours());
+            statement.setInt(4, delta.daysPresent());
+            statement.setInt(5, delta.lateArrivals());
+        });
+    }
+
+    private static String rollupColumns(String ownerColumn, String periodColumn) {
+        return "(id, " + ownerColumn + ", " + periodColumn + ", total_hours, days_present, late_arrivals, " +
+                "created_at, updated_at, version) ";
+    }
+
+    private String nextId(String table) {
+        return isPostgresql() ? "nextval('" + table + "_seq')" : "NEXT VALUE FOR " + table + "_seq";
+    }
+
+    private boolean isPostgresql() {
+        if (postgresql == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+            postgresql = "PostgreSQL".equals(product);
+        }
+        return postgresql;
+    }
+
+    private static Timestamp timestamp(LocalDateTime value) {
+        return value != null ? Timestamp.valueOf(value) : null;
+    }
+
+    // Earliest check-in and latest check-out of the stored row (a) and the incoming one; COALESCE because
+    // LEAST/GREATEST only skip NULLs on PostgreSQL
+    private static String mergedIn(String incoming) {
+        return "LEAST(COALESCE(a.check_in_time, " + incoming + ".check_in_time), COALESCE(" + incoming +
+                ".check_in_time, a.check_in_time))";
+    }
+
+    private static String mergedOut(String incoming) {
+        return "GREATEST(COALESCE(a.check_out_time, " + incoming + ".check_out_time), COALESCE(" + incoming +
+                ".check_out_time, a.check_out_time))";
+    }
+
+    private static String merge(String incoming) {
+        String in = mergedIn(incoming);
+        String out = mergedOut(incoming);
+        return "check_in_time = " + in + ", check_out_time = " + out + ", hours_worked = " + hours(in, out) +
+                ", updated_at = LOCALTIMESTAMP, version = a.version + 1 ";
+    }
+
+    private static String hours(String in, String out) {
+        return "CASE WHEN " + out + " > " + in + " THEN LEAST(ROUND(CAST(EXTRACT(EPOCH FROM (" + out +
+                " - " + in + ")) AS NUMERIC) / 3600, 2), " + AttendanceUpsert.MAX_HOURS + ") END";
+    }
+
+    // Only rows whose times actually move are written, so a replayed punch costs no version bump
+    private static String changed(String incoming) {
+        return "(a.check_in_time IS DISTINCT FROM " + mergedIn(incoming) +
+                " OR a.check_out_time IS DISTINCT FROM " + mergedOut(incoming) + ")";
+    }
+}
@@ -1,16 +1,47 @@
 package com.employee.management.repository;
 
 
+import com.employee.management.dto.response.DepartmentResponseDTO;
+import com.employee.management.dto.response.ListFingerprintDTO;
 import com.employee.management.entity.Department;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface DepartmentRepository extends JpaRepository<Department, Long> {
 
+    // Department with its employee count in one statement; keep in sync with DepartmentResponseDTO's field order
+    String RESPONSE_SELECT = "SELECT new com.employee.management.dto.response.DepartmentResponseDTO(" +
+            "d.id, d.name, d.description, CAST(COUNT(e.id) AS Integer), d.createdAt, d.updatedAt, d.version) " +
+            "FROM Department d LEFT JOIN Employee e ON e.department = d ";
+
+    String RESPONSE_GROUP_BY = "GROUP BY d.id, d.name, d.description, d.createdAt, d.updatedAt, d.version ";
+
     Optional<Department> findByName(String name);
 
     boolean existsByName(String name);
-}
\ No newline at end of file
+
+    @Query(RESPONSE_SELECT + "WHERE d.id = :id " + RESPONSE_GROUP_BY)
+    Optional<DepartmentResponseDTO> findResponseById(@Param("id") Long id);
+
+    @Query(RESPONSE_SELECT + "WHERE d.name = :name " + RESPONSE_GROUP_BY)
+    Optional<DepartmentResponseDTO> findResponseByName(@Param("name") String name);
+
+    @Query(RESPONSE_SELECT + RESPONSE_GROUP_BY + "ORDER BY d.id")
+    List<DepartmentResponseDTO> findAllResponses();
+
+    // Employee moves and hires change the listed counts, so their updated_at is part of the fingerprint
+    @Query("SELECT new com.employee.management.dto.response.ListFingerprintDTO(" +
+            "COUNT(d), MAX(d.updatedAt), (SELECT MAX(e.updatedAt) FROM Employee e)) FROM Department d")
+    ListFingerprintDTO findFingerprint();
+
+    // Row lock held until the caller's transaction ends; serializes leave approvals of one department
+    // across instances. Empty when the department does not exist
+    @Query(value = "SELECT id FROM departments WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockById(@Param("id") Long id);
+}
@@ -1,23 +1,50 @@
 package com.employee.management.repository;
 
+import com.employee.management.dto.response.EmployeePlacementDTO;
+import com.employee.management.dto.response.EmployeeResponseDTO;
+import com.employee.management.dto.response.EmployeeSuggestionDTO;
+import com.employee.management.entity.Department;
 import com.employee.management.entity.Employee;
+import com.employee.management.entity.Position;
 import com.employee.management.entity.enums.EmployeeStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeRepositoryCustom {
 
+    // Builds EmployeeResponseDTO directly, joining department and position once
+    String RESPONSE_SELECT = "SELECT new com.employee.management.dto.response.EmployeeResponseDTO(" +
+            "e.id, e.firstName, e.lastName, e.email, e.phone, e.dateOfBirth, e.hireDate, " +
+            "e.salary, e.address, e.status, d.id, d.name, p.id, p.title, e.createdAt, e.updatedAt, e.version) " +
+            "FROM Employee e LEFT JOIN e.department d LEFT JOIN e.position p ";
+
+    String SEARCH_DOCUMENT = "lower(e.first_name || ' ' || e.last_name || ' ' || e.email)";
+    String SEARCH_VECTOR = "to_tsvector('simple', e.first_name || ' ' || e.last_name || ' ' || e.email)";
 
     Optional<Employee> findByEmail(String email);
 
     boolean existsByEmail(String email);
 
+    @Query("SELECT e.email FROM Employee e WHERE e.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
     List<Employee> findByDepartmentId(Long departmentId);
 
     List<Employee> findByPositionId(Long positionId);
@@ -31,9 +58,124 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
             "LOWER(e.email) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     List<Employee> searchEmployees(@Param("keyword") String keyword);
 
+    // Entity plus department and position in one SELECT, so building the response needs no proxy loads.
+    // user is the inverse side of a one-to-one and would otherwise be fetched by a second SELECT
+    @EntityGraph(attributePaths = {"department", "position", "user"})
+    @Query("SELECT e FROM Employee e WHERE e.id = :id")
+    Optional<Employee> findWithPlacementById(@Param("id") Long id);
+
+    // Response projections - one statement regardless of row count
+    @Query(RESPONSE_SELECT + "WHERE e.id = :id")
+    Optional<EmployeeResponseDTO> findResponseById(@Param("id") Long id);
+
+    @Query(RESPONSE_SELECT)
+    List<EmployeeResponseDTO> findAllResponses();
+
+    @Query(value = RESPONSE_SELECT,
+            countQuery = "SELECT COUNT(e) FROM Employee e")
+    Page<EmployeeResponseDTO> findAllResponses(Pageable pageable);
+
+    @Query(RESPONSE_SELECT + "WHERE d.id = :departmentId")
+    List<EmployeeResponseDTO> findResponsesByDepartmentId(@Param("departmentId") Long departmentId);
+
+    @Query(RESPONSE_SELECT + "WHERE p.id = :positionId")
+    List<EmployeeResponseDTO> findResponsesByPositionId(@Param("positionId") Long positionId);
+
+    @Query(RESPONSE_SELECT + "WHERE e.status = :status")
+    List<EmployeeResponseDTO> findResponsesByStatus(@Param("status") EmployeeStatus status);
+
+    @Query(RESPONSE_SELECT + "WHERE e.id IN :ids")
+    List<EmployeeResponseDTO> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Portable substring search, used when the PostgreSQL search indexes are unavailable
+    @Query(RESPONSE_SELECT + "WHERE " +
+            "LOWER(e.firstName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(e.lastName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(e.email) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+            "ORDER BY e.lastName, e.firstName, e.id")
+    Slice<EmployeeResponseDTO> searchEmployeeResponses(@Param("keyword") String keyword, Pageable pageable);
+
+    // Ranked search served by the pg_trgm and tsvector indexes in schema-postgresql.sql;
+    // the expressions must stay identical to the indexed ones for the planner to use them.
+    // Candidates are the :candidates matches nearest to the keyword by trigram distance, read in order from
+    // the GiST index, so a common keyword costs one bounded index walk and never loses its closest matches
+    // to an arbitrary cut. Whole-word matches then rank first, then closer ones, then lower ids.
+    @Query(value = "SELECT c.id FROM (" +
+            "SELECT e.id, " + SEARCH_DOCUMENT + " <-> lower(:keyword) AS distance, " +
+            SEARCH_VECTOR + " @@ plainto_tsquery('simple', :keyword) AS word_match " +
+            "FROM employees e " +
+            "WHERE " + SEARCH_DOCUMENT + " LIKE '%' || lower(:keyword) || '%' " +
+            "OR " + SEARCH_VECTOR + " @@ plainto_tsquery('simple', :keyword) " +
+            "ORDER BY " + SEARCH_DOCUMENT + " <-> lower(:keyword) " +
+            "LIMIT :candidates) c " +
+            "ORDER BY c.word_match DESC, c.distance, c.id " +
+            "LIMIT :limit OFFSET :offset",
+            nativeQuery = true)
+    List<Long> searchRankedIds(@Param("keyword") String keyword,
+                               @Param("candidates") int candidates,
+                               @Param("limit") int limit,
+                               @Param("offset") long offset);
+
+    // Name and email of every employee still on the roster, for the autocomplete index
+    @Query("SELECT new com.employee.management.dto.response.EmployeeSuggestionDTO(" +
+            "e.id, e.firstName, e.lastName, e.email) FROM Employee e WHERE e.status <> :excluded")
+    List<EmployeeSuggestionDTO> findSuggestionsByStatusNot(@Param("excluded") EmployeeStatus excluded);
+
+    // Department, position and status of every employee, for the headcount counters
+    @Query("SELECT new com.employee.management.dto.response.EmployeePlacementDTO(" +
+            "e.id, e.department.id, e.position.id, e.status) FROM Employee e")
+    List<EmployeePlacementDTO> findAllPlacements();
+
+    // Placements of the given employees; ids with no employee are simply absent
+    @Query("SELECT new com.employee.management.dto.response.EmployeePlacementDTO(" +
+            "e.id, e.department.id, e.position.id, e.status) FROM Employee e WHERE e.id IN :ids")
+    List<EmployeePlacementDTO> findPlacementsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Employees of the department who count towards its leave coverage
+    @Query("SELECT e.id FROM Employee e WHERE e.department.id = :departmentId " +
+            "AND e.status <> com.employee.management.entity.enums.EmployeeStatus.TERMINATED")
+    List<Long> findCoverageIdsByDepartmentId(@Param("departmentId") Long departmentId);
+
+    // Forward-only cursor over the full roster for exports; rows are fetched in batches
+    @Query(RESPONSE_SELECT + "ORDER BY e.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<EmployeeResponseDTO> streamAllResponses();
+
+    @Query("SELECT e.id FROM Employee e WHERE e.department.id = :departmentId")
+    List<Long> findIdsByDepartmentId(@Param("departmentId") Long departmentId);
+
+    @Query("SELECT e.id FROM Employee e WHERE e.position.id = :positionId")
+    List<Long> findIdsByPositionId(@Param("positionId") Long positionId);
+
+    // Set-based bulk updates; bulk JPQL skips @UpdateTimestamp and @Version, so both are set here
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Employee e SET e.status = :status, e.updatedAt = :updatedAt, e.version = e.version + 1 " +
+            "WHERE e.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("status") EmployeeStatus status,
+                           @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Employee e SET e.department = :department, e.updatedAt = :updatedAt, e.version = e.version + 1 " +
+            "WHERE e.id IN :ids")
+    int updateDepartmentByIdIn(@Param("ids") Collection<Long> ids,
+                               @Param("department") Department department,
+                               @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Employee e SET e.department = :department, e.position = :position, e.updatedAt = :updatedAt, " +
+            "e.version = e.version + 1 WHERE e.id IN :ids")
+    int updateDepartmentAndPositionByIdIn(@Param("ids") Collection<Long> ids,
+                                          @Param("department") Department department,
+                                          @Param("position") Position position,
+                                          @Param("updatedAt") LocalDateTime updatedAt);
+
     // Count employees by department
     Long countByDepartmentId(Long departmentId);
 
     // Count employees by position
     Long countByPositionId(Long positionId);
-}
\ No newline at end of file
+}
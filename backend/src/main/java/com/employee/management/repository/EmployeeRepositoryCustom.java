@@ -0,0 +1,34 @@
+package com.employee.management.repository;
+
+import com.employee.management.dto.request.EmployeeFieldSelection;
+import com.employee.management.dto.response.EmployeeFieldsDTO;
+import com.employee.management.dto.response.EmployeeResponseDTO;
+import com.employee.management.entity.enums.EmployeeStatus;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface EmployeeRepositoryCustom {
+
+    // Keyset page ordered by (sortKey, id); pass null lastKey and lastId for the first page
+    List<EmployeeResponseDTO> findResponsesAfter(String sortKey, boolean ascending,
+                                                 Object lastKey, Long lastId, int limit);
+
+    // Ids matching every non-null filter whose status differs from newStatus
+    List<Long> findIdsForStatusChange(Collection<Long> ids, Long departmentId, EmployeeStatus currentStatus,
+                                      EmployeeStatus newStatus);
+
+    // Ids matching every non-null filter not already in the target department (and position, when given)
+    List<Long> findIdsForDepartmentChange(Collection<Long> ids, Long departmentId, EmployeeStatus currentStatus,
+                                          Long targetDepartmentId, Long targetPositionId);
+
+    // Only the selected columns; departments and positions are joined only when a selected field or
+    // expansion needs them. filters maps an Employee attribute path (e.g. "department.id") to its value.
+    // Sort properties must pass EmployeeFieldSelection.isSortable
+    List<EmployeeFieldsDTO> findSparse(EmployeeFieldSelection selection, Map<String, Object> filters,
+                                         Pageable pageable);
+
+    long countFiltered(Map<String, Object> filters);
+}
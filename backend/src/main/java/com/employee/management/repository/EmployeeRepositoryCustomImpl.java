@@ -0,0 +1,206 @@
+package com.employee.management.repository;
+
+import com.employee.management.dto.request.EmployeeFieldSelection;
+import com.employee.management.dto.response.EmployeeFieldsDTO;
+import com.employee.management.dto.response.EmployeeResponseDTO;
+import com.employee.management.entity.enums.EmployeeStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // sortKey must be a whitelisted Employee attribute - it is inlined into the JPQL
+    @Override
+    public List<EmployeeResponseDTO> findResponsesAfter(String sortKey, boolean ascending,
+                                                        Object lastKey, Long lastId, int limit) {
+        String direction = ascending ? "ASC" : "DESC";
+        String comparator = ascending ? ">" : "<";
+        boolean byId = "id".equals(sortKey);
+
+        StringBuilder jpql = new StringBuilder(EmployeeRepository.RESPONSE_SELECT);
+        if (lastId != null) {
+            // Seek predicate on (sortKey, id) so the index range scan starts right after the cursor
+            if (byId) {
+                jpql.append("WHERE e.id ").append(comparator).append(" :lastId ");
+            } else {
+                jpql.append("WHERE (e.").append(sortKey).append(' ').append(comparator).append(" :lastKey OR (e.")
+                        .append(sortKey).append(" = :lastKey AND e.id ").append(comparator).append(" :lastId)) ");
+            }
+        }
+        jpql.append("ORDER BY ");
+        if (!byId) {
+            jpql.append("e.").append(sortKey).append(' ').append(direction).append(", ");
+        }
+        jpql.append("e.id ").append(direction);
+
+        TypedQuery<EmployeeResponseDTO> query = entityManager.createQuery(jpql.toString(), EmployeeResponseDTO.class);
+        if (lastId != null) {
+            query.setParameter("lastId", lastId);
+            if (!byId) {
+                query.setParameter("lastKey", lastKey);
+            }
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<Long> findIdsForStatusChange(Collection<Long> ids, Long departmentId, EmployeeStatus currentStatus,
+                                             EmployeeStatus newStatus) {
+        Map<String, Object> parameters = new HashMap<>();
+        StringBuilder jpql = filteredIds(ids, departmentId, currentStatus, parameters);
+        jpql.append("AND e.status <> :newStatus ");
+        parameters.put("newStatus", newStatus);
+        return idQuery(jpql, parameters);
+    }
+
+    @Override
+    public List<Long> findIdsForDepartmentChange(Collection<Long> ids, Long departmentId, EmployeeStatus currentStatus,
+                                                 Long targetDepartmentId, Long targetPositionId) {
+        Map<String, Object> parameters = new HashMap<>();
+        StringBuilder jpql = filteredIds(ids, departmentId, currentStatus, parameters);
+        // Null-safe "not already there": employees without a department or position always qualify
+        jpql.append("AND (e.department IS NULL OR e.department.id <> :targetDepartmentId");
+        parameters.put("targetDepartmentId", targetDepartmentId);
+        if (targetPositionId != null) {
+            jpql.append(" OR e.position IS NULL OR e.position.id <> :targetPositionId");
+            parameters.put("targetPositionId", targetPositionId);
+        }
+        jpql.append(") ");
+        return idQuery(jpql, parameters);
+    }
+
+    @Override
+    public List<EmployeeFieldsDTO> findSparse(EmployeeFieldSelection selection, Map<String, Object> filters,
+                                              Pageable pageable) {
+        // Aliases are the response names; the expansions get reserved aliases of their own
+        List<String> columns = new ArrayList<>();
+        selection.getFields().forEach(field -> columns.add(EmployeeFieldSelection.pathOf(field) + " AS " + field));
+        if (selection.isExpandDepartment()) {
+            columns.add("d.id AS expandDepartmentId");
+            columns.add("d.name AS expandDepartmentName");
+        }
+        if (selection.isExpandPosition()) {
+            columns.add("p.id AS expandPositionId");
+            columns.add("p.title AS expandPositionTitle");
+        }
+        columns.add("e.version AS rowVersion");
+
+        StringBuilder jpql = new StringBuilder("SELECT ").append(String.join(", ", columns)).append(" FROM Employee e ");
+        if (selection.joinsDepartment()) {
+            jpql.append("LEFT JOIN e.department d ");
+        }
+        if (selection.joinsPosition()) {
+            jpql.append("LEFT JOIN e.position p ");
+        }
+        appendFilters(jpql, filters);
+        appendOrder(jpql, pageable.getSort());
+
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql.toString(), Tuple.class);
+        filters.forEach((path, value) -> query.setParameter(parameterName(path), value));
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+
+        List<EmployeeFieldsDTO> rows = new ArrayList<>();
+        for (Tuple tuple : query.getResultList()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            selection.getFields().forEach(field -> row.put(field, tuple.get(field)));
+            if (selection.isExpandDepartment()) {
+                row.put(EmployeeFieldSelection.EXPAND_DEPARTMENT,
+                        nested(tuple.get("expandDepartmentId"), "name", tuple.get("expandDepartmentName")));
+            }
+            if (selection.isExpandPosition()) {
+                row.put(EmployeeFieldSelection.EXPAND_POSITION,
+                        nested(tuple.get("expandPositionId"), "title", tuple.get("expandPositionTitle")));
+            }
+            rows.add(new EmployeeFieldsDTO(row, tuple.get("rowVersion", Long.class)));
+        }
+        return rows;
+    }
+
+    @Override
+    public long countFiltered(Map<String, Object> filters) {
+        StringBuilder jpql = new StringBuilder("SELECT COUNT(e) FROM Employee e ");
+        appendFilters(jpql, filters);
+        TypedQuery<Long> query = entityManager.createQuery(jpql.toString(), Long.class);
+        filters.forEach((path, value) -> query.setParameter(parameterName(path), value));
+        return query.getSingleResult();
+    }
+
+    // Paths come from code, never from the request; values are bound
+    private void appendFilters(StringBuilder jpql, Map<String, Object> filters) {
+        String prefix = "WHERE ";
+        for (String path : filters.keySet()) {
+            jpql.append(prefix).append("e.").append(path).append(" = :").append(parameterName(path)).append(' ');
+            prefix = "AND ";
+        }
+    }
+
+    // Sort properties are response field names, resolved through the same whitelist as ?fields=;
+    // callers validate them, this only keeps anything else out of the JPQL
+    private void appendOrder(StringBuilder jpql, Sort sort) {
+        String prefix = "ORDER BY ";
+        for (Sort.Order order : sort) {
+            if (!EmployeeFieldSelection.isSortable(order.getProperty())) {
+                throw new InvalidDataAccessApiUsageException("Cannot sort by '" + order.getProperty() + "'");
+            }
+            String path = EmployeeFieldSelection.pathOf(order.getProperty());
+            jpql.append(prefix).append(path).append(order.isAscending() ? " ASC" : " DESC");
+            prefix = ", ";
+        }
+    }
+
+    private static String parameterName(String path) {
+        return path.replace('.', '_');
+    }
+
+    private static Map<String, Object> nested(Object id, String nameKey, Object name) {
+        if (id == null) {
+            return null;
+        }
+        Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("id", id);
+        nested.put(nameKey, name);
+        return nested;
+    }
+
+    private StringBuilder filteredIds(Collection<Long> ids, Long departmentId, EmployeeStatus currentStatus,
+                                      Map<String, Object> parameters) {
+        // Plain FK comparisons (no joins) so the selection reads only the employees table
+        StringBuilder jpql = new StringBuilder("SELECT e.id FROM Employee e WHERE 1 = 1 ");
+        if (ids != null) {
+            jpql.append("AND e.id IN :ids ");
+            parameters.put("ids", ids);
+        }
+        if (departmentId != null) {
+            jpql.append("AND e.department.id = :departmentId ");
+            parameters.put("departmentId", departmentId);
+        }
+        if (currentStatus != null) {
+            jpql.append("AND e.status = :currentStatus ");
+            parameters.put("currentStatus", currentStatus);
+        }
+        return jpql;
+    }
+
+    private List<Long> idQuery(StringBuilder jpql, Map<String, Object> parameters) {
+        TypedQuery<Long> query = entityManager.createQuery(jpql.append("ORDER BY e.id").toString(), Long.class);
+        parameters.forEach(query::setParameter);
+        return query.getResultList();
+    }
+}
@@ -0,0 +1,52 @@
+package com.employee.management.repository;
+
+import com.employee.management.dto.response.LeaveRequestResponseDTO;
+import com.employee.management.entity.LeaveRequest;
+import com.employee.management.entity.enums.LeaveStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LeaveRequestRepository extends JpaRepository<LeaveRequest, Long>, LeaveRequestRepositoryCustom {
+
+    // Keep in sync with LeaveRequestResponseDTO's field order; approvedBy is optional, hence the outer join
+    String RESPONSE_SELECT = "SELECT new com.employee.management.dto.response.LeaveRequestResponseDTO(" +
+            "l.id, l.employee.id, l.leaveType, l.startDate, l.endDate, l.reason, l.status, a.id, l.approvedAt, " +
+            "l.createdAt, l.updatedAt, l.version) FROM LeaveRequest l LEFT JOIN l.approvedBy a ";
+
+    @Query(RESPONSE_SELECT + "WHERE l.id = :id")
+    Optional<LeaveRequestResponseDTO> findResponseById(@Param("id") Long id);
+
+    @Query(RESPONSE_SELECT + "WHERE l.employee.id = :employeeId ORDER BY l.startDate")
+    List<LeaveRequestResponseDTO> findResponsesByEmployeeId(@Param("employeeId") Long employeeId);
+
+    // Every request in these statuses, for loading the overlap index at startup
+    @Query(RESPONSE_SELECT + "WHERE l.status IN :statuses")
+    List<LeaveRequestResponseDTO> findResponsesByStatusIn(@Param("statuses") Collection<LeaveStatus> statuses);
+
+    // The employee's leaves in these statuses overlapping [start, end], to confirm a clash the overlap index reports
+    @Query(RESPONSE_SELECT + "WHERE l.employee.id = :employeeId AND l.status IN :statuses " +
+            "AND l.startDate <= :end AND l.endDate >= :start ORDER BY l.startDate")
+    List<LeaveRequestResponseDTO> findOverlappingResponses(@Param("employeeId") Long employeeId,
+                                                           @Param("statuses") Collection<LeaveStatus> statuses,
+                                                           @Param("start") LocalDate start,
+                                                           @Param("end") LocalDate end);
+
+    // Approved leaves overlapping [start, end] of the department's other employees who count towards its
+    // coverage (see EmployeeRepository.findCoverageIdsByDepartmentId), for the approval check
+    @Query(RESPONSE_SELECT + "JOIN l.employee e WHERE e.department.id = :departmentId AND e.id <> :employeeId " +
+            "AND e.status <> com.employee.management.entity.enums.EmployeeStatus.TERMINATED " +
+            "AND l.status = com.employee.management.entity.enums.LeaveStatus.APPROVED " +
+            "AND l.startDate <= :end AND l.endDate >= :start")
+    List<LeaveRequestResponseDTO> findApprovedCoverageResponses(@Param("departmentId") Long departmentId,
+                                                                @Param("employeeId") Long employeeId,
+                                                                @Param("start") LocalDate start,
+                                                                @Param("end") LocalDate end);
+}
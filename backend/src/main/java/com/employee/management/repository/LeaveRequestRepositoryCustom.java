@@ -0,0 +1,8 @@
+package com.employee.management.repository;
+
+public interface LeaveRequestRepositoryCustom {
+
+    // Adds the leave_requests_no_overlap exclusion constraint unless it exists: an employee's pending and
+    // approved leaves may not share a day. PostgreSQL only (needs btree_gist). Returns whether it was added
+    boolean addNoOverlapConstraintIfMissing(String name);
+}
@@ -0,0 +1,32 @@
+package com.employee.management.repository;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class LeaveRequestRepositoryCustomImpl implements LeaveRequestRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LeaveRequestRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Created once rather than dropped and re-added on each start, which would lock the table, rebuild the
+    // GiST index and leave a window without the constraint every time
+    @Override
+    public boolean addNoOverlapConstraintIfMissing(String name) {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equals(product)) {
+            return false;
+        }
+        Boolean exists = jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM pg_constraint " +
+                "WHERE conrelid = to_regclass('leave_requests') AND conname = ?)", Boolean.class, name);
+        if (Boolean.TRUE.equals(exists)) {
+            return false;
+        }
+        jdbcTemplate.execute("ALTER TABLE leave_requests ADD CONSTRAINT " + name + " EXCLUDE USING gist " +
+                "(employee_id WITH =, daterange(start_date, end_date, '[]') WITH &&) " +
+                "WHERE (status IN ('PENDING', 'APPROVED'))");
+        return true;
+    }
+}
@@ -1,17 +1,45 @@
 package com.employee.management.repository;
 
+import com.employee.management.dto.response.ListFingerprintDTO;
+import com.employee.management.dto.response.PositionResponseDTO;
 import com.employee.management.entity.Position;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PositionRepository extends JpaRepository<Position, Long> {
 
+    // Position with its department name and employee count in one statement;
+    // keep in sync with PositionResponseDTO's field order
+    String RESPONSE_SELECT = "SELECT new com.employee.management.dto.response.PositionResponseDTO(" +
+            "p.id, p.title, p.description, d.id, d.name, CAST(COUNT(e.id) AS Integer), p.createdAt, p.updatedAt, p.version) " +
+            "FROM Position p JOIN p.department d LEFT JOIN Employee e ON e.position = p ";
+
+    String RESPONSE_GROUP_BY = "GROUP BY p.id, p.title, p.description, d.id, d.name, p.createdAt, p.updatedAt, p.version ";
+
     // Find all positions in a specific department
     List<Position> findByDepartmentId(Long departmentId);
 
     // Check if position title exists in a department
     boolean existsByTitleAndDepartmentId(String title, Long departmentId);
-}
\ No newline at end of file
+
+    @Query(RESPONSE_SELECT + "WHERE p.id = :id " + RESPONSE_GROUP_BY)
+    Optional<PositionResponseDTO> findResponseById(@Param("id") Long id);
+
+    @Query(RESPONSE_SELECT + RESPONSE_GROUP_BY + "ORDER BY p.id")
+    List<PositionResponseDTO> findAllResponses();
+
+    @Query(RESPONSE_SELECT + "WHERE d.id = :departmentId " + RESPONSE_GROUP_BY + "ORDER BY p.id")
+    List<PositionResponseDTO> findResponsesByDepartmentId(@Param("departmentId") Long departmentId);
+
+    // Listed rows embed department names and employee counts, so both feed the fingerprint
+    @Query("SELECT new com.employee.management.dto.response.ListFingerprintDTO(" +
+            "COUNT(p), MAX(p.updatedAt), (SELECT MAX(d.updatedAt) FROM Department d), " +
+            "(SELECT MAX(e.updatedAt) FROM Employee e)) FROM Position p")
+    ListFingerprintDTO findFingerprint();
+}
@@ -0,0 +1,12 @@
+package com.employee.management.service;
+
+import com.employee.management.dto.response.AttendanceImportResponseDTO;
+
+import java.io.IOException;
+import java.io.Reader;
+
+public interface AttendanceImportService {
+
+    // Streams a CSV with the columns email, date, checkIn, checkOut into attendance, merging with stored days
+    AttendanceImportResponseDTO importAttendance(Reader csv) throws IOException;
+}
@@ -0,0 +1,21 @@
+package com.employee.management.service;
+
+import com.employee.management.dto.response.AttendanceArchiveResponseDTO;
+import com.employee.management.dto.response.AttendancePartitionDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface AttendancePartitionService {
+
+    // Creates any missing monthly partition covering [from, to]; a no-op when partitioning is disabled
+    void ensurePartitions(LocalDate from, LocalDate to);
+
+    List<AttendancePartitionDTO> getPartitions();
+
+    // Detaches, exports and drops every partition older than the retention period
+    List<AttendanceArchiveResponseDTO> archiveExpiredPartitions();
+
+    // First day still kept in the attendance table, or null when nothing is ever archived
+    LocalDate getRetainedFrom();
+}
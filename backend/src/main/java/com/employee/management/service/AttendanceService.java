@@ -0,0 +1,32 @@
+package com.employee.management.service;
+
+import com.employee.management.dto.request.AttendancePunchRequestDTO;
+import com.employee.management.dto.response.AttendanceDepartmentReportDTO;
+import com.employee.management.dto.response.AttendanceIngestResponseDTO;
+import com.employee.management.dto.response.AttendanceMonthlyReportDTO;
+import com.employee.management.dto.response.AttendanceResponseDTO;
+import com.employee.management.dto.response.AttendanceRollupRebuildResponseDTO;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+public interface AttendanceService {
+
+    // Buffers the punches for the next flush, all or none; throws BufferFullException when they do not fit
+    AttendanceIngestResponseDTO recordPunches(List<AttendancePunchRequestDTO> punches);
+
+    // Writes everything buffered so far; returns the punches flushed
+    int flush();
+
+    List<AttendanceResponseDTO> getAttendance(Long employeeId, LocalDate from, LocalDate to);
+
+    // Per-employee totals for the month, read from the rollups; departmentId may be null for all
+    List<AttendanceMonthlyReportDTO> getMonthlyReport(YearMonth month, Long departmentId);
+
+    // Per-department totals over [from, to], read from the rollups
+    List<AttendanceDepartmentReportDTO> getDepartmentReport(LocalDate from, LocalDate to);
+
+    // Recomputes the rollups of the months spanning [from, to] from the attendance rows, e.g. after a backfill
+    AttendanceRollupRebuildResponseDTO rebuildRollups(LocalDate from, LocalDate to);
+}
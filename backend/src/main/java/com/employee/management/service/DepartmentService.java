@@ -2,6 +2,7 @@ package com.employee.management.service;
 
 import com.employee.management.dto.request.DepartmentRequestDTO;
 import com.employee.management.dto.response.DepartmentResponseDTO;
+import com.employee.management.dto.response.ListFingerprintDTO;
 
 import java.util.List;
 
@@ -9,13 +10,16 @@ public interface DepartmentService {
 
     DepartmentResponseDTO createDepartment(DepartmentRequestDTO requestDTO);
 
-    DepartmentResponseDTO updateDepartment(Long id, DepartmentRequestDTO requestDTO);
+    // expectedVersion comes from If-Match; null skips the check
+    DepartmentResponseDTO updateDepartment(Long id, DepartmentRequestDTO requestDTO, Long expectedVersion);
 
-    void deleteDepartment(Long id);
+    void deleteDepartment(Long id, Long expectedVersion);
 
     DepartmentResponseDTO getDepartmentById(Long id);
 
     List<DepartmentResponseDTO> getAllDepartments();
 
     DepartmentResponseDTO getDepartmentByName(String name);
-}
\ No newline at end of file
+
+    ListFingerprintDTO getDepartmentsFingerprint();
+}
@@ -0,0 +1,11 @@
+package com.employee.management.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface EmployeeExportService {
+
+    void exportEmployeesAsNdjson(OutputStream outputStream) throws IOException;
+
+    void exportEmployeesAsCsv(OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,15 @@
+package com.employee.management.service;
+
+import com.employee.management.dto.request.EmployeeRequestDTO;
+import com.employee.management.dto.response.BulkImportResponseDTO;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+
+public interface EmployeeImportService {
+
+    BulkImportResponseDTO importEmployees(List<EmployeeRequestDTO> requests);
+
+    BulkImportResponseDTO importEmployeesFromCsv(Reader csv) throws IOException;
+}
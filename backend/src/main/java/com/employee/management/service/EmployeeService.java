@@ -1,32 +1,64 @@
 package com.employee.management.service;
 
+import com.employee.management.dto.request.EmployeeBulkDepartmentRequestDTO;
+import com.employee.management.dto.request.EmployeeBulkStatusRequestDTO;
+import com.employee.management.dto.request.EmployeeFieldSelection;
 import com.employee.management.dto.request.EmployeeRequestDTO;
+import com.employee.management.dto.response.BulkUpdateResponseDTO;
+import com.employee.management.dto.response.EmployeeBatchResponseDTO;
+import com.employee.management.dto.response.EmployeeFieldsDTO;
 import com.employee.management.dto.response.EmployeeResponseDTO;
+import com.employee.management.dto.response.EmployeeScrollResponseDTO;
 import com.employee.management.entity.enums.EmployeeStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import tools.jackson.databind.JsonNode;
 
 import java.util.List;
+import java.util.Map;
 
 public interface EmployeeService {
 
     EmployeeResponseDTO createEmployee(EmployeeRequestDTO requestDTO);
 
-    EmployeeResponseDTO updateEmployee(Long id, EmployeeRequestDTO requestDTO);
+    // expectedVersion comes from If-Match; null skips the check
+    EmployeeResponseDTO updateEmployee(Long id, EmployeeRequestDTO requestDTO, Long expectedVersion);
 
-    void deleteEmployee(Long id);
+    // JSON Merge Patch (RFC 7396): only the fields present in the patch change, null clears a field
+    EmployeeResponseDTO patchEmployee(Long id, JsonNode patch, Long expectedVersion);
+
+    void deleteEmployee(Long id, Long expectedVersion);
+
+    BulkUpdateResponseDTO updateStatuses(EmployeeBulkStatusRequestDTO requestDTO);
+
+    BulkUpdateResponseDTO reassignDepartment(EmployeeBulkDepartmentRequestDTO requestDTO);
 
     EmployeeResponseDTO getEmployeeById(Long id);
 
+    // Cache hits first, then one query for the misses; unknown ids are reported rather than failing
+    EmployeeBatchResponseDTO getEmployeesByIds(List<Long> ids);
+
     List<EmployeeResponseDTO> getAllEmployees();
 
     Page<EmployeeResponseDTO> getAllEmployeesPaginated(Pageable pageable);
 
+    EmployeeScrollResponseDTO scrollEmployees(String after, int size, String sortBy, String sortDir);
+
     List<EmployeeResponseDTO> getEmployeesByDepartment(Long departmentId);
 
     List<EmployeeResponseDTO> getEmployeesByPosition(Long positionId);
 
     List<EmployeeResponseDTO> getEmployeesByStatus(EmployeeStatus status);
 
+    // Sparse reads for ?fields= and ?expand=; filters as in EmployeeRepositoryCustom.findSparse
+    EmployeeFieldsDTO getEmployeeFieldsById(Long id, EmployeeFieldSelection selection);
+
+    List<Map<String, Object>> getEmployeeFields(EmployeeFieldSelection selection, Map<String, Object> filters);
+
+    Page<Map<String, Object>> getEmployeeFieldsPaginated(EmployeeFieldSelection selection, Pageable pageable);
+
     List<EmployeeResponseDTO> searchEmployees(String keyword);
+
+    Slice<EmployeeResponseDTO> searchEmployees(String keyword, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.employee.management.service;
+
+import com.employee.management.dto.response.EmployeeSuggestionDTO;
+
+import java.util.List;
+
+public interface EmployeeTypeaheadService {
+
+    List<EmployeeSuggestionDTO> suggest(String query, int limit);
+
+    void rebuild();
+}
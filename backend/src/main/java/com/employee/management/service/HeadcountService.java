@@ -0,0 +1,11 @@
+package com.employee.management.service;
+
+import com.employee.management.dto.response.HeadcountResponseDTO;
+
+public interface HeadcountService {
+
+    HeadcountResponseDTO getHeadcount();
+
+    // Compares the in-memory counters with the database and corrects drift; returns the rows corrected
+    int reconcile();
+}
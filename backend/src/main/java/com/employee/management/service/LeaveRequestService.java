@@ -0,0 +1,21 @@
+package com.employee.management.service;
+
+import com.employee.management.dto.request.LeaveRequestDTO;
+import com.employee.management.dto.response.LeaveRequestResponseDTO;
+
+import java.util.List;
+
+public interface LeaveRequestService {
+
+    // Files a PENDING request; 409 when it overlaps one of the employee's pending or approved leaves
+    LeaveRequestResponseDTO submitLeaveRequest(LeaveRequestDTO requestDTO);
+
+    // 409 when the request is no longer pending or approving it would leave the department short-handed
+    LeaveRequestResponseDTO approveLeaveRequest(Long id, Long approverId);
+
+    LeaveRequestResponseDTO rejectLeaveRequest(Long id, Long approverId);
+
+    LeaveRequestResponseDTO getLeaveRequestById(Long id);
+
+    List<LeaveRequestResponseDTO> getLeaveRequestsByEmployee(Long employeeId);
+}
@@ -1,6 +1,7 @@
 package com.employee.management.service;
 
 import com.employee.management.dto.request.PositionRequestDTO;
+import com.employee.management.dto.response.ListFingerprintDTO;
 import com.employee.management.dto.response.PositionResponseDTO;
 
 import java.util.List;
@@ -9,13 +10,16 @@ public interface PositionService {
 
     PositionResponseDTO createPosition(PositionRequestDTO requestDTO);
 
-    PositionResponseDTO updatePosition(Long id, PositionRequestDTO requestDTO);
+    // expectedVersion comes from If-Match; null skips the check
+    PositionResponseDTO updatePosition(Long id, PositionRequestDTO requestDTO, Long expectedVersion);
 
-    void deletePosition(Long id);
+    void deletePosition(Long id, Long expectedVersion);
 
     PositionResponseDTO getPositionById(Long id);
 
     List<PositionResponseDTO> getAllPositions();
 
     List<PositionResponseDTO> getPositionsByDepartment(Long departmentId);
-}
\ No newline at end of file
+
+    ListFingerprintDTO getPositionsFingerprint();
+}
@@ -0,0 +1,419 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.dto.response.AttendanceImportResponseDTO;
+import com.employee.management.repository.AttendanceRepository;
+import com.employee.management.service.AttendanceImportService;
+import com.employee.management.service.AttendancePartitionService;
+import com.employee.management.service.AttendanceService;
+import com.employee.management.util.CsvReader;
+import com.employee.management.util.StringLongMap;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Bulk attendance import for back-filling from the legacy time clock. The CSV is read one record at a
+ * time; each row is validated, its email resolved against an in-memory index of every employee, and
+ * streamed with COPY into a temporary staging table that is merged into attendance by one set-based
+ * upsert per chunk. Rejected rows go to a side file with their line number and reason. Only the email
+ * index grows, with the number of employees, so memory stays flat whatever the size of the file.
+ * <p>
+ * Each chunk commits on its own: a failed import keeps the chunks before it, and running the same file
+ * again is safe because the merge keeps the earliest check-in and latest check-out of each day. Once
+ * the file is done the rollups of the months it touched are rebuilt. PostgreSQL only.
+ */
+@Service
+@Slf4j
+public class AttendanceImportServiceImpl implements AttendanceImportService {
+
+    static final String STAGING = "attendance_import_staging";
+    private static final List<String> REQUIRED_COLUMNS = List.of("email", "date");
+    private static final DateTimeFormatter REJECTS_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final long UNKNOWN = -1;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AttendanceRepository attendanceRepository;
+    private final AttendanceService attendanceService;
+    private final AttendancePartitionService partitionService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkRows;
+    private final Path rejectsDirectory;
+
+    private final Counter acceptedCounter;
+    private final Counter rejectedCounter;
+
+    public AttendanceImportServiceImpl(JdbcTemplate jdbcTemplate,
+                                       AttendanceRepository attendanceRepository,
+                                       AttendanceService attendanceService,
+                                       AttendancePartitionService partitionService,
+                                       PlatformTransactionManager transactionManager,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${employee.attendance.import.chunk-rows:500000}") int chunkRows,
+                                       @Value("${employee.attendance.import.rejects-directory:imports/rejects}")
+                                       String rejectsDirectory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.attendanceRepository = attendanceRepository;
+        this.attendanceService = attendanceService;
+        this.partitionService = partitionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkRows = chunkRows;
+        this.rejectsDirectory = Path.of(rejectsDirectory);
+
+        this.acceptedCounter = Counter.builder("employee.attendance.import.rows")
+                .description("Attendance import rows staged for the merge")
+                .tag("outcome", "accepted")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("employee.attendance.import.rows")
+                .description("Attendance import rows written to the rejects file")
+                .tag("outcome", "rejected")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized AttendanceImportResponseDTO importAttendance(Reader csv) throws IOException {
+        requirePostgresql();
+        log.info("Importing attendance from CSV");
+        long start = System.nanoTime();
+
+        StringLongMap employees = loadEmployeeIds();
+        long written = 0;
+        try (ImportRun run = new ImportRun(new CsvReader(csv), employees, partitionService.getRetainedFrom())) {
+            boolean more = true;
+            try {
+                while (more) {
+                    Chunk chunk = transactionTemplate.execute(status -> importChunk(run));
+                    run.committed();
+                    written += chunk.written();
+                    more = chunk.more();
+                    log.info("Attendance import: {} rows read, {} accepted, {} rejected, {} days written ({} rows/s)",
+                            run.rowsRead, run.accepted, run.rejected, written,
+                            Math.round(rowsPerSecond(run.rowsRead, start)));
+                }
+            } catch (RuntimeException e) {
+                rebuildCommittedRollups(run, e);
+                throw e;
+            }
+
+            if (run.committedFrom != null) {
+                attendanceService.rebuildRollups(run.committedFrom, run.committedTo);
+            }
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            double rowsPerSecond = rowsPerSecond(run.rowsRead, start);
+            log.info("Imported attendance in {} ms: {} rows read, {} accepted, {} rejected, {} days written ({} rows/s)",
+                    elapsedMillis, run.rowsRead, run.accepted, run.rejected, written, Math.round(rowsPerSecond));
+            return new AttendanceImportResponseDTO(run.rowsRead, run.accepted, run.rejected, written, run.from, run.to,
+                    run.rejectsFile != null ? run.rejectsFile.toString() : null, elapsedMillis, rowsPerSecond);
+        }
+    }
+
+    // Stages up to chunkRows accepted rows and merges them, all in the caller's transaction and connection
+    private Chunk importChunk(ImportRun run) {
+        jdbcTemplate.execute("CREATE TEMPORARY TABLE " + STAGING + " (employee_id BIGINT NOT NULL, " +
+                "date DATE NOT NULL, check_in_time TIMESTAMP, check_out_time TIMESTAMP) ON COMMIT DROP");
+        run.chunkFrom = null;
+        run.chunkTo = null;
+        boolean more = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            PGConnection pg = connection.unwrap(PGConnection.class);
+            try (Writer copy = new BufferedWriter(new OutputStreamWriter(new PGCopyOutputStream(pg,
+                    "COPY " + STAGING + " FROM STDIN WITH (FORMAT csv)"), StandardCharsets.UTF_8), 64 * 1024)) {
+                return run.stage(copy);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        if (run.chunkFrom == null) {
+            return new Chunk(more, 0);
+        }
+        // Temporary tables get no statistics from autovacuum; without them the grouping is planned for a
+        // fraction of the rows and spills to disk
+        jdbcTemplate.execute("ANALYZE " + STAGING);
+        partitionService.ensurePartitions(run.chunkFrom, run.chunkTo);
+        return new Chunk(more, attendanceRepository.mergeStaged(STAGING));
+    }
+
+    // Chunks commit one by one, so the days already written need their rollups even when a later chunk fails
+    private void rebuildCommittedRollups(ImportRun run, RuntimeException failure) {
+        if (run.committedFrom == null) {
+            return;
+        }
+        log.warn("Attendance import failed after committing {} to {}; rebuilding rollups for that range",
+                run.committedFrom, run.committedTo);
+        try {
+            attendanceService.rebuildRollups(run.committedFrom, run.committedTo);
+        } catch (RuntimeException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    // Lower-cased email to id of every employee, read with a cursor rather than one large result
+    private StringLongMap loadEmployeeIds() {
+        long start = System.nanoTime();
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employees", Integer.class);
+        StringLongMap ids = new StringLongMap(count != null ? count : 0);
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("SELECT lower(email), id FROM employees");
+            statement.setFetchSize(10_000);
+            return statement;
+        }, rs -> {
+            ids.put(rs.getString(1), rs.getLong(2));
+        }));
+        log.debug("Loaded {} employee emails in {} ms", ids.size(), (System.nanoTime() - start) / 1_000_000);
+        return ids;
+    }
+
+    private void requirePostgresql() {
+        Boolean postgresql = jdbcTemplate.execute((ConnectionCallback<Boolean>) c -> c.isWrapperFor(PGConnection.class));
+        if (!Boolean.TRUE.equals(postgresql)) {
+            throw new ResponseStatusException(HttpStatus.NOT_IMPLEMENTED, "Attendance import requires PostgreSQL");
+        }
+    }
+
+    private static double rowsPerSecond(long rows, long startNanos) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        return rows == 0 || elapsedNanos == 0 ? 0 : rows / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    private record Chunk(boolean more, int written) {
+    }
+
+    private static class ParseCache<V> extends LinkedHashMap<String, V> {
+
+        private static final int MAX_ENTRIES = 10_000;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    }
+
+    // State of one import: the CSV being read, running totals and the rejects file once there is one
+    private class ImportRun implements Closeable {
+
+        private final CsvReader reader;
+        private final StringLongMap employees;
+        private final LocalDate retainedFrom;
+        private final List<String> header;
+        private final int emailColumn;
+        private final int dateColumn;
+        private final int checkInColumn;
+        private final int checkOutColumn;
+
+        private long rowsRead;
+        private long accepted;
+        private long rejected;
+        private LocalDate from;
+        private LocalDate to;
+        private LocalDate chunkFrom;
+        private LocalDate chunkTo;
+        // Date range of the chunks that have committed so far
+        private LocalDate committedFrom;
+        private LocalDate committedTo;
+        private Path rejectsFile;
+        private Writer rejects;
+
+        // A time clock export repeats the same few days and minutes millions of times; parsing is most of
+        // the per-row cost, so parsed values are memoized in maps that are bounded to keep memory flat
+        private final Map<String, LocalDate> dates = new ParseCache<>();
+        private final Map<String, LocalTime> times = new ParseCache<>();
+
+        ImportRun(CsvReader reader, StringLongMap employees, LocalDate retainedFrom) throws IOException {
+            this.reader = reader;
+            this.employees = employees;
+            this.retainedFrom = retainedFrom;
+            this.header = reader.readRecord();
+            if (header == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV import is empty");
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim(), i);
+            }
+            List<String> missing = REQUIRED_COLUMNS.stream().filter(c -> !columns.containsKey(c)).toList();
+            if (!missing.isEmpty()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV header is missing columns: " + missing);
+            }
+            emailColumn = columns.get("email");
+            dateColumn = columns.get("date");
+            checkInColumn = columns.getOrDefault("checkIn", -1);
+            checkOutColumn = columns.getOrDefault("checkOut", -1);
+        }
+
+        void committed() {
+            if (chunkFrom != null) {
+                committedFrom = committedFrom == null || chunkFrom.isBefore(committedFrom) ? chunkFrom : committedFrom;
+                committedTo = committedTo == null || chunkTo.isAfter(committedTo) ? chunkTo : committedTo;
+            }
+        }
+
+        // Writes accepted rows to the COPY stream until the chunk is full; false once the input is exhausted
+        boolean stage(Writer copy) throws IOException {
+            int staged = 0;
+            List<String> record;
+            while (staged < chunkRows && (record = reader.readRecord()) != null) {
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                rowsRead++;
+                String reason = stageRow(record, copy);
+                if (reason == null) {
+                    staged++;
+                    accepted++;
+                    acceptedCounter.increment();
+                } else {
+                    reject(record, reason);
+                }
+            }
+            return staged == chunkRows;
+        }
+
+        // Null when the row went to the COPY stream, otherwise why it was rejected
+        private String stageRow(List<String> record, Writer copy) throws IOException {
+            String email = value(record, emailColumn);
+            if (email == null) {
+                return "email is required";
+            }
+            long employeeId = employees.get(email.toLowerCase(Locale.ROOT), UNKNOWN);
+            if (employeeId == UNKNOWN) {
+                return "No employee with email '" + email + "'";
+            }
+            String day = value(record, dateColumn);
+            if (day == null) {
+                return "date is required";
+            }
+            LocalDate date;
+            LocalDateTime checkIn;
+            LocalDateTime checkOut;
+            try {
+                date = dates.computeIfAbsent(day, LocalDate::parse);
+                checkIn = time(value(record, checkInColumn), date);
+                checkOut = time(value(record, checkOutColumn), date);
+            } catch (DateTimeParseException e) {
+                return "Malformed date or time '" + e.getParsedString() + "'";
+            }
+            if (checkIn == null && checkOut == null) {
+                return "checkIn or checkOut is required";
+            }
+            if (checkIn != null && checkOut != null && !checkOut.isAfter(checkIn)) {
+                return "checkOut is not after checkIn";
+            }
+            if (retainedFrom != null && date.isBefore(retainedFrom)) {
+                return "date is before " + retainedFrom + ", which has been archived";
+            }
+
+            copy.write(Long.toString(employeeId));
+            copy.write(',');
+            copy.write(date.toString());
+            copy.write(',');
+            if (checkIn != null) {
+                copy.write(checkIn.toString());
+            }
+            copy.write(',');
+            if (checkOut != null) {
+                copy.write(checkOut.toString());
+            }
+            copy.write('\n');
+
+            from = from == null || date.isBefore(from) ? date : from;
+            to = to == null || date.isAfter(to) ? date : to;
+            chunkFrom = chunkFrom == null || date.isBefore(chunkFrom) ? date : chunkFrom;
+            chunkTo = chunkTo == null || date.isAfter(chunkTo) ? date : chunkTo;
+            return null;
+        }
+
+        // A time of day on the row's date, or a full timestamp for shifts that end on another day
+        private LocalDateTime time(String value, LocalDate date) {
+            if (value == null) {
+                return null;
+            }
+            if (value.indexOf('T') >= 0) {
+                return LocalDateTime.parse(value);
+            }
+            return times.computeIfAbsent(value, LocalTime::parse).atDate(date);
+        }
+
+        private void reject(List<String> record, String reason) throws IOException {
+            rejected++;
+            rejectedCounter.increment();
+            if (rejects == null) {
+                Files.createDirectories(rejectsDirectory);
+                rejectsFile = rejectsDirectory.resolve("attendance-import-" +
+                        LocalDateTime.now().format(REJECTS_SUFFIX) + "-rejects.csv");
+                rejects = Files.newBufferedWriter(rejectsFile, StandardCharsets.UTF_8);
+                writeRow(List.of("line", "reason"), header);
+            }
+            writeRow(List.of(Long.toString(reader.getLineNumber()), reason), record);
+        }
+
+        private void writeRow(List<String> leading, List<String> fields) throws IOException {
+            for (String value : leading) {
+                rejects.write(escapeCsv(value));
+                rejects.write(',');
+            }
+            for (int i = 0; i < fields.size(); i++) {
+                if (i > 0) {
+                    rejects.write(',');
+                }
+                rejects.write(escapeCsv(fields.get(i)));
+            }
+            rejects.write('\n');
+        }
+
+        // Trimmed cell value, null when the column is absent or the cell is blank
+        private String value(List<String> record, int index) {
+            if (index < 0 || index >= record.size()) {
+                return null;
+            }
+            String value = record.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try (reader) {
+                if (rejects != null) {
+                    rejects.close();
+                }
+            }
+        }
+    }
+
+    // RFC 4180 quoting for values containing separators, quotes or line breaks
+    private static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
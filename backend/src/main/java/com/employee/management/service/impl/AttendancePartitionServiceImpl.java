@@ -0,0 +1,274 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.dto.response.AttendanceArchiveResponseDTO;
+import com.employee.management.dto.response.AttendancePartitionDTO;
+import com.employee.management.service.AttendancePartitionService;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Date;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps attendance as a PostgreSQL table range-partitioned by month on date, so a date-bounded query
+ * only touches the partitions of its months and old months can be dropped whole instead of deleted row
+ * by row. Hibernate creates attendance as a plain table; on startup it is converted in place, partitions
+ * are created ahead of time, and a nightly job archives partitions past the retention period to
+ * gzip-compressed CSV files before dropping them. Monthly rollups of archived months are kept.
+ * Everything here is a no-op unless employee.attendance.partitioning.enabled is set (PostgreSQL only).
+ */
+@Service
+@Slf4j
+public class AttendancePartitionServiceImpl implements AttendancePartitionService, SmartInitializingSingleton {
+
+    static final String PARENT = "attendance";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final String PARTITION_PATTERN = "^attendance_p[0-9]{4}_[0-9]{2}$";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final Path archiveDirectory;
+    private final Clock clock;
+
+    // Months known to have a partition, so the flush path only issues DDL for a month it has not seen
+    private final Set<YearMonth> partitions = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public AttendancePartitionServiceImpl(JdbcTemplate jdbcTemplate,
+                                          PlatformTransactionManager transactionManager,
+                                          @Value("${employee.attendance.partitioning.enabled:false}") boolean enabled,
+                                          @Value("${employee.attendance.partitioning.months-ahead:3}") int monthsAhead,
+                                          @Value("${employee.attendance.retention.months:0}") int retentionMonths,
+                                          @Value("${employee.attendance.retention.archive-directory:archive/attendance}")
+                                          String archiveDirectory) {
+        this(jdbcTemplate, transactionManager, enabled, monthsAhead, retentionMonths, Path.of(archiveDirectory),
+                Clock.systemDefaultZone());
+    }
+
+    AttendancePartitionServiceImpl(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                   boolean enabled, int monthsAhead, int retentionMonths, Path archiveDirectory,
+                                   Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Its own transaction, so a partition created for a caller's transaction survives that one rolling back
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.archiveDirectory = archiveDirectory;
+        this.clock = clock;
+    }
+
+    // After Hibernate DDL and schema-postgresql.sql, before the web server takes requests
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+        convertToPartitioned();
+        refreshPartitions();
+        maintain();
+    }
+
+    @Scheduled(cron = "${employee.attendance.partitioning.maintenance-cron:0 15 2 * * *}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        LocalDate today = LocalDate.now(clock);
+        ensurePartitions(today.withDayOfMonth(1), today.plusMonths(monthsAhead));
+        archiveExpiredPartitions();
+    }
+
+    @Override
+    public void ensurePartitions(LocalDate from, LocalDate to) {
+        if (!enabled) {
+            return;
+        }
+        for (YearMonth month = YearMonth.from(from); !month.isAfter(YearMonth.from(to)); month = month.plusMonths(1)) {
+            if (!partitions.contains(month)) {
+                YearMonth missing = month;
+                transactionTemplate.executeWithoutResult(status -> createPartition(missing));
+                partitions.add(month);
+            }
+        }
+    }
+
+    @Override
+    public List<AttendancePartitionDTO> getPartitions() {
+        if (!enabled) {
+            return List.of();
+        }
+        return jdbcTemplate.query("SELECT c.relname, c.reltuples FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                        "WHERE i.inhparent = to_regclass(?) ORDER BY c.relname", (rs, rowNum) -> {
+                    YearMonth month = monthOf(rs.getString(1));
+                    return new AttendancePartitionDTO(rs.getString(1), month.atDay(1), month.plusMonths(1).atDay(1),
+                            (long) rs.getFloat(2));
+                }, PARENT);
+    }
+
+    @Override
+    public synchronized List<AttendanceArchiveResponseDTO> archiveExpiredPartitions() {
+        LocalDate retainedFrom = getRetainedFrom();
+        if (retainedFrom == null) {
+            return List.of();
+        }
+        YearMonth cutoff = YearMonth.from(retainedFrom);
+        List<AttendanceArchiveResponseDTO> archived = new ArrayList<>();
+
+        // Attached partitions past retention, plus any a failed earlier run detached but did not drop
+        Map<String, Boolean> candidates = new TreeMap<>();
+        jdbcTemplate.query("SELECT c.relname, c.relispartition FROM pg_class c " +
+                        "WHERE c.relnamespace = current_schema()::regnamespace AND c.relkind = 'r' AND c.relname ~ ?",
+                rs -> {
+                    candidates.put(rs.getString(1), rs.getBoolean(2));
+                }, PARTITION_PATTERN);
+        candidates.forEach((table, attached) -> {
+            if (monthOf(table).isBefore(cutoff)) {
+                archived.add(archive(table, attached));
+            }
+        });
+        return archived;
+    }
+
+    @Override
+    public LocalDate getRetainedFrom() {
+        if (!enabled || retentionMonths <= 0) {
+            return null;
+        }
+        return YearMonth.now(clock).minusMonths(retentionMonths).atDay(1);
+    }
+
+    // Detach first so queries stop seeing the month, then export, then drop once the file is safely on disk
+    private AttendanceArchiveResponseDTO archive(String table, boolean attached) {
+        if (attached) {
+            jdbcTemplate.execute("ALTER TABLE " + PARENT + " DETACH PARTITION " + table);
+        }
+        partitions.remove(monthOf(table));
+        try {
+            Files.createDirectories(archiveDirectory);
+            Path target = archiveDirectory.resolve(table + ".csv.gz");
+            if (Files.exists(target)) {
+                // Rows written for the month after it was first archived
+                target = archiveDirectory.resolve(table + "-" + clock.millis() + ".csv.gz");
+            }
+            Path part = archiveDirectory.resolve(target.getFileName() + ".part");
+            long rows;
+            try (FileChannel channel = FileChannel.open(part, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                try (OutputStream out = new GZIPOutputStream(Channels.newOutputStream(channel), 64 * 1024)) {
+                    rows = copyOut("COPY " + table + " TO STDOUT WITH (FORMAT csv, HEADER)", out);
+                    out.flush();
+                    channel.force(true);
+                }
+            }
+            Files.move(part, target, StandardCopyOption.ATOMIC_MOVE);
+
+            jdbcTemplate.execute("DROP TABLE " + table);
+            long bytes = Files.size(target);
+            log.info("Archived attendance partition {} ({} rows) to {} ({} bytes)", table, rows, target, bytes);
+            return new AttendanceArchiveResponseDTO(table, rows, target.toString(), bytes);
+        } catch (IOException e) {
+            // The detached table is kept and picked up again by the next run
+            throw new UncheckedIOException("Could not archive attendance partition " + table, e);
+        }
+    }
+
+    private long copyOut(String sql, OutputStream out) {
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyOut(sql, out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void createPartition(YearMonth month) {
+        String table = PARENT + "_p" + month.format(SUFFIX);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + table + " PARTITION OF " + PARENT +
+                " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+        log.debug("Attendance partition {} is in place", table);
+    }
+
+    private void refreshPartitions() {
+        partitions.clear();
+        getPartitions().forEach(partition -> partitions.add(YearMonth.from(partition.getFrom())));
+    }
+
+    // One-off conversion of the plain table Hibernate created. Primary and unique keys must include the
+    // partition key, so the primary key becomes (id, date); constraint names are kept so Hibernate's
+    // quiet re-add of the unique key on startup fails on the name instead of building another index
+    private void convertToPartitioned() {
+        String kind = jdbcTemplate.queryForObject("SELECT COALESCE((SELECT relkind::text FROM pg_class " +
+                "WHERE oid = to_regclass(?)), '')", String.class, PARENT);
+        if (!"r".equals(kind)) {
+            return;
+        }
+        log.info("Converting {} to a table partitioned by month", PARENT);
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<String, String> constraints = new HashMap<>();
+            jdbcTemplate.query("SELECT contype::text, conname FROM pg_constraint WHERE conrelid = to_regclass(?)",
+                    rs -> {
+                        constraints.putIfAbsent(rs.getString(1), rs.getString(2));
+                    }, PARENT);
+            String legacy = PARENT + "_unpartitioned";
+
+            jdbcTemplate.execute("LOCK TABLE " + PARENT + " IN ACCESS EXCLUSIVE MODE");
+            jdbcTemplate.execute("ALTER TABLE " + PARENT + " RENAME TO " + legacy);
+            jdbcTemplate.execute("CREATE TABLE " + PARENT + " (LIKE " + legacy + " INCLUDING DEFAULTS) " +
+                    "PARTITION BY RANGE (date)");
+            jdbcTemplate.queryForList("SELECT DISTINCT CAST(date_trunc('month', date) AS DATE) FROM " + legacy, Date.class)
+                    .forEach(month -> createPartition(YearMonth.from(month.toLocalDate())));
+            jdbcTemplate.execute("INSERT INTO " + PARENT + " SELECT * FROM " + legacy);
+            jdbcTemplate.execute("DROP TABLE " + legacy);
+
+            jdbcTemplate.execute("ALTER TABLE " + PARENT + " ADD CONSTRAINT " +
+                    constraints.getOrDefault("p", PARENT + "_pkey") + " PRIMARY KEY (id, date)");
+            jdbcTemplate.execute("ALTER TABLE " + PARENT + " ADD CONSTRAINT " +
+                    constraints.getOrDefault("u", PARENT + "_employee_id_date_key") + " UNIQUE (employee_id, date)");
+            jdbcTemplate.execute("ALTER TABLE " + PARENT + " ADD CONSTRAINT " +
+                    constraints.getOrDefault("f", PARENT + "_employee_id_fkey") +
+                    " FOREIGN KEY (employee_id) REFERENCES employees (id)");
+        });
+        log.info("Converted {} to a partitioned table in {} ms", PARENT, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static YearMonth monthOf(String table) {
+        return YearMonth.parse(table.substring(table.length() - 7), SUFFIX);
+    }
+}
@@ -0,0 +1,427 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.dto.request.AttendancePunchRequestDTO;
+import com.employee.management.dto.request.AttendanceRollupDelta;
+import com.employee.management.dto.request.AttendanceUpsert;
+import com.employee.management.dto.response.AttendanceDepartmentReportDTO;
+import com.employee.management.dto.response.AttendanceIngestResponseDTO;
+import com.employee.management.dto.response.AttendanceMonthlyReportDTO;
+import com.employee.management.dto.response.AttendanceResponseDTO;
+import com.employee.management.dto.response.AttendanceRollupRebuildResponseDTO;
+import com.employee.management.dto.response.EmployeePlacementDTO;
+import com.employee.management.entity.enums.PunchType;
+import com.employee.management.exception.BufferFullException;
+import com.employee.management.repository.AttendanceDepartmentDailyRollupRepository;
+import com.employee.management.repository.AttendanceMonthlyRollupRepository;
+import com.employee.management.repository.AttendanceRepository;
+import com.employee.management.repository.EmployeeRepository;
+import com.employee.management.service.AttendancePartitionService;
+import com.employee.management.service.AttendanceService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Write-behind attendance ingestion. Punches are acknowledged once they are in a bounded in-memory
+ * queue and reach the attendance table in batched upserts on the next flush, one row per employee and
+ * day. Upserts are idempotent, so a badge reader that never saw the acknowledgement can simply resend;
+ * punches still buffered when the process dies are lost the same way and recovered the same way.
+ * <p>
+ * An accepted punch keeps its queue slot until its batch commits. Only punches that can never be written
+ * (an unknown or deleted employee) are dropped; when the database is unreachable or a batch fails for any
+ * other reason, the batch is kept and retried first on the next flush after a backoff, and the queue
+ * filling up in the meantime pushes back on new punches with 503.
+ * <p>
+ * Each flush also moves the monthly per-employee and daily per-department rollups by the difference
+ * its rows made, in the same transaction, so reports read only the rollups. Flushes run one at a time,
+ * which makes this service the only incremental writer of attendance and its rollups; a bulk import
+ * writes attendance directly and rebuilds the rollups of its months when it is done. A rebuild works one
+ * month per transaction and only excludes the flush transactions, so ingestion keeps draining between
+ * months instead of stalling for the whole range.
+ */
+@Service
+@Slf4j
+public class AttendanceServiceImpl implements AttendanceService {
+
+    private final AttendanceRepository attendanceRepository;
+    private final EmployeeRepository employeeRepository;
+    private final AttendanceMonthlyRollupRepository monthlyRollupRepository;
+    private final AttendanceDepartmentDailyRollupRepository departmentDailyRollupRepository;
+    private final AttendancePartitionService partitionService;
+    private final TransactionTemplate transactionTemplate;
+    private final int queueCapacity;
+    private final int batchSize;
+    // A check-in after this time of day counts as a late arrival
+    private final LocalTime lateAfter;
+
+    private final Duration retryBackoff;
+
+    private final BlockingQueue<Punch> queue;
+    // Slots taken by accepted punches, reserved before they are queued so a batch is accepted all or none,
+    // and released only once the punches are committed or dropped
+    private final AtomicInteger reserved = new AtomicInteger();
+    // Drained punches whose batch has not committed yet; written before anything else on the next flush
+    private final List<Punch> pending = new ArrayList<>();
+    private int failedFlushes;
+    private long retryAt;
+    // Held by each flush transaction and each month of a rebuild, so deltas never land in a half-rebuilt month
+    private final Object rollupLock = new Object();
+
+    private final Counter accepted;
+    private final Counter rejected;
+    private final Counter dropped;
+    private final Timer flushTimer;
+    private final Timer lagTimer;
+
+    // receivedAt is System.nanoTime() when the punch was accepted
+    private record Punch(Long employeeId, LocalDate date, LocalDateTime checkIn, LocalDateTime checkOut,
+                         long receivedAt) {
+    }
+
+    // An employee-day, or a rollup key when the date is a month's first day
+    private record Day(Long id, LocalDate date) {
+    }
+
+    public AttendanceServiceImpl(AttendanceRepository attendanceRepository,
+                                 EmployeeRepository employeeRepository,
+                                 AttendanceMonthlyRollupRepository monthlyRollupRepository,
+                                 AttendanceDepartmentDailyRollupRepository departmentDailyRollupRepository,
+                                 AttendancePartitionService partitionService,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${employee.attendance.queue-capacity:100000}") int queueCapacity,
+                                 @Value("${employee.attendance.batch-size:1000}") int batchSize,
+                                 @Value("${employee.attendance.late-after:09:00}") String lateAfter,
+                                 @Value("${employee.attendance.retry-backoff:PT1S}") Duration retryBackoff) {
+        this.attendanceRepository = attendanceRepository;
+        this.employeeRepository = employeeRepository;
+        this.monthlyRollupRepository = monthlyRollupRepository;
+        this.departmentDailyRollupRepository = departmentDailyRollupRepository;
+        this.partitionService = partitionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.lateAfter = LocalTime.parse(lateAfter);
+        this.retryBackoff = retryBackoff;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.accepted = Counter.builder("employee.attendance.punches.accepted")
+                .description("Punches accepted into the write-behind queue")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("employee.attendance.punches.rejected")
+                .description("Punches refused with 503 because the queue was full")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("employee.attendance.punches.dropped")
+                .description("Punches that can never be written, e.g. for an unknown or deleted employee")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("employee.attendance.flush")
+                .description("Time to write one batch of attendance upserts")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("employee.attendance.lag")
+                .description("Time from accepting the oldest punch of a batch to writing it")
+                .register(meterRegistry);
+        Gauge.builder("employee.attendance.queue.depth", reserved, AtomicInteger::get)
+                .description("Punches accepted but not yet committed, including a batch waiting to be retried")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public AttendanceIngestResponseDTO recordPunches(List<AttendancePunchRequestDTO> punches) {
+        int count = punches.size();
+        int taken;
+        do {
+            taken = reserved.get();
+            if (taken + count > queueCapacity) {
+                rejected.increment(count);
+                throw new BufferFullException("Attendance queue is full (" + taken + " of " + queueCapacity +
+                        " punches pending), retry shortly");
+            }
+        } while (!reserved.compareAndSet(taken, taken + count));
+
+        // Never blocks: the reservation above guarantees the room
+        long now = System.nanoTime();
+        for (AttendancePunchRequestDTO punch : punches) {
+            queue.add(toPunch(punch, now));
+        }
+        accepted.increment(count);
+        return new AttendanceIngestResponseDTO(count, queue.size());
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${employee.attendance.flush-interval:PT0.2S}")
+    public synchronized int flush() {
+        if (failedFlushes > 0 && System.nanoTime() - retryAt < 0) {
+            return 0;
+        }
+        return drain();
+    }
+
+    // Punches accepted before shutdown are written before the DataSource closes, backoff or not
+    @PreDestroy
+    synchronized void flushOnShutdown() {
+        int flushed = drain();
+        if (flushed > 0) {
+            log.info("Flushed {} buffered attendance punches on shutdown", flushed);
+        }
+        if (reserved.get() > 0) {
+            log.error("Shutting down with {} attendance punches not written", reserved.get());
+        }
+    }
+
+    private int drain() {
+        int flushed = 0;
+        while (!pending.isEmpty() || queue.drainTo(pending, batchSize) > 0) {
+            int size = pending.size();
+            try {
+                write(pending);
+            } catch (RuntimeException e) {
+                backOff(e);
+                return flushed;
+            }
+            failedFlushes = 0;
+            // Dropped punches gave their slots back already
+            reserved.addAndGet(-pending.size());
+            flushed += size;
+            pending.clear();
+        }
+        return flushed;
+    }
+
+    // The batch stays pending and keeps its slots; waits double with each failure in a row, up to 32 times
+    private void backOff(RuntimeException e) {
+        failedFlushes++;
+        Duration wait = retryBackoff.multipliedBy(1L << Math.min(failedFlushes - 1, 5));
+        retryAt = System.nanoTime() + wait.toNanos();
+        log.error("Attendance batch of {} punches failed ({} in a row), retrying in {}: {}",
+                pending.size(), failedFlushes, wait, e.toString());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AttendanceResponseDTO> getAttendance(Long employeeId, LocalDate from, LocalDate to) {
+        log.debug("Fetching attendance of employee {} from {} to {}", employeeId, from, to);
+        return attendanceRepository.findResponsesByEmployee(employeeId, from, to);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AttendanceMonthlyReportDTO> getMonthlyReport(YearMonth month, Long departmentId) {
+        log.debug("Fetching attendance report for {} (department {})", month, departmentId);
+        return departmentId != null
+                ? monthlyRollupRepository.findReportByDepartment(month.atDay(1), departmentId)
+                : monthlyRollupRepository.findReport(month.atDay(1));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AttendanceDepartmentReportDTO> getDepartmentReport(LocalDate from, LocalDate to) {
+        log.debug("Fetching department attendance report from {} to {}", from, to);
+        return departmentDailyRollupRepository.findReport(from, to);
+    }
+
+    @Override
+    public AttendanceRollupRebuildResponseDTO rebuildRollups(LocalDate from, LocalDate to) {
+        LocalDate first = from.withDayOfMonth(1);
+        LocalDate last = YearMonth.from(to).atEndOfMonth();
+        // Archived months are no longer in attendance; rebuilding them would zero their rollups
+        LocalDate retainedFrom = partitionService.getRetainedFrom();
+        if (retainedFrom != null && first.isBefore(retainedFrom)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Attendance before " + retainedFrom + " has been archived and its rollups cannot be rebuilt");
+        }
+        log.info("Rebuilding attendance rollups from {} to {}", first, last);
+        long start = System.nanoTime();
+
+        int[] written = new int[2];
+        for (LocalDate month = first; month.isBefore(last); month = month.plusMonths(1)) {
+            LocalDate monthStart = month;
+            int[] rows;
+            synchronized (rollupLock) {
+                rows = transactionTemplate.execute(status -> attendanceRepository.rebuildRollups(monthStart,
+                        YearMonth.from(monthStart).atEndOfMonth(), lateAfter));
+            }
+            written[0] += rows[0];
+            written[1] += rows[1];
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Rebuilt {} monthly and {} department-daily attendance rollups in {} ms",
+                written[0], written[1], elapsedMillis);
+        return new AttendanceRollupRebuildResponseDTO(first, last, written[0], written[1], elapsedMillis);
+    }
+
+    // Commits the batch or throws, leaving it for the next flush. Punches that can never be written are
+    // removed from the batch, so a retry neither writes nor counts them again
+    private void write(List<Punch> batch) {
+        long start = System.nanoTime();
+        long oldest = batch.get(0).receivedAt();
+        List<AttendanceUpsert> rows = coalesce(batch);
+        Map<Long, Long> departments = departmentsOf(rows, batch);
+        if (!rows.isEmpty()) {
+            partitionService.ensurePartitions(
+                    rows.stream().map(AttendanceUpsert::date).min(LocalDate::compareTo).orElseThrow(),
+                    rows.stream().map(AttendanceUpsert::date).max(LocalDate::compareTo).orElseThrow());
+            try {
+                commitRows(rows, departments);
+            } catch (DataIntegrityViolationException e) {
+                // An employee deleted since the lookup fails the whole batch; retry row by row to isolate it
+                log.warn("Attendance batch of {} rows failed, retrying row by row: {}",
+                        rows.size(), e.getMostSpecificCause().getMessage());
+                writeOneByOne(rows, departments, batch);
+            }
+        }
+        long end = System.nanoTime();
+        flushTimer.record(end - start, TimeUnit.NANOSECONDS);
+        lagTimer.record(end - oldest, TimeUnit.NANOSECONDS);
+    }
+
+    private void commitRows(List<AttendanceUpsert> rows, Map<Long, Long> departments) {
+        synchronized (rollupLock) {
+            transactionTemplate.executeWithoutResult(status -> writeRows(rows, departments));
+        }
+    }
+
+    // Upserts the rows and moves the rollups by what they changed. The stored days are read (and locked)
+    // first so the difference is exact however often a day is corrected or replayed
+    private void writeRows(List<AttendanceUpsert> rows, Map<Long, Long> departments) {
+        Set<Long> employeeIds = new HashSet<>();
+        LocalDate from = rows.get(0).date();
+        LocalDate to = from;
+        for (AttendanceUpsert row : rows) {
+            employeeIds.add(row.employeeId());
+            from = row.date().isBefore(from) ? row.date() : from;
+            to = row.date().isAfter(to) ? row.date() : to;
+        }
+        Map<Day, AttendanceUpsert> stored = new HashMap<>();
+        for (AttendanceUpsert day : attendanceRepository.findDaysForUpdate(employeeIds, from, to)) {
+            stored.put(new Day(day.employeeId(), day.date()), day);
+        }
+
+        attendanceRepository.upsert(rows);
+
+        Map<Day, AttendanceRollupDelta> monthly = new HashMap<>();
+        Map<Day, AttendanceRollupDelta> daily = new HashMap<>();
+        for (AttendanceUpsert row : rows) {
+            AttendanceUpsert before = stored.get(new Day(row.employeeId(), row.date()));
+            AttendanceUpsert after = before != null ? before.mergedWith(row) : row;
+            BigDecimal hours = hours(after).subtract(hours(before));
+            int present = presence(after) - presence(before);
+            int late = lateness(after) - lateness(before);
+            if (hours.signum() == 0 && present == 0 && late == 0) {
+                continue;
+            }
+            LocalDate month = row.date().withDayOfMonth(1);
+            monthly.merge(new Day(row.employeeId(), month),
+                    new AttendanceRollupDelta(row.employeeId(), month, hours, present, late), AttendanceRollupDelta::plus);
+            Long departmentId = departments.get(row.employeeId());
+            if (departmentId != null) {
+                daily.merge(new Day(departmentId, row.date()),
+                        new AttendanceRollupDelta(departmentId, row.date(), hours, present, late), AttendanceRollupDelta::plus);
+            }
+        }
+        attendanceRepository.addToMonthlyRollups(monthly.values().stream().filter(d -> !d.isZero()).toList());
+        attendanceRepository.addToDepartmentDailyRollups(daily.values().stream().filter(d -> !d.isZero()).toList());
+    }
+
+    // Department of each employee in the batch (null when unassigned). One primary-key lookup per batch,
+    // which also drops punches of unknown employees so a bad id cannot push every batch onto the slow path
+    private Map<Long, Long> departmentsOf(List<AttendanceUpsert> rows, List<Punch> batch) {
+        Set<Long> ids = new HashSet<>();
+        rows.forEach(row -> ids.add(row.employeeId()));
+        Map<Long, Long> departments = new HashMap<>();
+        for (EmployeePlacementDTO placement : employeeRepository.findPlacementsByIdIn(ids)) {
+            departments.put(placement.getId(), placement.getDepartmentId());
+        }
+        if (departments.size() == ids.size()) {
+            return departments;
+        }
+        rows.removeIf(row -> !departments.containsKey(row.employeeId()));
+        ids.removeAll(departments.keySet());
+        int before = batch.size();
+        batch.removeIf(p -> ids.contains(p.employeeId()));
+        int punches = before - batch.size();
+        reserved.addAndGet(-punches);
+        dropped.increment(punches);
+        log.warn("Dropped {} attendance punch(es) of unknown employee(s) {}", punches, ids);
+        return departments;
+    }
+
+    // Only a constraint violation drops a row; any other failure ends the attempt and the batch is retried,
+    // rewriting the rows committed here, which the upsert and the stored-day deltas make harmless
+    private void writeOneByOne(List<AttendanceUpsert> rows, Map<Long, Long> departments, List<Punch> batch) {
+        for (AttendanceUpsert row : rows) {
+            try {
+                commitRows(List.of(row), departments);
+            } catch (DataIntegrityViolationException e) {
+                int before = batch.size();
+                batch.removeIf(p -> p.employeeId().equals(row.employeeId()) && p.date().equals(row.date()));
+                int punches = before - batch.size();
+                reserved.addAndGet(-punches);
+                dropped.increment(punches);
+                log.warn("Dropped {} attendance punch(es) of employee {} on {}: {}",
+                        punches, row.employeeId(), row.date(), e.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+
+    private int presence(AttendanceUpsert day) {
+        return day != null && day.checkInTime() != null ? 1 : 0;
+    }
+
+    private int lateness(AttendanceUpsert day) {
+        return day != null && day.lateAfter(lateAfter) ? 1 : 0;
+    }
+
+    private static BigDecimal hours(AttendanceUpsert day) {
+        BigDecimal hours = day != null ? day.hoursWorked() : null;
+        return hours != null ? hours : BigDecimal.ZERO;
+    }
+
+    // One row per employee and day, so a statement never has to update the same row twice
+    private List<AttendanceUpsert> coalesce(List<Punch> batch) {
+        Map<Day, AttendanceUpsert> days = new LinkedHashMap<>();
+        for (Punch punch : batch) {
+            days.merge(new Day(punch.employeeId(), punch.date()),
+                    new AttendanceUpsert(punch.employeeId(), punch.date(), punch.checkIn(), punch.checkOut()),
+                    AttendanceUpsert::mergedWith);
+        }
+        return new ArrayList<>(days.values());
+    }
+
+    private Punch toPunch(AttendancePunchRequestDTO punch, long receivedAt) {
+        LocalDate date = punch.getDate() != null ? punch.getDate() : punch.getTimestamp().toLocalDate();
+        boolean checkIn = punch.getType() == PunchType.CHECK_IN;
+        return new Punch(punch.getEmployeeId(), date,
+                checkIn ? punch.getTimestamp() : null, checkIn ? null : punch.getTimestamp(), receivedAt);
+    }
+}
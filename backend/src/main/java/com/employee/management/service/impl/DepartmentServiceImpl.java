@@ -1,18 +1,22 @@
 package com.employee.management.service.impl;
 
+import com.employee.management.config.CacheConfig;
 import com.employee.management.dto.request.DepartmentRequestDTO;
 import com.employee.management.dto.response.DepartmentResponseDTO;
+import com.employee.management.dto.response.ListFingerprintDTO;
 import com.employee.management.entity.Department;
+import com.employee.management.exception.PreconditionFailedException;
 import com.employee.management.repository.DepartmentRepository;
 import com.employee.management.repository.EmployeeRepository;
 import com.employee.management.service.DepartmentService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -22,6 +26,7 @@ public class DepartmentServiceImpl implements DepartmentService {
 
     private final DepartmentRepository departmentRepository;
     private final EmployeeRepository employeeRepository;
+    private final CacheManager cacheManager;
 
     @Override
     public DepartmentResponseDTO createDepartment(DepartmentRequestDTO requestDTO) {
@@ -41,16 +46,17 @@ public class DepartmentServiceImpl implements DepartmentService {
         Department savedDepartment = departmentRepository.save(department);
 
         log.info("Department created successfully with ID: {}", savedDepartment.getId());
-        return convertToResponseDTO(savedDepartment);
+        return convertToResponseDTO(savedDepartment, 0);
     }
 
     @Override
-    public DepartmentResponseDTO updateDepartment(Long id, DepartmentRequestDTO requestDTO) {
+    public DepartmentResponseDTO updateDepartment(Long id, DepartmentRequestDTO requestDTO, Long expectedVersion) {
         log.info("Updating department with ID: {}", id);
 
         // Find existing department
         Department department = departmentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Department not found with ID: " + id));
+        PreconditionFailedException.checkVersion("Department", id, expectedVersion, department.getVersion());
 
         // Check if new name conflicts with another department
         if (!department.getName().equals(requestDTO.getName()) &&
@@ -58,24 +64,30 @@ public class DepartmentServiceImpl implements DepartmentService {
             throw new RuntimeException("Department with name '" + requestDTO.getName() + "' already exists");
         }
 
+        // Cached employee responses embed the department name
+        if (!department.getName().equals(requestDTO.getName())) {
+            evictCachedEmployees(employeeRepository.findIdsByDepartmentId(id));
+        }
+
         // Update fields
         department.setName(requestDTO.getName());
         department.setDescription(requestDTO.getDescription());
 
-        // Save changes
-        Department updatedDepartment = departmentRepository.save(department);
+        // Save changes, flushed so the response carries the incremented version
+        Department updatedDepartment = departmentRepository.saveAndFlush(department);
 
         log.info("Department updated successfully");
-        return convertToResponseDTO(updatedDepartment);
+        return convertToResponseDTO(updatedDepartment, employeeRepository.countByDepartmentId(id).intValue());
     }
 
     @Override
-    public void deleteDepartment(Long id) {
+    public void deleteDepartment(Long id, Long expectedVersion) {
         log.info("Deleting department with ID: {}", id);
 
         // Check if department exists
         Department department = departmentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Department not found with ID: " + id));
+        PreconditionFailedException.checkVersion("Department", id, expectedVersion, department.getVersion());
 
         // Check if department has employees
         long employeeCount = employeeRepository.countByDepartmentId(id);
@@ -95,10 +107,8 @@ public class DepartmentServiceImpl implements DepartmentService {
     public DepartmentResponseDTO getDepartmentById(Long id) {
         log.info("Fetching department with ID: {}", id);
 
-        Department department = departmentRepository.findById(id)
+        return departmentRepository.findResponseById(id)
                 .orElseThrow(() -> new RuntimeException("Department not found with ID: " + id));
-
-        return convertToResponseDTO(department);
     }
 
     @Override
@@ -106,10 +116,7 @@ public class DepartmentServiceImpl implements DepartmentService {
     public List<DepartmentResponseDTO> getAllDepartments() {
         log.info("Fetching all departments");
 
-        return departmentRepository.findAll()
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return departmentRepository.findAllResponses();
     }
 
     @Override
@@ -117,21 +124,33 @@ public class DepartmentServiceImpl implements DepartmentService {
     public DepartmentResponseDTO getDepartmentByName(String name) {
         log.info("Fetching department by name: {}", name);
 
-        Department department = departmentRepository.findByName(name)
+        return departmentRepository.findResponseByName(name)
                 .orElseThrow(() -> new RuntimeException("Department not found with name: " + name));
+    }
 
-        return convertToResponseDTO(department);
+    @Override
+    @Transactional(readOnly = true)
+    public ListFingerprintDTO getDepartmentsFingerprint() {
+        return departmentRepository.findFingerprint();
     }
 
-    // Helper method to convert Entity to DTO
-    private DepartmentResponseDTO convertToResponseDTO(Department department) {
+    // Helper method to convert Entity to DTO (read paths use the DepartmentRepository projections; also benchmarked)
+    static DepartmentResponseDTO convertToResponseDTO(Department department, int employeeCount) {
         DepartmentResponseDTO dto = new DepartmentResponseDTO();
         dto.setId(department.getId());
         dto.setName(department.getName());
         dto.setDescription(department.getDescription());
-        dto.setEmployeeCount(employeeRepository.countByDepartmentId(department.getId()).intValue());
+        dto.setEmployeeCount(employeeCount);
         dto.setCreatedAt(department.getCreatedAt());
         dto.setUpdatedAt(department.getUpdatedAt());
+        dto.setVersion(department.getVersion());
         return dto;
     }
+
+    private void evictCachedEmployees(List<Long> employeeIds) {
+        Cache cache = cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE);
+        if (cache != null) {
+            employeeIds.forEach(cache::evict);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.dto.response.EmployeeResponseDTO;
+import com.employee.management.repository.EmployeeRepository;
+import com.employee.management.service.EmployeeExportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class EmployeeExportServiceImpl implements EmployeeExportService {
+
+    private static final String CSV_HEADER = "id,firstName,lastName,email,phone,dateOfBirth,hireDate,salary," +
+            "address,status,departmentId,departmentName,positionId,positionTitle,createdAt,updatedAt";
+
+    private final EmployeeRepository employeeRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void exportEmployeesAsNdjson(OutputStream outputStream) throws IOException {
+        log.info("Exporting employees as NDJSON");
+
+        Writer writer = newWriter(outputStream);
+        long rows = 0;
+        try (Stream<EmployeeResponseDTO> employees = employeeRepository.streamAllResponses()) {
+            Iterator<EmployeeResponseDTO> iterator = employees.iterator();
+            while (iterator.hasNext()) {
+                writer.write(objectMapper.writeValueAsString(iterator.next()));
+                writer.write('\n');
+                rows++;
+            }
+        }
+        writer.flush();
+
+        log.info("Exported {} employees as NDJSON", rows);
+    }
+
+    @Override
+    public void exportEmployeesAsCsv(OutputStream outputStream) throws IOException {
+        log.info("Exporting employees as CSV");
+
+        Writer writer = newWriter(outputStream);
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        long rows = 0;
+        try (Stream<EmployeeResponseDTO> employees = employeeRepository.streamAllResponses()) {
+            Iterator<EmployeeResponseDTO> iterator = employees.iterator();
+            while (iterator.hasNext()) {
+                writeCsvRow(writer, iterator.next());
+                rows++;
+            }
+        }
+        writer.flush();
+
+        log.info("Exported {} employees as CSV", rows);
+    }
+
+    // Buffered so each row does not become its own socket write
+    private Writer newWriter(OutputStream outputStream) {
+        return new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    private void writeCsvRow(Writer writer, EmployeeResponseDTO dto) throws IOException {
+        Object[] values = {
+                dto.getId(), dto.getFirstName(), dto.getLastName(), dto.getEmail(), dto.getPhone(),
+                dto.getDateOfBirth(), dto.getHireDate(), dto.getSalary(), dto.getAddress(), dto.getStatus(),
+                dto.getDepartmentId(), dto.getDepartmentName(), dto.getPositionId(), dto.getPositionTitle(),
+                dto.getCreatedAt(), dto.getUpdatedAt()
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(escapeCsv(values[i].toString()));
+            }
+        }
+        writer.write('\n');
+    }
+
+    // RFC 4180 quoting for values containing separators, quotes or line breaks
+    private String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
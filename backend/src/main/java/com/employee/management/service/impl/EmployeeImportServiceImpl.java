@@ -0,0 +1,245 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.dto.request.EmployeeRequestDTO;
+import com.employee.management.dto.response.BulkImportResponseDTO;
+import com.employee.management.dto.response.EmployeeResponseDTO;
+import com.employee.management.entity.Department;
+import com.employee.management.entity.Employee;
+import com.employee.management.entity.Position;
+import com.employee.management.entity.enums.EmployeeStatus;
+import com.employee.management.event.EmployeeBatchChangedEvent;
+import com.employee.management.repository.DepartmentRepository;
+import com.employee.management.repository.EmployeeRepository;
+import com.employee.management.repository.PositionRepository;
+import com.employee.management.service.EmployeeImportService;
+import com.employee.management.util.CsvReader;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class EmployeeImportServiceImpl implements EmployeeImportService {
+
+    private static final List<String> REQUIRED_CSV_COLUMNS = List.of("firstName", "lastName", "email", "hireDate");
+    private static final int MAX_REPORTED_ERRORS = 20;
+    private static final int EMAIL_LOOKUP_CHUNK = 5000;
+
+    private final EmployeeRepository employeeRepository;
+    private final DepartmentRepository departmentRepository;
+    private final PositionRepository positionRepository;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${employee.import.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public BulkImportResponseDTO importEmployees(List<EmployeeRequestDTO> requests) {
+        log.info("Importing {} employees", requests.size());
+        long start = System.nanoTime();
+
+        // Validate the whole batch up front - nothing is written if any row is rejected
+        List<String> errors = new ArrayList<>();
+        validateRows(requests, errors);
+        Map<Long, Department> departments = resolve(requests, EmployeeRequestDTO::getDepartmentId,
+                departmentRepository::findAllById, Department::getId, "Department", errors);
+        Map<Long, Position> positions = resolve(requests, EmployeeRequestDTO::getPositionId,
+                positionRepository::findAllById, Position::getId, "Position", errors);
+        checkEmailsAreNew(requests, errors);
+        rejectIfAny(errors);
+
+        // Flush and clear every batch so the persistence context stays small, and announce each batch with
+        // one event so after-commit listeners apply it in one pass instead of once per row
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+        List<EmployeeResponseDTO> batch = new ArrayList<>(Math.min(batchSize, requests.size()));
+        for (EmployeeRequestDTO request : requests) {
+            Employee employee = toEntity(request, departments, positions);
+            entityManager.persist(employee);
+            batch.add(EmployeeServiceImpl.convertToResponseDTO(employee));
+            if (batch.size() == batchSize) {
+                flushBatch(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        flushBatch(batch);
+
+        long elapsedNanos = System.nanoTime() - start;
+        double rowsPerSecond = requests.isEmpty() ? 0 : requests.size() / (elapsedNanos / 1_000_000_000.0);
+        log.info("Imported {} employees in {} ms ({} rows/s)",
+                requests.size(), elapsedNanos / 1_000_000, Math.round(rowsPerSecond));
+        return new BulkImportResponseDTO(requests.size(), elapsedNanos / 1_000_000, rowsPerSecond);
+    }
+
+    @Override
+    public BulkImportResponseDTO importEmployeesFromCsv(Reader csv) throws IOException {
+        List<EmployeeRequestDTO> requests = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+
+        try (CsvReader reader = new CsvReader(csv)) {
+            List<String> header = reader.readRecord();
+            if (header == null) {
+                throw new RuntimeException("CSV import is empty");
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim(), i);
+            }
+            List<String> missing = REQUIRED_CSV_COLUMNS.stream().filter(c -> !columns.containsKey(c)).toList();
+            if (!missing.isEmpty()) {
+                throw new RuntimeException("CSV header is missing columns: " + missing);
+            }
+
+            List<String> record;
+            while ((record = reader.readRecord()) != null) {
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                try {
+                    requests.add(toRequest(record, columns));
+                } catch (RuntimeException e) {
+                    errors.add("Line " + reader.getLineNumber() + ": " + e.getMessage());
+                }
+            }
+        }
+        rejectIfAny(errors);
+
+        return importEmployees(requests);
+    }
+
+    private void flushBatch(List<EmployeeResponseDTO> batch) {
+        entityManager.flush();
+        entityManager.clear();
+        if (!batch.isEmpty()) {
+            eventPublisher.publishEvent(new EmployeeBatchChangedEvent(batch));
+        }
+    }
+
+    private void validateRows(List<EmployeeRequestDTO> requests, List<String> errors) {
+        Set<String> emails = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            EmployeeRequestDTO request = requests.get(i);
+            for (ConstraintViolation<EmployeeRequestDTO> violation : validator.validate(request)) {
+                errors.add("Row " + (i + 1) + ": " + violation.getPropertyPath() + " - " + violation.getMessage());
+            }
+            if (request.getEmail() != null && !emails.add(request.getEmail())) {
+                errors.add("Row " + (i + 1) + ": email '" + request.getEmail() + "' appears more than once");
+            }
+        }
+    }
+
+    // One findAllById per association for the whole batch
+    private <T> Map<Long, T> resolve(List<EmployeeRequestDTO> requests, Function<EmployeeRequestDTO, Long> idGetter,
+                                     Function<Set<Long>, List<T>> loader, Function<T, Long> idOf,
+                                     String label, List<String> errors) {
+        Set<Long> ids = requests.stream().map(idGetter).filter(Objects::nonNull).collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, T> found = loader.apply(ids).stream().collect(Collectors.toMap(idOf, Function.identity()));
+        ids.stream()
+                .filter(id -> !found.containsKey(id))
+                .sorted()
+                .forEach(id -> errors.add(label + " not found with ID: " + id));
+        return found;
+    }
+
+    private void checkEmailsAreNew(List<EmployeeRequestDTO> requests, List<String> errors) {
+        List<String> emails = requests.stream().map(EmployeeRequestDTO::getEmail).filter(Objects::nonNull).toList();
+        for (int from = 0; from < emails.size(); from += EMAIL_LOOKUP_CHUNK) {
+            List<String> chunk = emails.subList(from, Math.min(from + EMAIL_LOOKUP_CHUNK, emails.size()));
+            employeeRepository.findExistingEmails(chunk)
+                    .forEach(email -> errors.add("Employee with email '" + email + "' already exists"));
+        }
+    }
+
+    private void rejectIfAny(List<String> errors) {
+        if (errors.isEmpty()) {
+            return;
+        }
+        String shown = errors.stream().limit(MAX_REPORTED_ERRORS).collect(Collectors.joining("; "));
+        String more = errors.size() > MAX_REPORTED_ERRORS ? " (and " + (errors.size() - MAX_REPORTED_ERRORS) + " more)" : "";
+        throw new RuntimeException("Bulk import rejected, " + errors.size() + " error(s): " + shown + more);
+    }
+
+    private Employee toEntity(EmployeeRequestDTO request, Map<Long, Department> departments,
+                              Map<Long, Position> positions) {
+        Employee employee = new Employee();
+        employee.setFirstName(request.getFirstName());
+        employee.setLastName(request.getLastName());
+        employee.setEmail(request.getEmail());
+        employee.setPhone(request.getPhone());
+        employee.setDateOfBirth(request.getDateOfBirth());
+        employee.setHireDate(request.getHireDate());
+        employee.setSalary(request.getSalary());
+        employee.setAddress(request.getAddress());
+        employee.setStatus(request.getStatus() != null ? request.getStatus() : EmployeeStatus.ACTIVE);
+        if (request.getDepartmentId() != null) {
+            employee.setDepartment(departments.get(request.getDepartmentId()));
+        }
+        if (request.getPositionId() != null) {
+            employee.setPosition(positions.get(request.getPositionId()));
+        }
+        return employee;
+    }
+
+    private EmployeeRequestDTO toRequest(List<String> record, Map<String, Integer> columns) {
+        EmployeeRequestDTO request = new EmployeeRequestDTO();
+        request.setFirstName(value(record, columns, "firstName"));
+        request.setLastName(value(record, columns, "lastName"));
+        request.setEmail(value(record, columns, "email"));
+        request.setPhone(value(record, columns, "phone"));
+        request.setAddress(value(record, columns, "address"));
+
+        String dateOfBirth = value(record, columns, "dateOfBirth");
+        request.setDateOfBirth(dateOfBirth != null ? LocalDate.parse(dateOfBirth) : null);
+        String hireDate = value(record, columns, "hireDate");
+        request.setHireDate(hireDate != null ? LocalDate.parse(hireDate) : null);
+        String salary = value(record, columns, "salary");
+        request.setSalary(salary != null ? new BigDecimal(salary) : null);
+        String status = value(record, columns, "status");
+        request.setStatus(status != null ? EmployeeStatus.valueOf(status.toUpperCase()) : null);
+        String departmentId = value(record, columns, "departmentId");
+        request.setDepartmentId(departmentId != null ? Long.valueOf(departmentId) : null);
+        String positionId = value(record, columns, "positionId");
+        request.setPositionId(positionId != null ? Long.valueOf(positionId) : null);
+        return request;
+    }
+
+    // Trimmed cell value, null when the column is absent or the cell is blank
+    private String value(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+}
@@ -1,23 +1,66 @@
 package com.employee.management.service.impl;
 
+import com.employee.management.config.CacheConfig;
+import com.employee.management.dto.request.EmployeeBulkDepartmentRequestDTO;
+import com.employee.management.dto.request.EmployeeBulkStatusRequestDTO;
+import com.employee.management.dto.request.EmployeeFieldSelection;
 import com.employee.management.dto.request.EmployeeRequestDTO;
+import com.employee.management.dto.response.BulkUpdateResponseDTO;
+import com.employee.management.dto.response.EmployeeBatchResponseDTO;
+import com.employee.management.dto.response.EmployeeFieldsDTO;
 import com.employee.management.dto.response.EmployeeResponseDTO;
+import com.employee.management.dto.response.EmployeeScrollResponseDTO;
+import com.employee.management.entity.BaseEntity;
 import com.employee.management.entity.Department;
 import com.employee.management.entity.Employee;
 import com.employee.management.entity.Position;
 import com.employee.management.entity.enums.EmployeeStatus;
+import com.employee.management.event.EmployeeBatchChangedEvent;
+import com.employee.management.event.EmployeeChangedEvent;
+import com.employee.management.exception.PreconditionFailedException;
 import com.employee.management.repository.DepartmentRepository;
 import com.employee.management.repository.EmployeeRepository;
 import com.employee.management.repository.PositionRepository;
 import com.employee.management.service.EmployeeService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.web.server.ResponseStatusException;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,9 +69,31 @@ import java.util.stream.Collectors;
 @Transactional
 public class EmployeeServiceImpl implements EmployeeService {
 
+    // Non-null columns backed by a (column, id) index, usable as keyset sort keys
+    private static final Set<String> SCROLL_SORT_KEYS =
+            Set.of("id", "firstName", "lastName", "email", "hireDate", "createdAt");
+
+    private static final int MAX_SEARCH_RESULTS = 100;
+
+    // Searches rank the matches nearest to the keyword only; a page starting past them is refused with 400
+    private static final int MAX_SEARCH_MATCHES = 1000;
+
+    // Ids resolved per multi-get request, matching EmployeeBatchGetRequestDTO
+    private static final int MAX_BATCH_GET_IDS = 1000;
+
+    // Ids bound per bulk UPDATE statement, well under PostgreSQL's bind parameter limit
+    private static final int BULK_UPDATE_CHUNK = 10_000;
+
     private final EmployeeRepository employeeRepository;
     private final DepartmentRepository departmentRepository;
     private final PositionRepository positionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Value("${employee.search.full-text-enabled:false}")
+    private boolean fullTextSearchEnabled;
 
     @Override
     public EmployeeResponseDTO createEmployee(EmployeeRequestDTO requestDTO) {
@@ -69,16 +134,20 @@ public class EmployeeServiceImpl implements EmployeeService {
         Employee savedEmployee = employeeRepository.save(employee);
 
         log.info("Employee created successfully with ID: {}", savedEmployee.getId());
-        return convertToResponseDTO(savedEmployee);
+        EmployeeResponseDTO response = convertToResponseDTO(savedEmployee);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(response));
+        return response;
     }
 
     @Override
-    public EmployeeResponseDTO updateEmployee(Long id, EmployeeRequestDTO requestDTO) {
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#id")
+    public EmployeeResponseDTO updateEmployee(Long id, EmployeeRequestDTO requestDTO, Long expectedVersion) {
         log.info("Updating employee with ID: {}", id);
 
         // Find existing employee
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Employee not found with ID: " + id));
+        checkVersion(employee, expectedVersion);
 
         // Check email conflicts
         if (!employee.getEmail().equals(requestDTO.getEmail()) &&
@@ -118,36 +187,216 @@ public class EmployeeServiceImpl implements EmployeeService {
             employee.setPosition(null);
         }
 
-        // Save
-        Employee updatedEmployee = employeeRepository.save(employee);
+        // Flush so the response carries the incremented version and new updatedAt
+        Employee updatedEmployee = employeeRepository.saveAndFlush(employee);
 
         log.info("Employee updated successfully");
-        return convertToResponseDTO(updatedEmployee);
+        EmployeeResponseDTO response = convertToResponseDTO(updatedEmployee);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(response));
+        return response;
     }
 
     @Override
-    public void deleteEmployee(Long id) {
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#id")
+    public EmployeeResponseDTO patchEmployee(Long id, JsonNode patch, Long expectedVersion) {
+        log.info("Patching employee with ID: {}", id);
+
+        if (patch == null || !patch.isObject()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Merge patch must be a JSON object");
+        }
+
+        // Department and position come back in the same SELECT, so the response needs no further reads
+        Employee employee = employeeRepository.findWithPlacementById(id)
+                .orElseThrow(() -> new RuntimeException("Employee not found with ID: " + id));
+        checkVersion(employee, expectedVersion);
+
+        // Merge onto the current state and validate the result the same way a PUT body is validated
+        EmployeeRequestDTO merged;
+        try {
+            // A misspelt or read-only field (id, version, departmentName) would otherwise be dropped silently
+            merged = objectMapper.readerForUpdating(toRequestDTO(employee))
+                    .with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .readValue(patch);
+        } catch (JacksonException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid merge patch: " + e.getOriginalMessage());
+        }
+        Set<ConstraintViolation<EmployeeRequestDTO>> violations = validator.validate(merged);
+        if (!violations.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+
+        // Only an actual email change needs the uniqueness lookup
+        if (!employee.getEmail().equals(merged.getEmail()) &&
+                employeeRepository.existsByEmail(merged.getEmail())) {
+            throw new RuntimeException("Employee with email '" + merged.getEmail() + "' already exists");
+        }
+
+        // Setting an unchanged value leaves the column clean, so @DynamicUpdate writes just the patched ones
+        employee.setFirstName(merged.getFirstName());
+        employee.setLastName(merged.getLastName());
+        employee.setEmail(merged.getEmail());
+        employee.setPhone(merged.getPhone());
+        employee.setDateOfBirth(merged.getDateOfBirth());
+        employee.setHireDate(merged.getHireDate());
+        employee.setSalary(merged.getSalary());
+        employee.setAddress(merged.getAddress());
+
+        if (merged.getStatus() != null) {
+            employee.setStatus(merged.getStatus());
+        }
+
+        // Changed associations are set as unloaded references once they are known to exist; unchanged ones cost nothing
+        if (!Objects.equals(merged.getDepartmentId(), idOf(employee.getDepartment()))) {
+            if (merged.getDepartmentId() != null && !departmentRepository.existsById(merged.getDepartmentId())) {
+                throw new RuntimeException("Department not found with ID: " + merged.getDepartmentId());
+            }
+            employee.setDepartment(merged.getDepartmentId() != null
+                    ? departmentRepository.getReferenceById(merged.getDepartmentId()) : null);
+        }
+        if (!Objects.equals(merged.getPositionId(), idOf(employee.getPosition()))) {
+            if (merged.getPositionId() != null && !positionRepository.existsById(merged.getPositionId())) {
+                throw new RuntimeException("Position not found with ID: " + merged.getPositionId());
+            }
+            employee.setPosition(merged.getPositionId() != null
+                    ? positionRepository.getReferenceById(merged.getPositionId()) : null);
+        }
+
+        Employee patchedEmployee = employeeRepository.saveAndFlush(employee);
+
+        log.info("Employee patched successfully");
+        EmployeeResponseDTO response = convertToResponseDTO(patchedEmployee);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(response));
+        return response;
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#id")
+    public void deleteEmployee(Long id, Long expectedVersion) {
         log.info("Deleting employee with ID: {}", id);
 
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Employee not found with ID: " + id));
+        checkVersion(employee, expectedVersion);
 
         // Soft delete - just change status instead of actually deleting
         employee.setStatus(EmployeeStatus.TERMINATED);
-        employeeRepository.save(employee);
+        Employee terminatedEmployee = employeeRepository.save(employee);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(convertToResponseDTO(terminatedEmployee)));
 
         log.info("Employee status changed to TERMINATED");
     }
 
+    @Override
+    public BulkUpdateResponseDTO updateStatuses(EmployeeBulkStatusRequestDTO requestDTO) {
+        log.info("Bulk updating employee status to {}", requestDTO.getStatus());
+        requireBulkFilter(requestDTO.getIds(), requestDTO.getDepartmentId(), requestDTO.getCurrentStatus());
+
+        List<Long> ids = employeeRepository.findIdsForStatusChange(requestDTO.getIds(),
+                requestDTO.getDepartmentId(), requestDTO.getCurrentStatus(), requestDTO.getStatus());
+
+        LocalDateTime now = LocalDateTime.now();
+        int affected = 0;
+        for (List<Long> chunk : chunks(ids)) {
+            affected += employeeRepository.updateStatusByIdIn(chunk, requestDTO.getStatus(), now);
+        }
+        afterBulkUpdate(ids);
+
+        log.info("Bulk status update changed {} employees", affected);
+        return new BulkUpdateResponseDTO(affected);
+    }
+
+    @Override
+    public BulkUpdateResponseDTO reassignDepartment(EmployeeBulkDepartmentRequestDTO requestDTO) {
+        log.info("Bulk reassigning employees to department ID: {}", requestDTO.getTargetDepartmentId());
+        requireBulkFilter(requestDTO.getIds(), requestDTO.getDepartmentId(), requestDTO.getCurrentStatus());
+
+        Department department = departmentRepository.findById(requestDTO.getTargetDepartmentId())
+                .orElseThrow(() -> new RuntimeException("Department not found with ID: " + requestDTO.getTargetDepartmentId()));
+        Position position = null;
+        if (requestDTO.getTargetPositionId() != null) {
+            position = positionRepository.findById(requestDTO.getTargetPositionId())
+                    .orElseThrow(() -> new RuntimeException("Position not found with ID: " + requestDTO.getTargetPositionId()));
+            if (!position.getDepartment().getId().equals(department.getId())) {
+                throw new RuntimeException("Position " + position.getId() + " does not belong to department " + department.getId());
+            }
+        }
+
+        List<Long> ids = employeeRepository.findIdsForDepartmentChange(requestDTO.getIds(),
+                requestDTO.getDepartmentId(), requestDTO.getCurrentStatus(),
+                department.getId(), requestDTO.getTargetPositionId());
+
+        LocalDateTime now = LocalDateTime.now();
+        int affected = 0;
+        for (List<Long> chunk : chunks(ids)) {
+            affected += position != null
+                    ? employeeRepository.updateDepartmentAndPositionByIdIn(chunk, department, position, now)
+                    : employeeRepository.updateDepartmentByIdIn(chunk, department, now);
+        }
+        afterBulkUpdate(ids);
+
+        log.info("Bulk department reassignment moved {} employees", affected);
+        return new BulkUpdateResponseDTO(affected);
+    }
+
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#id")
     public EmployeeResponseDTO getEmployeeById(Long id) {
         log.info("Fetching employee with ID: {}", id);
 
-        Employee employee = employeeRepository.findById(id)
+        return employeeRepository.findResponseById(id)
                 .orElseThrow(() -> new RuntimeException("Employee not found with ID: " + id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EmployeeBatchResponseDTO getEmployeesByIds(List<Long> ids) {
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        requested.remove(null);
+        if (requested.size() > MAX_BATCH_GET_IDS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + MAX_BATCH_GET_IDS + " ids can be fetched per request");
+        }
+        log.info("Fetching {} employees by ID", requested.size());
+
+        Cache cache = cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE);
+        Map<Long, EmployeeResponseDTO> found = new HashMap<>(requested.size() * 2);
+        List<Long> misses = new ArrayList<>();
+        for (Long id : requested) {
+            EmployeeResponseDTO cached = cache != null ? cache.get(id, EmployeeResponseDTO.class) : null;
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+
+        // One joined SELECT for everything the cache did not have; the results warm it for next time
+        if (!misses.isEmpty()) {
+            for (EmployeeResponseDTO employee : employeeRepository.findResponsesByIdIn(misses)) {
+                found.put(employee.getId(), employee);
+                if (cache != null) {
+                    cache.put(employee.getId(), employee);
+                }
+            }
+        }
 
-        return convertToResponseDTO(employee);
+        List<EmployeeResponseDTO> employees = new ArrayList<>(found.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : requested) {
+            EmployeeResponseDTO employee = found.get(id);
+            if (employee != null) {
+                employees.add(employee);
+            } else {
+                missing.add(id);
+            }
+        }
+        log.debug("Multi-get served {} from cache, {} from the database, {} missing",
+                requested.size() - misses.size(), misses.size() - missing.size(), missing.size());
+        return new EmployeeBatchResponseDTO(employees, missing);
     }
 
     @Override
@@ -155,10 +404,7 @@ public class EmployeeServiceImpl implements EmployeeService {
     public List<EmployeeResponseDTO> getAllEmployees() {
         log.info("Fetching all employees");
 
-        return employeeRepository.findAll()
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return employeeRepository.findAllResponses();
     }
 
     @Override
@@ -166,8 +412,40 @@ public class EmployeeServiceImpl implements EmployeeService {
     public Page<EmployeeResponseDTO> getAllEmployeesPaginated(Pageable pageable) {
         log.info("Fetching employees page: {}", pageable.getPageNumber());
 
-        return employeeRepository.findAll(pageable)
-                .map(this::convertToResponseDTO);
+        return employeeRepository.findAllResponses(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EmployeeScrollResponseDTO scrollEmployees(String after, int size, String sortBy, String sortDir) {
+        log.info("Scrolling employees after cursor: {}, size: {}", after, size);
+
+        if (!SCROLL_SORT_KEYS.contains(sortBy)) {
+            throw new RuntimeException("Cannot scroll employees by '" + sortBy + "'. Allowed: " + SCROLL_SORT_KEYS);
+        }
+        if (size < 1) {
+            throw new RuntimeException("Page size must be at least 1");
+        }
+        boolean ascending = sortDir.equalsIgnoreCase("ASC");
+
+        Object lastKey = null;
+        Long lastId = null;
+        if (after != null && !after.isBlank()) {
+            ScrollCursor cursor = decodeCursor(after);
+            if (!cursor.sortBy().equals(sortBy) || !cursor.direction().equals(ascending ? "ASC" : "DESC")) {
+                throw new RuntimeException("Cursor does not match the requested sort order");
+            }
+            lastId = cursor.lastId();
+            lastKey = cursor.lastKey();
+        }
+
+        // Fetch one extra row to know whether another window follows
+        List<EmployeeResponseDTO> rows = employeeRepository.findResponsesAfter(sortBy, ascending, lastKey, lastId, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<EmployeeResponseDTO> content = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = hasNext ? encodeCursor(sortBy, ascending, content.get(content.size() - 1)) : null;
+        return new EmployeeScrollResponseDTO(content, content.size(), hasNext, nextCursor);
     }
 
     @Override
@@ -175,10 +453,7 @@ public class EmployeeServiceImpl implements EmployeeService {
     public List<EmployeeResponseDTO> getEmployeesByDepartment(Long departmentId) {
         log.info("Fetching employees for department ID: {}", departmentId);
 
-        return employeeRepository.findByDepartmentId(departmentId)
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return employeeRepository.findResponsesByDepartmentId(departmentId);
     }
 
     @Override
@@ -186,10 +461,7 @@ public class EmployeeServiceImpl implements EmployeeService {
     public List<EmployeeResponseDTO> getEmployeesByPosition(Long positionId) {
         log.info("Fetching employees for position ID: {}", positionId);
 
-        return employeeRepository.findByPositionId(positionId)
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return employeeRepository.findResponsesByPositionId(positionId);
     }
 
     @Override
@@ -197,25 +469,184 @@ public class EmployeeServiceImpl implements EmployeeService {
     public List<EmployeeResponseDTO> getEmployeesByStatus(EmployeeStatus status) {
         log.info("Fetching employees with status: {}", status);
 
-        return employeeRepository.findByStatus(status)
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return employeeRepository.findResponsesByStatus(status);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EmployeeFieldsDTO getEmployeeFieldsById(Long id, EmployeeFieldSelection selection) {
+        log.info("Fetching fields {} of employee with ID: {}", selection.getFields(), id);
+        return employeeRepository.findSparse(selection, Map.of("id", id), Pageable.unpaged()).stream()
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("Employee not found with ID: " + id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getEmployeeFields(EmployeeFieldSelection selection, Map<String, Object> filters) {
+        log.info("Fetching employee fields {} where {}", selection.getFields(), filters);
+        return fieldsOf(employeeRepository.findSparse(selection, filters, Pageable.unpaged()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getEmployeeFieldsPaginated(EmployeeFieldSelection selection, Pageable pageable) {
+        log.info("Fetching employee fields {} page: {}", selection.getFields(), pageable.getPageNumber());
+        EmployeeFieldSelection.checkSortable(pageable.getSort());
+        List<Map<String, Object>> content = fieldsOf(employeeRepository.findSparse(selection, Map.of(), pageable));
+        // The count is skipped when the page itself shows the total
+        return PageableExecutionUtils.getPage(content, pageable, () -> employeeRepository.countFiltered(Map.of()));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<EmployeeResponseDTO> searchEmployees(String keyword) {
-        log.info("Searching employees with keyword: {}", keyword);
+        return searchEmployees(keyword, PageRequest.of(0, MAX_SEARCH_RESULTS)).getContent();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<EmployeeResponseDTO> searchEmployees(String keyword, Pageable pageable) {
+        log.info("Searching employees with keyword: {}, page: {}", keyword, pageable.getPageNumber());
+
+        int size = Math.min(pageable.getPageSize(), MAX_SEARCH_RESULTS);
+        Pageable limited = PageRequest.of(pageable.getPageNumber(), size);
+        if (limited.getOffset() >= MAX_SEARCH_MATCHES) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Search results end after the first " + MAX_SEARCH_MATCHES + " matches; refine the keyword");
+        }
+
+        if (!fullTextSearchEnabled) {
+            return employeeRepository.searchEmployeeResponses(keyword, limited);
+        }
+
+        // Rank ids on the indexed expressions first, then load only that page's rows. The last page before
+        // the limit may be short, and hasNext is false there: the ranking stops at MAX_SEARCH_MATCHES
+        int rows = (int) Math.min(size, MAX_SEARCH_MATCHES - limited.getOffset());
+        List<Long> ids = employeeRepository.searchRankedIds(keyword.trim(), MAX_SEARCH_MATCHES, rows + 1,
+                limited.getOffset());
+        boolean hasNext = ids.size() > rows;
+        if (hasNext) {
+            ids = ids.subList(0, rows);
+        }
+        if (ids.isEmpty()) {
+            return new SliceImpl<>(List.of(), limited, false);
+        }
 
-        return employeeRepository.searchEmployees(keyword)
+        Map<Long, EmployeeResponseDTO> byId = employeeRepository.findResponsesByIdIn(ids)
                 .stream()
-                .map(this::convertToResponseDTO)
+                .collect(Collectors.toMap(EmployeeResponseDTO::getId, Function.identity()));
+        List<EmployeeResponseDTO> content = ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
+        return new SliceImpl<>(content, limited, hasNext);
+    }
+
+    // Cursor helpers - "sortBy|direction|id|key", base64url encoded
+    private String encodeCursor(String sortBy, boolean ascending, EmployeeResponseDTO last) {
+        Object key = switch (sortBy) {
+            case "firstName" -> last.getFirstName();
+            case "lastName" -> last.getLastName();
+            case "email" -> last.getEmail();
+            case "hireDate" -> last.getHireDate();
+            case "createdAt" -> last.getCreatedAt();
+            default -> last.getId();
+        };
+        String raw = sortBy + "|" + (ascending ? "ASC" : "DESC") + "|" + last.getId() + "|" + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
     }
 
-    // Helper method
-    private EmployeeResponseDTO convertToResponseDTO(Employee employee) {
+    private record ScrollCursor(String sortBy, String direction, Long lastId, Object lastKey) {
+    }
+
+    // Everything a tampered cursor can break - base64, the split, the id and the sort key - is parsed here
+    private ScrollCursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            return new ScrollCursor(parts[0], parts[1], Long.valueOf(parts[2]), parseSortKey(parts[0], parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new RuntimeException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private Object parseSortKey(String sortBy, String value) {
+        return switch (sortBy) {
+            case "hireDate" -> LocalDate.parse(value);
+            case "createdAt" -> LocalDateTime.parse(value);
+            case "id" -> Long.valueOf(value);
+            default -> value;
+        };
+    }
+
+    private void checkVersion(Employee employee, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(employee.getVersion())) {
+            // The stale version may have been read from a cache entry that lost a put/evict race;
+            // drop it right away (not after commit - this transaction rolls back) so the re-read is fresh
+            Cache cache = cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE);
+            if (cache != null) {
+                cache.evictIfPresent(employee.getId());
+            }
+        }
+        PreconditionFailedException.checkVersion("Employee", employee.getId(), expectedVersion, employee.getVersion());
+    }
+
+    private static EmployeeRequestDTO toRequestDTO(Employee employee) {
+        EmployeeRequestDTO dto = new EmployeeRequestDTO();
+        dto.setFirstName(employee.getFirstName());
+        dto.setLastName(employee.getLastName());
+        dto.setEmail(employee.getEmail());
+        dto.setPhone(employee.getPhone());
+        dto.setDateOfBirth(employee.getDateOfBirth());
+        dto.setHireDate(employee.getHireDate());
+        dto.setSalary(employee.getSalary());
+        dto.setAddress(employee.getAddress());
+        dto.setStatus(employee.getStatus());
+        dto.setDepartmentId(idOf(employee.getDepartment()));
+        dto.setPositionId(idOf(employee.getPosition()));
+        return dto;
+    }
+
+    private static List<Map<String, Object>> fieldsOf(List<EmployeeFieldsDTO> rows) {
+        return rows.stream().map(EmployeeFieldsDTO::getFields).toList();
+    }
+
+    private static Long idOf(BaseEntity entity) {
+        return entity != null ? entity.getId() : null;
+    }
+
+    // Guards against an accidental whole-table update from an empty request body
+    private void requireBulkFilter(Collection<Long> ids, Long departmentId, EmployeeStatus currentStatus) {
+        if (ids == null && departmentId == null && currentStatus == null) {
+            throw new RuntimeException("Bulk update needs at least one filter: ids, departmentId or currentStatus");
+        }
+    }
+
+    private List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += BULK_UPDATE_CHUNK) {
+            chunks.add(ids.subList(from, Math.min(from + BULK_UPDATE_CHUNK, ids.size())));
+        }
+        return chunks;
+    }
+
+    // Bulk JPQL bypasses the persistence context, so evict and announce the changed rows explicitly
+    private void afterBulkUpdate(List<Long> ids) {
+        Cache cache = cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE);
+        for (List<Long> chunk : chunks(ids)) {
+            if (cache != null) {
+                chunk.forEach(cache::evict);
+            }
+            eventPublisher.publishEvent(new EmployeeBatchChangedEvent(employeeRepository.findResponsesByIdIn(chunk)));
+        }
+    }
+
+    // Helper method (shared with EmployeeImportServiceImpl)
+    static EmployeeResponseDTO convertToResponseDTO(Employee employee) {
         EmployeeResponseDTO dto = new EmployeeResponseDTO();
         dto.setId(employee.getId());
         dto.setFirstName(employee.getFirstName());
@@ -242,6 +673,8 @@ public class EmployeeServiceImpl implements EmployeeService {
 
         dto.setCreatedAt(employee.getCreatedAt());
         dto.setUpdatedAt(employee.getUpdatedAt());
+        dto.setVersion(employee.getVersion());
 
         return dto;
-    }}
\ No newline at end of file
+    }
+}
@@ -0,0 +1,290 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.dto.response.EmployeeResponseDTO;
+import com.employee.management.dto.response.EmployeeSuggestionDTO;
+import com.employee.management.entity.enums.EmployeeStatus;
+import com.employee.management.event.EmployeeBatchChangedEvent;
+import com.employee.management.event.EmployeeChangedEvent;
+import com.employee.management.repository.EmployeeRepository;
+import com.employee.management.service.EmployeeTypeaheadService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory prefix index over normalized first name, last name and email tokens.
+ * Built from the database once the application is ready and kept current from
+ * committed employee changes, so autocomplete never round-trips to PostgreSQL.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeTypeaheadServiceImpl implements EmployeeTypeaheadService {
+
+    private static final int MAX_LIMIT = 50;
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{Alnum}]+");
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final EmployeeRepository employeeRepository;
+    private final MeterRegistry meterRegistry;
+
+    // token -> ascending employee ids; TreeMap so a prefix is a contiguous sub-map
+    private final NavigableMap<String, long[]> tokenIndex = new TreeMap<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long estimatedBytes;
+
+    private record Entry(EmployeeSuggestionDTO suggestion, String[] tokens) {
+    }
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("employee.typeahead.entries", this, index -> index.read(() -> index.entries.size()))
+                .description("Employees held in the autocomplete index")
+                .register(meterRegistry);
+        Gauge.builder("employee.typeahead.tokens", this, index -> index.read(() -> index.tokenIndex.size()))
+                .description("Distinct tokens in the autocomplete index")
+                .register(meterRegistry);
+        Gauge.builder("employee.typeahead.memory", this, index -> index.read(() -> index.estimatedBytes))
+                .description("Estimated heap used by the autocomplete index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long start = System.nanoTime();
+        List<EmployeeSuggestionDTO> suggestions = employeeRepository.findSuggestionsByStatusNot(EmployeeStatus.TERMINATED);
+
+        lock.writeLock().lock();
+        try {
+            tokenIndex.clear();
+            entries.clear();
+            estimatedBytes = 0;
+            Map<Long, EmployeeSuggestionDTO> changes = new HashMap<>();
+            suggestions.forEach(suggestion -> changes.put(suggestion.getId(), suggestion));
+            apply(changes);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Typeahead index built with {} employees in {} ms",
+                suggestions.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Override
+    public List<EmployeeSuggestionDTO> suggest(String query, int limit) {
+        String[] terms = tokenize(query);
+        if (terms.length == 0 || limit < 1) {
+            return List.of();
+        }
+        int max = Math.min(limit, MAX_LIMIT);
+
+        // Walk the most selective term's prefix range; the other terms filter the candidates
+        String seed = terms[0];
+        for (String term : terms) {
+            if (term.length() > seed.length()) {
+                seed = term;
+            }
+        }
+
+        lock.readLock().lock();
+        try {
+            Set<Long> matched = new LinkedHashSet<>();
+            for (long[] ids : tokenIndex.subMap(seed, true, seed + Character.MAX_VALUE, false).values()) {
+                for (long id : ids) {
+                    if (!matched.contains(id) && matchesAll(entries.get(id), terms)) {
+                        matched.add(id);
+                        if (matched.size() == max) {
+                            return toSuggestions(matched);
+                        }
+                    }
+                }
+            }
+            return toSuggestions(matched);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        onEmployeesChanged(List.of(event.getEmployee()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEmployeeBatchChanged(EmployeeBatchChangedEvent event) {
+        onEmployeesChanged(event.getEmployees());
+    }
+
+    private void onEmployeesChanged(Collection<EmployeeResponseDTO> employees) {
+        // A null suggestion drops the employee from the index
+        Map<Long, EmployeeSuggestionDTO> changes = new LinkedHashMap<>();
+        for (EmployeeResponseDTO employee : employees) {
+            changes.put(employee.getId(), employee.getStatus() == EmployeeStatus.TERMINATED ? null
+                    : new EmployeeSuggestionDTO(employee.getId(), employee.getFirstName(),
+                    employee.getLastName(), employee.getEmail()));
+        }
+
+        lock.writeLock().lock();
+        try {
+            apply(changes);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Replaces the entry of every id in changes and rewrites each touched token's id array once,
+    // so a batch sharing a common token (e.g. the email domain) stays linear. Callers hold the write lock.
+    private void apply(Map<Long, EmployeeSuggestionDTO> changes) {
+        Map<String, Set<Long>> removedByToken = new HashMap<>();
+        Map<String, List<Long>> addedByToken = new HashMap<>();
+
+        changes.forEach((id, suggestion) -> {
+            Entry previous = entries.remove(id);
+            if (previous != null) {
+                estimatedBytes -= entryBytes(previous.suggestion());
+                for (String token : previous.tokens()) {
+                    removedByToken.computeIfAbsent(token, t -> new HashSet<>()).add(id);
+                }
+            }
+            if (suggestion != null) {
+                String[] tokens = tokenize(suggestion.getFirstName() + " " + suggestion.getLastName() + " " +
+                        suggestion.getEmail());
+                entries.put(id, new Entry(suggestion, tokens));
+                estimatedBytes += entryBytes(suggestion);
+                for (String token : tokens) {
+                    addedByToken.computeIfAbsent(token, t -> new ArrayList<>()).add(id);
+                }
+            }
+        });
+
+        Set<String> touched = new HashSet<>(removedByToken.keySet());
+        touched.addAll(addedByToken.keySet());
+        for (String token : touched) {
+            long[] current = tokenIndex.getOrDefault(token, new long[0]);
+            long[] added = addedByToken.getOrDefault(token, List.of()).stream()
+                    .mapToLong(Long::longValue).sorted().toArray();
+            long[] merged = merge(current, removedByToken.getOrDefault(token, Set.of()), added);
+
+            if (merged.length == 0) {
+                if (tokenIndex.remove(token) != null) {
+                    estimatedBytes -= 96 + 2L * token.length();
+                }
+            } else if (tokenIndex.put(token, merged) == null) {
+                estimatedBytes += 96 + 2L * token.length();
+            }
+            estimatedBytes += (long) (merged.length - current.length) * Long.BYTES;
+        }
+    }
+
+    // Sorted union of (current minus removed) and added, without duplicates
+    private static long[] merge(long[] current, Set<Long> removed, long[] added) {
+        long[] merged = new long[current.length + added.length];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < current.length || j < added.length) {
+            long next;
+            if (j == added.length || (i < current.length && current[i] < added[j])) {
+                next = current[i++];
+                if (removed.contains(next)) {
+                    continue;
+                }
+            } else {
+                next = added[j++];
+            }
+            if (size == 0 || merged[size - 1] != next) {
+                merged[size++] = next;
+            }
+        }
+        return size == merged.length ? merged : Arrays.copyOf(merged, size);
+    }
+
+    private static long entryBytes(EmployeeSuggestionDTO suggestion) {
+        return 64 + 2L * (suggestion.getFirstName().length() + suggestion.getLastName().length()
+                + suggestion.getEmail().length());
+    }
+
+    private boolean matchesAll(Entry entry, String[] terms) {
+        for (String term : terms) {
+            boolean found = false;
+            for (String token : entry.tokens()) {
+                if (token.startsWith(term)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<EmployeeSuggestionDTO> toSuggestions(Set<Long> ids) {
+        List<EmployeeSuggestionDTO> suggestions = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            suggestions.add(entries.get(id).suggestion());
+        }
+        return suggestions;
+    }
+
+    private <T> T read(Supplier<T> supplier) {
+        lock.readLock().lock();
+        try {
+            return supplier.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Lower-cased, accent-free tokens, e.g. "José O'Neil" -> [jose, o, neil]
+    private static String[] tokenize(String text) {
+        String normalized = normalize(text).trim();
+        if (normalized.isEmpty()) {
+            return new String[0];
+        }
+        return Arrays.stream(TOKEN_SEPARATOR.split(normalized))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .toArray(String[]::new);
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,201 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.dto.response.EmployeePlacementDTO;
+import com.employee.management.dto.response.EmployeeResponseDTO;
+import com.employee.management.dto.response.HeadcountResponseDTO;
+import com.employee.management.entity.enums.EmployeeStatus;
+import com.employee.management.event.EmployeeBatchChangedEvent;
+import com.employee.management.event.EmployeeChangedEvent;
+import com.employee.management.repository.EmployeeRepository;
+import com.employee.management.service.HeadcountService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory headcounts by department, position and status. Seeded from the database once the
+ * application is ready, moved by committed employee changes and periodically reconciled against
+ * the database, so /api/stats/headcount never issues a COUNT query.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HeadcountServiceImpl implements HeadcountService {
+
+    private final EmployeeRepository employeeRepository;
+    private final MeterRegistry meterRegistry;
+
+    // Last known placement per employee, so a change can move exactly one count out and one in
+    private final Map<Long, Placement> placements = new ConcurrentHashMap<>();
+    private final Map<EmployeeStatus, LongAdder> byStatus = new EnumMap<>(EmployeeStatus.class);
+    private final Map<Long, LongAdder> byDepartment = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> byPosition = new ConcurrentHashMap<>();
+    private volatile boolean seeded;
+    private Counter corrections;
+
+    // touchedAt is System.nanoTime() of the change that produced it
+    private record Placement(Long departmentId, Long positionId, EmployeeStatus status, long touchedAt) {
+
+        boolean samePlaceAs(Placement other) {
+            return other != null && status == other.status
+                    && Objects.equals(departmentId, other.departmentId)
+                    && Objects.equals(positionId, other.positionId);
+        }
+    }
+
+    @PostConstruct
+    void registerMetrics() {
+        // Filled once here and never structurally modified, so concurrent reads are safe
+        for (EmployeeStatus status : EmployeeStatus.values()) {
+            byStatus.put(status, new LongAdder());
+        }
+        corrections = Counter.builder("employee.headcount.corrections")
+                .description("Employees whose headcount placement was corrected by reconciliation")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public HeadcountResponseDTO getHeadcount() {
+        Map<EmployeeStatus, Long> statuses = new EnumMap<>(EmployeeStatus.class);
+        long total = 0;
+        for (Map.Entry<EmployeeStatus, LongAdder> entry : byStatus.entrySet()) {
+            long count = entry.getValue().sum();
+            statuses.put(entry.getKey(), count);
+            if (entry.getKey() != EmployeeStatus.TERMINATED) {
+                total += count;
+            }
+        }
+        return new HeadcountResponseDTO(total, statuses, snapshot(byDepartment), snapshot(byPosition));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${employee.headcount.reconcile-interval:PT10M}",
+            fixedDelayString = "${employee.headcount.reconcile-interval:PT10M}")
+    @Transactional(readOnly = true)
+    public int reconcile() {
+        long scanStart = System.nanoTime();
+        List<EmployeePlacementDTO> rows = employeeRepository.findAllPlacements();
+
+        // Entries touched by a change after scanStart are newer than the rows read here and are left alone
+        AtomicInteger corrected = new AtomicInteger();
+        Set<Long> seen = new HashSet<>(rows.size() * 2);
+        for (EmployeePlacementDTO row : rows) {
+            seen.add(row.getId());
+            Placement actual = new Placement(row.getDepartmentId(), row.getPositionId(), row.getStatus(), scanStart);
+            placements.compute(row.getId(), (id, known) -> {
+                if (known != null && (known.touchedAt() > scanStart || known.samePlaceAs(actual))) {
+                    return known;
+                }
+                corrected.incrementAndGet();
+                move(known, actual);
+                return actual;
+            });
+        }
+        for (Long id : placements.keySet()) {
+            if (!seen.contains(id)) {
+                placements.computeIfPresent(id, (key, known) -> {
+                    if (known.touchedAt() > scanStart) {
+                        return known;
+                    }
+                    corrected.incrementAndGet();
+                    move(known, null);
+                    return null;
+                });
+            }
+        }
+
+        long elapsedMillis = (System.nanoTime() - scanStart) / 1_000_000;
+        if (!seeded) {
+            seeded = true;
+            log.info("Headcount counters seeded with {} employees in {} ms", rows.size(), elapsedMillis);
+        } else if (corrected.get() > 0) {
+            corrections.increment(corrected.get());
+            log.warn("Headcount reconciliation corrected {} of {} employees in {} ms",
+                    corrected.get(), rows.size(), elapsedMillis);
+        } else {
+            log.debug("Headcount reconciliation found no drift across {} employees", rows.size());
+        }
+        return corrected.get();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        apply(event.getEmployee());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEmployeeBatchChanged(EmployeeBatchChangedEvent event) {
+        event.getEmployees().forEach(this::apply);
+    }
+
+    private void apply(EmployeeResponseDTO employee) {
+        Placement updated = new Placement(employee.getDepartmentId(), employee.getPositionId(),
+                employee.getStatus(), System.nanoTime());
+        placements.compute(employee.getId(), (id, known) -> {
+            if (!updated.samePlaceAs(known)) {
+                move(known, updated);
+            }
+            return updated;
+        });
+    }
+
+    // Runs inside placements.compute for the employee, so moves for one employee never interleave
+    private void move(Placement from, Placement to) {
+        if (from != null) {
+            adjust(from, -1);
+        }
+        if (to != null) {
+            adjust(to, 1);
+        }
+    }
+
+    private void adjust(Placement placement, int delta) {
+        byStatus.get(placement.status()).add(delta);
+        if (placement.status() == EmployeeStatus.TERMINATED) {
+            return;
+        }
+        if (placement.departmentId() != null) {
+            byDepartment.computeIfAbsent(placement.departmentId(), id -> new LongAdder()).add(delta);
+        }
+        if (placement.positionId() != null) {
+            byPosition.computeIfAbsent(placement.positionId(), id -> new LongAdder()).add(delta);
+        }
+    }
+
+    // Sorted copy without the keys that dropped to zero
+    private static Map<Long, Long> snapshot(Map<Long, LongAdder> counters) {
+        Map<Long, Long> counts = new TreeMap<>();
+        counters.forEach((id, counter) -> {
+            long count = counter.sum();
+            if (count != 0) {
+                counts.put(id, count);
+            }
+        });
+        return counts;
+    }
+}
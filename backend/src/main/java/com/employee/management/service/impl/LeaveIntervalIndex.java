@@ -0,0 +1,117 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.entity.enums.LeaveStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pending and approved leave per employee, kept as a TreeMap from start date to interval. An employee's
+ * active leaves never overlap (the leave_requests exclusion constraint guarantees it on PostgreSQL), so
+ * the only stored interval that can overlap [start, end] is the one with the greatest start on or
+ * before end: one floor lookup, O(log n), answers the overlap check.
+ */
+class LeaveIntervalIndex {
+
+    record Interval(long id, long employeeId, LocalDate start, LocalDate end, LeaveStatus status) {
+
+        boolean overlaps(LocalDate from, LocalDate to) {
+            return !start.isAfter(to) && !end.isBefore(from);
+        }
+    }
+
+    private final Map<Long, NavigableMap<LocalDate, Interval>> byEmployee = new ConcurrentHashMap<>();
+    // Where each request currently sits, so a change of dates or status can remove the old entry
+    private final Map<Long, Interval> byId = new ConcurrentHashMap<>();
+
+    // Ids changed while the startup load was reading; the load's row for them may predate the change
+    private final Set<Long> changedDuringLoad = ConcurrentHashMap.newKeySet();
+    private volatile boolean loading;
+
+    // Adds or moves the request; rejected requests leave the index
+    void put(Interval interval) {
+        if (loading) {
+            changedDuringLoad.add(interval.id());
+        }
+        apply(interval);
+    }
+
+    // Drops the request, e.g. one another instance deleted
+    void remove(long id) {
+        if (loading) {
+            changedDuringLoad.add(id);
+        }
+        Interval previous = byId.get(id);
+        if (previous == null) {
+            return;
+        }
+        NavigableMap<LocalDate, Interval> intervals = byEmployee.get(previous.employeeId());
+        synchronized (intervals) {
+            if (byId.remove(id, previous)) {
+                remove(previous);
+            }
+        }
+    }
+
+    // Call before reading the rows for finishLoad, so changes committed meanwhile are not overwritten
+    void beginLoad() {
+        changedDuringLoad.clear();
+        loading = true;
+    }
+
+    void finishLoad(List<Interval> rows) {
+        for (Interval row : rows) {
+            if (!changedDuringLoad.contains(row.id())) {
+                apply(row);
+            }
+        }
+        loading = false;
+        changedDuringLoad.clear();
+    }
+
+    private void apply(Interval interval) {
+        NavigableMap<LocalDate, Interval> intervals =
+                byEmployee.computeIfAbsent(interval.employeeId(), id -> new TreeMap<>());
+        synchronized (intervals) {
+            Interval previous = byId.remove(interval.id());
+            if (previous != null) {
+                remove(previous);
+            }
+            if (interval.status() != LeaveStatus.REJECTED) {
+                intervals.put(interval.start(), interval);
+                byId.put(interval.id(), interval);
+            }
+        }
+    }
+
+    // The stored leave of the employee overlapping [start, end], other than ignoreId, or null
+    Interval findOverlap(long employeeId, LocalDate start, LocalDate end, long ignoreId) {
+        NavigableMap<LocalDate, Interval> intervals = byEmployee.get(employeeId);
+        if (intervals == null) {
+            return null;
+        }
+        synchronized (intervals) {
+            Map.Entry<LocalDate, Interval> candidate = intervals.floorEntry(end);
+            if (candidate != null && candidate.getValue().id() == ignoreId) {
+                candidate = intervals.lowerEntry(candidate.getKey());
+            }
+            return candidate != null && candidate.getValue().overlaps(start, end) ? candidate.getValue() : null;
+        }
+    }
+
+    int size() {
+        return byId.size();
+    }
+
+    private void remove(Interval interval) {
+        NavigableMap<LocalDate, Interval> intervals = byEmployee.get(interval.employeeId());
+        if (intervals != null) {
+            intervals.remove(interval.start(), interval);
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.dto.request.LeaveRequestDTO;
+import com.employee.management.dto.response.EmployeePlacementDTO;
+import com.employee.management.dto.response.LeaveRequestResponseDTO;
+import com.employee.management.entity.Employee;
+import com.employee.management.entity.LeaveRequest;
+import com.employee.management.entity.enums.LeaveStatus;
+import com.employee.management.event.LeaveRequestChangedEvent;
+import com.employee.management.repository.DepartmentRepository;
+import com.employee.management.repository.EmployeeRepository;
+import com.employee.management.repository.LeaveRequestRepository;
+import com.employee.management.service.LeaveRequestService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Leave requests with overlap and coverage checks answered from memory. Pending and approved leaves
+ * live in a per-employee interval index, loaded once the application is ready and moved by committed
+ * changes, so a submission that clashes with nothing needs no range query. The index only sees this
+ * instance's commits: a clash it reports is confirmed against the database before the request is refused,
+ * and on PostgreSQL the leave_requests_no_overlap exclusion constraint, added on the first start, catches
+ * the overlaps it misses, including concurrent submissions.
+ * <p>
+ * Approvals also check that the employee's department keeps enough people at work on every day of the
+ * leave. There is no database constraint for that, so an approval locks the department row for the rest
+ * of its transaction and reads the department's approved leaves from the database under that lock: two
+ * approvals for one department are serialized across all instances, and each sees what the other
+ * committed, whichever instance's index it went through.
+ */
+@Service
+@Slf4j
+public class LeaveRequestServiceImpl implements LeaveRequestService, SmartInitializingSingleton {
+
+    static final String NO_OVERLAP_CONSTRAINT = "leave_requests_no_overlap";
+    private static final List<LeaveStatus> INDEXED_STATUSES = List.of(LeaveStatus.PENDING, LeaveStatus.APPROVED);
+
+    private final LeaveRequestRepository leaveRequestRepository;
+    private final EmployeeRepository employeeRepository;
+    private final DepartmentRepository departmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    // Share of a department that may be on approved leave on the same day; at least one person always may
+    private final double maxTeamAbsence;
+
+    private final LeaveIntervalIndex index = new LeaveIntervalIndex();
+
+    public LeaveRequestServiceImpl(LeaveRequestRepository leaveRequestRepository,
+                                   EmployeeRepository employeeRepository,
+                                   DepartmentRepository departmentRepository,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Value("${employee.leave.max-team-absence:0.5}") double maxTeamAbsence) {
+        this.leaveRequestRepository = leaveRequestRepository;
+        this.employeeRepository = employeeRepository;
+        this.departmentRepository = departmentRepository;
+        this.eventPublisher = eventPublisher;
+        this.maxTeamAbsence = maxTeamAbsence;
+    }
+
+    // After Hibernate DDL and schema-postgresql.sql (which installs btree_gist), before the web server takes requests
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            if (leaveRequestRepository.addNoOverlapConstraintIfMissing(NO_OVERLAP_CONSTRAINT)) {
+                log.info("Added the {} exclusion constraint", NO_OVERLAP_CONSTRAINT);
+            }
+        } catch (DataAccessException e) {
+            // Existing rows already overlap; the index still refuses new overlaps, so start without the constraint
+            log.error("Could not add the {} exclusion constraint, fix the overlapping leave requests: {}",
+                    NO_OVERLAP_CONSTRAINT, e.getMostSpecificCause().getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        long start = System.nanoTime();
+        index.beginLoad();
+        List<LeaveRequestResponseDTO> rows = leaveRequestRepository.findResponsesByStatusIn(INDEXED_STATUSES);
+        index.finishLoad(rows.stream().map(LeaveRequestServiceImpl::toInterval).toList());
+        log.info("Leave overlap index loaded with {} requests in {} ms", rows.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Override
+    @Transactional
+    public LeaveRequestResponseDTO submitLeaveRequest(LeaveRequestDTO requestDTO) {
+        log.info("Submitting {} leave for employee {} from {} to {}", requestDTO.getLeaveType(),
+                requestDTO.getEmployeeId(), requestDTO.getStartDate(), requestDTO.getEndDate());
+        if (requestDTO.getEndDate().isBefore(requestDTO.getStartDate())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "End date must not be before start date");
+        }
+        Employee employee = employeeRepository.findById(requestDTO.getEmployeeId())
+                .orElseThrow(() -> new RuntimeException("Employee not found with ID: " + requestDTO.getEmployeeId()));
+
+        LeaveIntervalIndex.Interval clash = index.findOverlap(employee.getId(), requestDTO.getStartDate(),
+                requestDTO.getEndDate(), -1);
+        if (clash != null) {
+            clash = confirmOverlap(clash, requestDTO.getStartDate(), requestDTO.getEndDate());
+            if (clash != null) {
+                throw overlapping(clash);
+            }
+        }
+
+        LeaveRequest leaveRequest = new LeaveRequest();
+        leaveRequest.setEmployee(employee);
+        leaveRequest.setLeaveType(requestDTO.getLeaveType());
+        leaveRequest.setStartDate(requestDTO.getStartDate());
+        leaveRequest.setEndDate(requestDTO.getEndDate());
+        leaveRequest.setReason(requestDTO.getReason());
+        leaveRequest.setStatus(LeaveStatus.PENDING);
+        try {
+            leaveRequest = leaveRequestRepository.saveAndFlush(leaveRequest);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent submission for the same days committed after our index check
+            if (!String.valueOf(e.getMostSpecificCause().getMessage()).contains(NO_OVERLAP_CONSTRAINT)) {
+                throw e;
+            }
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Leave overlaps another pending or approved leave of employee " + employee.getId());
+        }
+
+        log.info("Leave request created successfully with ID: {}", leaveRequest.getId());
+        return published(leaveRequest);
+    }
+
+    @Override
+    @Transactional
+    public LeaveRequestResponseDTO approveLeaveRequest(Long id, Long approverId) {
+        return decide(id, approverId, LeaveStatus.APPROVED);
+    }
+
+    @Override
+    @Transactional
+    public LeaveRequestResponseDTO rejectLeaveRequest(Long id, Long approverId) {
+        return decide(id, approverId, LeaveStatus.REJECTED);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public LeaveRequestResponseDTO getLeaveRequestById(Long id) {
+        return leaveRequestRepository.findResponseById(id)
+                .orElseThrow(() -> new RuntimeException("Leave request not found with ID: " + id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LeaveRequestResponseDTO> getLeaveRequestsByEmployee(Long employeeId) {
+        return leaveRequestRepository.findResponsesByEmployeeId(employeeId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onLeaveRequestChanged(LeaveRequestChangedEvent event) {
+        index.put(toInterval(event.getLeaveRequest()));
+    }
+
+    private LeaveRequestResponseDTO decide(Long id, Long approverId, LeaveStatus decision) {
+        log.info("{} leave request {} by employee {}", decision == LeaveStatus.APPROVED ? "Approving" : "Rejecting",
+                id, approverId);
+        LeaveRequest leaveRequest = leaveRequestRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Leave request not found with ID: " + id));
+        if (leaveRequest.getStatus() != LeaveStatus.PENDING) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Leave request " + id + " is already " + leaveRequest.getStatus());
+        }
+        Employee approver = employeeRepository.findById(approverId)
+                .orElseThrow(() -> new RuntimeException("Employee not found with ID: " + approverId));
+        if (decision == LeaveStatus.APPROVED) {
+            checkTeamCoverage(leaveRequest);
+        }
+
+        leaveRequest.setStatus(decision);
+        leaveRequest.setApprovedBy(approver);
+        leaveRequest.setApprovedAt(LocalDateTime.now());
+        return published(leaveRequestRepository.saveAndFlush(leaveRequest));
+    }
+
+    // Sweeps the department's approved leaves that overlap the request: +1 on each first day, -1 on the day
+    // after each last day. The request itself is one absence throughout. Reads the database, not the index,
+    // after locking the department, since another instance's approvals only reach this index on restart
+    private void checkTeamCoverage(LeaveRequest leaveRequest) {
+        Long employeeId = leaveRequest.getEmployee().getId();
+        Long departmentId = employeeRepository.findPlacementsByIdIn(List.of(employeeId)).stream()
+                .map(EmployeePlacementDTO::getDepartmentId)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+        if (departmentId == null) {
+            return;
+        }
+        departmentRepository.lockById(departmentId);
+        LocalDate start = leaveRequest.getStartDate();
+        LocalDate end = leaveRequest.getEndDate();
+        List<Long> team = employeeRepository.findCoverageIdsByDepartmentId(departmentId);
+        int allowed = Math.max(1, (int) Math.floor(team.size() * maxTeamAbsence));
+
+        Map<LocalDate, Integer> changes = new TreeMap<>();
+        for (LeaveRequestResponseDTO leave : leaveRequestRepository.findApprovedCoverageResponses(departmentId,
+                employeeId, start, end)) {
+            changes.merge(leave.getStartDate().isBefore(start) ? start : leave.getStartDate(), 1, Integer::sum);
+            changes.merge((leave.getEndDate().isAfter(end) ? end : leave.getEndDate()).plusDays(1), -1, Integer::sum);
+        }
+        int absent = 1;
+        for (Map.Entry<LocalDate, Integer> change : changes.entrySet()) {
+            absent += change.getValue();
+            if (absent > allowed && !change.getKey().isAfter(end)) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Approving would leave " + absent + " of " +
+                        team.size() + " employees of department " + departmentId + " on leave on " +
+                        change.getKey() + " (at most " + allowed + ")");
+            }
+        }
+    }
+
+    private LeaveRequestResponseDTO published(LeaveRequest leaveRequest) {
+        LeaveRequestResponseDTO response = convertToResponseDTO(leaveRequest);
+        eventPublisher.publishEvent(new LeaveRequestChangedEvent(response));
+        return response;
+    }
+
+    // The index only sees this instance's commits, so a clash it reports is checked against the database before
+    // refusing. When the database no longer has the indexed request there, its entry is refreshed from the row
+    private LeaveIntervalIndex.Interval confirmOverlap(LeaveIntervalIndex.Interval clash, LocalDate start,
+                                                       LocalDate end) {
+        List<LeaveRequestResponseDTO> overlapping = leaveRequestRepository.findOverlappingResponses(
+                clash.employeeId(), INDEXED_STATUSES, start, end);
+        if (overlapping.stream().noneMatch(row -> row.getId() == clash.id())) {
+            log.info("Leave overlap index was stale for request {}, refreshing it from the database", clash.id());
+            leaveRequestRepository.findResponseById(clash.id()).ifPresentOrElse(
+                    row -> index.put(toInterval(row)), () -> index.remove(clash.id()));
+        }
+        return overlapping.isEmpty() ? null : toInterval(overlapping.get(0));
+    }
+
+    private static ResponseStatusException overlapping(LeaveIntervalIndex.Interval clash) {
+        return new ResponseStatusException(HttpStatus.CONFLICT, "Leave overlaps " + clash.status() +
+                " leave request " + clash.id() + " from " + clash.start() + " to " + clash.end());
+    }
+
+    private static LeaveIntervalIndex.Interval toInterval(LeaveRequestResponseDTO leaveRequest) {
+        return new LeaveIntervalIndex.Interval(leaveRequest.getId(), leaveRequest.getEmployeeId(),
+                leaveRequest.getStartDate(), leaveRequest.getEndDate(), leaveRequest.getStatus());
+    }
+
+    private static LeaveRequestResponseDTO convertToResponseDTO(LeaveRequest leaveRequest) {
+        return new LeaveRequestResponseDTO(
+                leaveRequest.getId(),
+                leaveRequest.getEmployee().getId(),
+                leaveRequest.getLeaveType(),
+                leaveRequest.getStartDate(),
+                leaveRequest.getEndDate(),
+                leaveRequest.getReason(),
+                leaveRequest.getStatus(),
+                leaveRequest.getApprovedBy() != null ? leaveRequest.getApprovedBy().getId() : null,
+                leaveRequest.getApprovedAt(),
+                leaveRequest.getCreatedAt(),
+                leaveRequest.getUpdatedAt(),
+                leaveRequest.getVersion()
+        );
+    }
+}
@@ -1,20 +1,24 @@
 package com.employee.management.service.impl;
 
+import com.employee.management.config.CacheConfig;
 import com.employee.management.dto.request.PositionRequestDTO;
+import com.employee.management.dto.response.ListFingerprintDTO;
 import com.employee.management.dto.response.PositionResponseDTO;
 import com.employee.management.entity.Department;
 import com.employee.management.entity.Position;
+import com.employee.management.exception.PreconditionFailedException;
 import com.employee.management.repository.DepartmentRepository;
 import com.employee.management.repository.EmployeeRepository;
 import com.employee.management.repository.PositionRepository;
 import com.employee.management.service.PositionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +29,7 @@ public class PositionServiceImpl implements PositionService {
     private final PositionRepository positionRepository;
     private final DepartmentRepository departmentRepository;
     private final EmployeeRepository employeeRepository;
+    private final CacheManager cacheManager;
 
     @Override
     public PositionResponseDTO createPosition(PositionRequestDTO requestDTO) {
@@ -50,16 +55,17 @@ public class PositionServiceImpl implements PositionService {
         Position savedPosition = positionRepository.save(position);
 
         log.info("Position created successfully with ID: {}", savedPosition.getId());
-        return convertToResponseDTO(savedPosition);
+        return convertToResponseDTO(savedPosition, 0);
     }
 
     @Override
-    public PositionResponseDTO updatePosition(Long id, PositionRequestDTO requestDTO) {
+    public PositionResponseDTO updatePosition(Long id, PositionRequestDTO requestDTO, Long expectedVersion) {
         log.info("Updating position with ID: {}", id);
 
         // Find existing position
         Position position = positionRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Position not found with ID: " + id));
+        PreconditionFailedException.checkVersion("Position", id, expectedVersion, position.getVersion());
 
         // Check if department exists (if changing department)
         if (!position.getDepartment().getId().equals(requestDTO.getDepartmentId())) {
@@ -75,23 +81,29 @@ public class PositionServiceImpl implements PositionService {
                     "' already exists in this department");
         }
 
+        // Cached employee responses embed the position title
+        if (!position.getTitle().equals(requestDTO.getTitle())) {
+            evictCachedEmployees(employeeRepository.findIdsByPositionId(id));
+        }
+
         // Update fields
         position.setTitle(requestDTO.getTitle());
         position.setDescription(requestDTO.getDescription());
 
-        // Save
-        Position updatedPosition = positionRepository.save(position);
+        // Save, flushed so the response carries the incremented version
+        Position updatedPosition = positionRepository.saveAndFlush(position);
 
         log.info("Position updated successfully");
-        return convertToResponseDTO(updatedPosition);
+        return convertToResponseDTO(updatedPosition, employeeRepository.countByPositionId(id).intValue());
     }
 
     @Override
-    public void deletePosition(Long id) {
+    public void deletePosition(Long id, Long expectedVersion) {
         log.info("Deleting position with ID: {}", id);
 
         Position position = positionRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Position not found with ID: " + id));
+        PreconditionFailedException.checkVersion("Position", id, expectedVersion, position.getVersion());
 
         // Check if position has employees
         long employeeCount = employeeRepository.countByPositionId(id);
@@ -110,10 +122,8 @@ public class PositionServiceImpl implements PositionService {
     public PositionResponseDTO getPositionById(Long id) {
         log.info("Fetching position with ID: {}", id);
 
-        Position position = positionRepository.findById(id)
+        return positionRepository.findResponseById(id)
                 .orElseThrow(() -> new RuntimeException("Position not found with ID: " + id));
-
-        return convertToResponseDTO(position);
     }
 
     @Override
@@ -121,10 +131,7 @@ public class PositionServiceImpl implements PositionService {
     public List<PositionResponseDTO> getAllPositions() {
         log.info("Fetching all positions");
 
-        return positionRepository.findAll()
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return positionRepository.findAllResponses();
     }
 
     @Override
@@ -137,23 +144,34 @@ public class PositionServiceImpl implements PositionService {
             throw new RuntimeException("Department not found with ID: " + departmentId);
         }
 
-        return positionRepository.findByDepartmentId(departmentId)
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return positionRepository.findResponsesByDepartmentId(departmentId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ListFingerprintDTO getPositionsFingerprint() {
+        return positionRepository.findFingerprint();
     }
 
-    // Helper method
-    private PositionResponseDTO convertToResponseDTO(Position position) {
+    // Helper method (read paths use the PositionRepository projections; also benchmarked)
+    static PositionResponseDTO convertToResponseDTO(Position position, int employeeCount) {
         PositionResponseDTO dto = new PositionResponseDTO();
         dto.setId(position.getId());
         dto.setTitle(position.getTitle());
         dto.setDescription(position.getDescription());
         dto.setDepartmentId(position.getDepartment().getId());
         dto.setDepartmentName(position.getDepartment().getName());
-        dto.setEmployeeCount(employeeRepository.countByPositionId(position.getId()).intValue());
+        dto.setEmployeeCount(employeeCount);
         dto.setCreatedAt(position.getCreatedAt());
         dto.setUpdatedAt(position.getUpdatedAt());
+        dto.setVersion(position.getVersion());
         return dto;
     }
+
+    private void evictCachedEmployees(List<Long> employeeIds) {
+        Cache cache = cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE);
+        if (cache != null) {
+            employeeIds.forEach(cache::evict);
+        }
+    }
 }
\ No newline at end of file
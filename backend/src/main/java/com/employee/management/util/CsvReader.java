@@ -0,0 +1,103 @@
+package com.employee.management.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming RFC 4180 reader: comma separated, double-quoted fields may contain
+ * commas, quotes ("") and line breaks. Reads one record at a time so callers never hold
+ * the whole file in memory.
+ */
+public class CsvReader implements Closeable {
+
+    private final Reader reader;
+    // Own buffer rather than a BufferedReader, whose read() takes a lock for every character
+    private final char[] buffer = new char[64 * 1024];
+    private int position;
+    private int limit;
+    private int pending = -2;
+    private long lineNumber;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    // Next record's fields, or null at end of input
+    public List<String> readRecord() throws IOException {
+        int c = next();
+        if (c == -1) {
+            return null;
+        }
+        lineNumber++;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Unterminated quoted field on line " + lineNumber);
+                }
+                if (c == '"') {
+                    int following = next();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = following;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int following = next();
+                    if (following != '\n') {
+                        pending = following;
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = next();
+        }
+    }
+
+    // 1-based number of the record last returned
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    private int next() throws IOException {
+        if (pending != -2) {
+            int c = pending;
+            pending = -2;
+            return c;
+        }
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
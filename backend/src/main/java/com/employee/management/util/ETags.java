@@ -0,0 +1,99 @@
+package com.employee.management.util;
+
+import com.employee.management.dto.request.EmployeeFieldSelection;
+import com.employee.management.dto.response.DepartmentResponseDTO;
+import com.employee.management.dto.response.EmployeeFieldsDTO;
+import com.employee.management.dto.response.EmployeeResponseDTO;
+import com.employee.management.dto.response.ListFingerprintDTO;
+import com.employee.management.dto.response.PositionResponseDTO;
+import com.employee.management.exception.PreconditionFailedException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * Entity tags for conditional requests. Single resources get a strong tag of the form
+ * "version-hash": the @Version number, which If-Match on PUT/DELETE is checked against, plus a hash
+ * of the id and of the values embedded from other rows (e.g. an employee's department name), which
+ * change without bumping the version. Collections use a weak count + latest updated_at fingerprint so a 304 is decided before
+ * the list is loaded.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static String of(EmployeeResponseDTO employee) {
+        return of(employee.getId(), employee.getVersion(), employee.getDepartmentName(), employee.getPositionTitle());
+    }
+
+    public static String of(DepartmentResponseDTO department) {
+        return of(department.getId(), department.getVersion(), department.getEmployeeCount());
+    }
+
+    public static String of(PositionResponseDTO position) {
+        return of(position.getId(), position.getVersion(), position.getDepartmentName(), position.getEmployeeCount());
+    }
+
+    // A sparse read is a representation of its own, so the selection and the joined names it shows are hashed too
+    public static String of(Long id, EmployeeFieldSelection selection, EmployeeFieldsDTO employee) {
+        Map<String, Object> fields = employee.getFields();
+        return of(id, employee.getVersion(), selection.getFields(), selection.isExpandDepartment(),
+                selection.isExpandPosition(), fields.get("departmentName"), fields.get("positionTitle"),
+                fields.get(EmployeeFieldSelection.EXPAND_DEPARTMENT), fields.get(EmployeeFieldSelection.EXPAND_POSITION));
+    }
+
+    // The row's own fields move with its version; only the id and the values embedded from other rows are hashed
+    public static String of(Long id, Long version, Object... embedded) {
+        StringBuilder key = new StringBuilder().append(id);
+        for (Object value : embedded) {
+            key.append('\u0000').append(value);
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(key.toString().getBytes(StandardCharsets.UTF_8));
+            return "\"" + version + "-" + HexFormat.of().formatHex(digest, 0, 8) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Version an If-Match header asks for: null when the header is absent or "*", otherwise the
+     * version part of a tag issued by {@link #of(Long, Long, Object...)}. Weak or foreign tags can never
+     * match (RFC 9110 uses strong comparison for If-Match), so they fail the precondition.
+     */
+    public static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        int dash = tag.indexOf('-');
+        if (!tag.startsWith("\"") || !tag.endsWith("\"") || dash < 2) {
+            throw new PreconditionFailedException("If-Match must be an ETag returned by this API: " + ifMatch);
+        }
+        try {
+            return Long.valueOf(tag.substring(1, dash));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match must be an ETag returned by this API: " + ifMatch);
+        }
+    }
+
+    public static String of(ListFingerprintDTO fingerprint) {
+        LocalDateTime lastModified = fingerprint.getLastModified();
+        long micros = lastModified == null ? 0 : lastModified.toEpochSecond(ZoneOffset.UTC) * 1_000_000
+                + lastModified.getNano() / 1_000;
+        return "W/\"" + Long.toHexString(fingerprint.getCount()) + "-" + Long.toHexString(micros) + "\"";
+    }
+
+    // Epoch millis for Last-Modified; timestamps are LocalDateTime in the server's zone
+    public static long lastModified(LocalDateTime updatedAt) {
+        return updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
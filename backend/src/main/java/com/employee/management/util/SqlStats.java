@@ -0,0 +1,112 @@
+package com.employee.management.util;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * SQL executed on the current thread while a scope is open - an HTTP request (SqlStatsFilter) or a
+ * block of test code. Scopes nest and every statement is counted in each open scope, so a test can
+ * wrap a MockMvc call that opens its own request scope.
+ */
+public final class SqlStats {
+
+    private static final ThreadLocal<Deque<SqlStats>> SCOPES = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private int statements;
+    private long rows;
+    private long nanos;
+    // Statement shape -> executions, to spot the same query issued once per row (N+1)
+    private final Map<String, Integer> shapes = new HashMap<>();
+
+    private SqlStats() {
+    }
+
+    public static SqlStats open() {
+        SqlStats stats = new SqlStats();
+        SCOPES.get().push(stats);
+        return stats;
+    }
+
+    public static void close(SqlStats stats) {
+        Deque<SqlStats> scopes = SCOPES.get();
+        scopes.remove(stats);
+        if (scopes.isEmpty()) {
+            SCOPES.remove();
+        }
+    }
+
+    // Innermost open scope, or null outside any scope
+    public static SqlStats current() {
+        Deque<SqlStats> scopes = SCOPES.get();
+        SqlStats stats = scopes.peek();
+        if (stats == null) {
+            SCOPES.remove();
+        }
+        return stats;
+    }
+
+    public static void recordStatement(String sql, long elapsedNanos) {
+        Deque<SqlStats> scopes = SCOPES.get();
+        if (scopes.isEmpty()) {
+            SCOPES.remove();
+            return;
+        }
+        String shape = shapeOf(sql);
+        for (SqlStats stats : scopes) {
+            stats.statements++;
+            stats.nanos += elapsedNanos;
+            stats.shapes.merge(shape, 1, Integer::sum);
+        }
+    }
+
+    public static void recordRows(long count) {
+        Deque<SqlStats> scopes = SCOPES.get();
+        if (scopes.isEmpty()) {
+            SCOPES.remove();
+            return;
+        }
+        for (SqlStats stats : scopes) {
+            stats.rows += count;
+        }
+    }
+
+    // Literals and IN-list lengths vary between executions of what is logically one query
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    // Rows read through result sets plus rows reported by updates
+    public long getRows() {
+        return rows;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    // Statement shape -> executions in this scope
+    public Map<String, Integer> getShapes() {
+        return Collections.unmodifiableMap(shapes);
+    }
+
+    // The most executed statement shape, or null when nothing ran
+    public Map.Entry<String, Integer> mostRepeated() {
+        return shapes.entrySet().stream().max(Map.Entry.comparingByValue()).orElse(null);
+    }
+}
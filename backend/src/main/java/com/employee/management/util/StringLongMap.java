@@ -0,0 +1,64 @@
+package com.employee.management.util;
+
+/**
+ * Open-addressing hash map from String keys to primitive long values. Two flat arrays instead of one
+ * entry object and one boxed Long per mapping, so a lookup table over every employee stays compact and
+ * a hot loop resolving millions of keys allocates nothing. Not thread-safe; keys must not be null.
+ */
+public class StringLongMap {
+
+    private String[] keys;
+    private long[] values;
+    private int size;
+
+    public StringLongMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize, 8) * 2 - 1) << 1;
+        keys = new String[capacity];
+        values = new long[capacity];
+    }
+
+    public void put(String key, long value) {
+        int slot = slot(keys, key);
+        boolean added = keys[slot] == null;
+        keys[slot] = key;
+        values[slot] = value;
+        if (added && ++size * 2 > keys.length) {
+            resize();
+        }
+    }
+
+    // The value mapped to key, or missing when there is none
+    public long get(String key, long missing) {
+        int slot = slot(keys, key);
+        return keys[slot] != null ? values[slot] : missing;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Slot holding key, or the empty slot where it would go; the table is never more than half full
+    private static int slot(String[] table, String key) {
+        int mask = table.length - 1;
+        int h = key.hashCode() * 0x9E3779B9;
+        int slot = (h ^ (h >>> 16)) & mask;
+        while (table[slot] != null && !table[slot].equals(key)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        String[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new String[oldKeys.length * 2];
+        values = new long[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int slot = slot(keys, oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
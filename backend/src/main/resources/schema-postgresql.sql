@@ -0,0 +1,31 @@
+-- PostgreSQL-only schema objects that Hibernate DDL cannot express.
+-- Runs after Hibernate has created/updated the tables (spring.jpa.defer-datasource-initialization).
+
+-- Employee search (EmployeeRepository.searchRankedIds) - index expressions must match the query
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_employees_search_trgm ON employees
+    USING gin (lower(first_name || ' ' || last_name || ' ' || email) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_employees_search_fts ON employees
+    USING gin (to_tsvector('simple', first_name || ' ' || last_name || ' ' || email));
+
+-- Nearest-first candidate walk for the ranked search (ORDER BY ... <-> keyword)
+CREATE INDEX IF NOT EXISTS idx_employees_search_knn ON employees
+    USING gist (lower(first_name || ' ' || last_name || ' ' || email) gist_trgm_ops);
+
+-- Pooled id sequences (BaseEntity uses GenerationType.SEQUENCE, allocation size 50).
+-- Tables created under the former IDENTITY mapping already hold rows, so move each
+-- sequence past the current max id; GREATEST keeps a restart from ever moving it back.
+SELECT setval('departments_seq', GREATEST((SELECT last_value FROM departments_seq), (SELECT COALESCE(MAX(id), 0) FROM departments) + 50));
+SELECT setval('positions_seq', GREATEST((SELECT last_value FROM positions_seq), (SELECT COALESCE(MAX(id), 0) FROM positions) + 50));
+SELECT setval('employees_seq', GREATEST((SELECT last_value FROM employees_seq), (SELECT COALESCE(MAX(id), 0) FROM employees) + 50));
+SELECT setval('users_seq', GREATEST((SELECT last_value FROM users_seq), (SELECT COALESCE(MAX(id), 0) FROM users) + 50));
+SELECT setval('attendance_seq', GREATEST((SELECT last_value FROM attendance_seq), (SELECT COALESCE(MAX(id), 0) FROM attendance) + 50));
+SELECT setval('leave_requests_seq', GREATEST((SELECT last_value FROM leave_requests_seq), (SELECT COALESCE(MAX(id), 0) FROM leave_requests) + 50));
+SELECT setval('leave_balances_seq', GREATEST((SELECT last_value FROM leave_balances_seq), (SELECT COALESCE(MAX(id), 0) FROM leave_balances) + 50));
+
+-- Leave overlap safety net (LeaveRequestServiceImpl checks its in-memory index first): the
+-- leave_requests_no_overlap exclusion constraint is added once at startup, if missing, by
+-- LeaveRequestRepositoryCustomImpl, since scripts cannot hold the DO block an existence check needs.
+CREATE EXTENSION IF NOT EXISTS btree_gist;
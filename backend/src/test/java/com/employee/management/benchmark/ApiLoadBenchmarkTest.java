@@ -0,0 +1,77 @@
+package com.employee.management.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Closed-loop load against a running instance: every client sends its next request as soon as the
+ * previous one answers. Start the application in the mode under test (platform threads, or
+ * spring.threads.virtual.enabled=true on Java 21 with the admission limit) and run e.g.
+ * {@code mvn test -Dtest=ApiLoadBenchmarkTest -Dbenchmark.base-url=http://localhost:8080 -Dbenchmark.clients=400}
+ */
+@EnabledIfSystemProperty(named = "benchmark.base-url", matches = ".+")
+class ApiLoadBenchmarkTest {
+
+    private static final String BASE_URL = System.getProperty("benchmark.base-url");
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 200);
+    private static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("benchmark.warmup-seconds", 5));
+    private static final Duration RUN = Duration.ofSeconds(Integer.getInteger("benchmark.seconds", 20));
+    private static final Pattern ID = Pattern.compile("\"id\":(\\d+)");
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newFixedThreadPool(8))
+            .build();
+
+    @Test
+    void measureThroughputAndLatency() throws Exception {
+        List<Long> ids = employeeIds();
+        assertThat(ids).isNotEmpty();
+
+        LoadDriver.run(client, CLIENTS, WARMUP, random -> nextRequest(random, ids));
+        LoadDriver.Result result = LoadDriver.run(client, CLIENTS, RUN, random -> nextRequest(random, ids));
+
+        System.out.printf("%nAPI load benchmark against %s (%d clients, %d s)%n", BASE_URL, CLIENTS, RUN.toSeconds());
+        System.out.printf("requests/s %10.1f%n", result.throughput());
+        System.out.printf("p50 ms     %10.1f%n", result.percentileMillis(0.50));
+        System.out.printf("p99 ms     %10.1f%n", result.percentileMillis(0.99));
+        System.out.printf("max ms     %10.1f%n", result.percentileMillis(1.0));
+        System.out.printf("statuses   %s%n", result.statuses());
+    }
+
+    // A paginated list page (two statements), a multi-get and a single lookup, picked at random
+    private HttpRequest nextRequest(ThreadLocalRandom random, List<Long> ids) {
+        String path = switch (random.nextInt(3)) {
+            case 0 -> "/api/employees/paginated?size=20&sortBy=lastName&page=" + random.nextInt(ids.size() / 20);
+            case 1 -> "/api/employees?ids=" + ids.get(random.nextInt(ids.size())) + ","
+                    + ids.get(random.nextInt(ids.size())) + "," + ids.get(random.nextInt(ids.size()));
+            default -> "/api/employees/" + ids.get(random.nextInt(ids.size()));
+        };
+        return HttpRequest.newBuilder(URI.create(BASE_URL + path)).timeout(Duration.ofSeconds(30)).build();
+    }
+
+    private List<Long> employeeIds() throws Exception {
+        String body = client.send(HttpRequest.newBuilder(URI.create(BASE_URL + "/api/employees?fields=id")).build(),
+                HttpResponse.BodyHandlers.ofString()).body();
+        List<Long> ids = new ArrayList<>();
+        Matcher matcher = ID.matcher(body);
+        while (matcher.find()) {
+            ids.add(Long.valueOf(matcher.group(1)));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,134 @@
+package com.employee.management.benchmark;
+
+import com.employee.management.repository.EmployeeRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the legacy LOWER(...) LIKE search with the indexed ranked search on a seeded table.
+ * Needs a real PostgreSQL with pg_trgm available, e.g.
+ * {@code mvn test -Dtest=EmployeeSearchBenchmarkTest -Dbenchmark.jdbc.url=jdbc:postgresql://localhost:5433/employee_db}
+ */
+@EnabledIfSystemProperty(named = "benchmark.jdbc.url", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EmployeeSearchBenchmarkTest {
+
+    private static final String SCHEMA = "search_benchmark";
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 500_000);
+    private static final int ITERATIONS = 9;
+    private static final String[] KEYWORDS = {"anna", "smith", "rob", "jo", "example.com", "zzz"};
+
+    private static final String LIKE_QUERY = "SELECT e.id FROM employees e WHERE " +
+            "LOWER(e.first_name) LIKE LOWER(CONCAT('%', ?, '%')) OR " +
+            "LOWER(e.last_name) LIKE LOWER(CONCAT('%', ?, '%')) OR " +
+            "LOWER(e.email) LIKE LOWER(CONCAT('%', ?, '%'))";
+
+    private static final String RANKED_QUERY = "SELECT c.id FROM (" +
+            "SELECT e.id, " + EmployeeRepository.SEARCH_DOCUMENT + " <-> lower(?) AS distance, " +
+            EmployeeRepository.SEARCH_VECTOR + " @@ plainto_tsquery('simple', ?) AS word_match " +
+            "FROM employees e " +
+            "WHERE " + EmployeeRepository.SEARCH_DOCUMENT + " LIKE '%' || lower(?) || '%' " +
+            "OR " + EmployeeRepository.SEARCH_VECTOR + " @@ plainto_tsquery('simple', ?) " +
+            "ORDER BY " + EmployeeRepository.SEARCH_DOCUMENT + " <-> lower(?) " +
+            "LIMIT 1000) c " +
+            "ORDER BY c.word_match DESC, c.distance, c.id " +
+            "LIMIT 20";
+
+    private Connection connection;
+
+    @BeforeAll
+    void seed() throws SQLException {
+        connection = DriverManager.getConnection(System.getProperty("benchmark.jdbc.url"),
+                System.getProperty("benchmark.jdbc.username", "admin"),
+                System.getProperty("benchmark.jdbc.password", "admin"));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            statement.execute("CREATE SCHEMA " + SCHEMA);
+            statement.execute("SET search_path TO " + SCHEMA + ", public");
+            statement.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm SCHEMA public");
+            statement.execute("CREATE TABLE employees (id bigint PRIMARY KEY, first_name varchar(50) NOT NULL, " +
+                    "last_name varchar(50) NOT NULL, email varchar(100) NOT NULL)");
+            statement.execute("INSERT INTO employees " +
+                    "SELECT g, (ARRAY['Anna','John','Robert','Maria','Joseph','Linda','Omar','Yuki'])[1 + g % 8] || g % 997, " +
+                    "(ARRAY['Smith','Garcia','Brown','Nguyen','Rossi','Khan','Muller','Sato'])[1 + g % 7] || g % 991, " +
+                    "'user' || g || '@example.com' FROM generate_series(1, " + ROWS + ") g");
+            statement.execute("CREATE INDEX ON employees USING gin ((" +
+                    "lower(first_name || ' ' || last_name || ' ' || email)) gin_trgm_ops)");
+            statement.execute("CREATE INDEX ON employees USING gin ((" +
+                    "to_tsvector('simple', first_name || ' ' || last_name || ' ' || email)))");
+            statement.execute("CREATE INDEX ON employees USING gist ((" +
+                    "lower(first_name || ' ' || last_name || ' ' || email)) gist_trgm_ops)");
+            statement.execute("ANALYZE employees");
+        }
+    }
+
+    @AfterAll
+    void dropSchema() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        }
+        connection.close();
+    }
+
+    @Test
+    void compareLikeScanWithRankedSearch() throws SQLException {
+        System.out.printf("%nEmployee search benchmark (%,d rows, median of %d runs)%n", ROWS, ITERATIONS);
+        System.out.printf("%-14s %14s %14s%n", "keyword", "like (ms)", "ranked (ms)");
+        for (String keyword : KEYWORDS) {
+            double like = medianMillis(LIKE_QUERY, 3, keyword);
+            double ranked = medianMillis(RANKED_QUERY, 5, keyword);
+            System.out.printf("%-14s %14.2f %14.2f%n", keyword, like, ranked);
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(RANKED_QUERY)) {
+            for (int i = 1; i <= 5; i++) {
+                statement.setString(i, "anna");
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                int rows = 0;
+                while (resultSet.next()) {
+                    rows++;
+                }
+                assertThat(rows).isBetween(1, 20);
+            }
+        }
+    }
+
+    private double medianMillis(String sql, int parameterCount, String keyword) throws SQLException {
+        double[] samples = new double[ITERATIONS];
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 1; i <= parameterCount; i++) {
+                statement.setString(i, keyword);
+            }
+            drain(statement);
+            for (int run = 0; run < ITERATIONS; run++) {
+                long start = System.nanoTime();
+                drain(statement);
+                samples[run] = (System.nanoTime() - start) / 1_000_000.0;
+            }
+        }
+        Arrays.sort(samples);
+        return samples[ITERATIONS / 2];
+    }
+
+    private void drain(PreparedStatement statement) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                resultSet.getLong(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.employee.management.benchmark;
+
+import com.employee.management.dto.request.EmployeeRequestDTO;
+import com.employee.management.entity.Department;
+import com.employee.management.entity.Position;
+import com.employee.management.repository.DepartmentRepository;
+import com.employee.management.repository.PositionRepository;
+import com.employee.management.service.EmployeeImportService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots the whole application on a random port against the in-memory H2 stand-in (PostgreSQL mode,
+ * see application-test.properties), seeds departments, positions and employees through the bulk
+ * import path, then drives each workload and a weighted mix of them over HTTP. Throughput, latency
+ * percentiles and Hibernate statements per request go to stdout and to target/load-test-report.txt
+ * in a fixed layout meant for diffing between commits, e.g.
+ * {@code mvn test -Dtest=EndToEndLoadBenchmarkTest -Dbenchmark.load=true -Dbenchmark.employees=50000}
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "logging.level.com.employee.management=WARN",
+        "employee.headcount.reconcile-interval=PT1H"
+})
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark.load", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndToEndLoadBenchmarkTest {
+
+    private static final int DEPARTMENTS = Integer.getInteger("benchmark.departments", 20);
+    private static final int POSITIONS_PER_DEPARTMENT = Integer.getInteger("benchmark.positions-per-department", 5);
+    private static final int EMPLOYEES = Integer.getInteger("benchmark.employees", 20_000);
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 32);
+    private static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("benchmark.warmup-seconds", 3));
+    private static final Duration RUN = Duration.ofSeconds(Integer.getInteger("benchmark.seconds", 10));
+    private static final Path REPORT = Path.of("target", "load-test-report.txt");
+    private static final int IMPORT_CHUNK = 5_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private PositionRepository positionRepository;
+
+    @Autowired
+    private EmployeeImportService employeeImportService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newFixedThreadPool(8))
+            .build();
+
+    private final List<Long> departmentIds = new ArrayList<>();
+    private final List<Long> positionIds = new ArrayList<>();
+    private final List<Long> employeeIds = new ArrayList<>();
+
+    @BeforeAll
+    void seed() {
+        for (int d = 0; d < DEPARTMENTS; d++) {
+            Department department = new Department();
+            department.setName("Department " + d);
+            department.setDescription("Load test department " + d);
+            departmentIds.add(departmentRepository.save(department).getId());
+            for (int p = 0; p < POSITIONS_PER_DEPARTMENT; p++) {
+                Position position = new Position();
+                position.setTitle("Position " + d + "." + p);
+                position.setDepartment(department);
+                positionIds.add(positionRepository.save(position).getId());
+            }
+        }
+
+        List<EmployeeRequestDTO> chunk = new ArrayList<>(IMPORT_CHUNK);
+        for (int i = 0; i < EMPLOYEES; i++) {
+            int department = i % DEPARTMENTS;
+            EmployeeRequestDTO request = new EmployeeRequestDTO();
+            request.setFirstName("First" + i);
+            request.setLastName("Last" + (i % 4_999));
+            request.setEmail("employee" + i + "@load.example.com");
+            request.setHireDate(LocalDate.of(2010 + i % 15, 1 + i % 12, 1 + i % 28));
+            request.setSalary(BigDecimal.valueOf(40_000 + i % 60_000));
+            request.setDepartmentId(departmentIds.get(department));
+            request.setPositionId(positionIds.get(department * POSITIONS_PER_DEPARTMENT + i % POSITIONS_PER_DEPARTMENT));
+            chunk.add(request);
+            if (chunk.size() == IMPORT_CHUNK || i == EMPLOYEES - 1) {
+                employeeImportService.importEmployees(chunk);
+                chunk = new ArrayList<>(IMPORT_CHUNK);
+            }
+        }
+    }
+
+    @Test
+    void runWorkloads() throws Exception {
+        employeeIds.addAll(fetchEmployeeIds());
+        assertThat(employeeIds).hasSize(EMPLOYEES);
+
+        Map<String, Function<ThreadLocalRandom, HttpRequest>> workloads = workloads();
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("# employees=%d departments=%d positions=%d clients=%d seconds=%d database=h2",
+                EMPLOYEES, DEPARTMENTS, DEPARTMENTS * POSITIONS_PER_DEPARTMENT, CLIENTS, RUN.toSeconds()));
+        lines.add(String.format("%-28s %9s %9s %9s %9s %9s %8s %7s",
+                "workload", "requests", "req/s", "p50 ms", "p95 ms", "p99 ms", "sql/req", "errors"));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (Map.Entry<String, Function<ThreadLocalRandom, HttpRequest>> workload : workloads.entrySet()) {
+            LoadDriver.run(client, CLIENTS, WARMUP, workload.getValue());
+            statistics.clear();
+            LoadDriver.Result result = LoadDriver.run(client, CLIENTS, RUN, workload.getValue());
+            long statements = statistics.getPrepareStatementCount();
+
+            long errors = result.statuses().entrySet().stream()
+                    .filter(entry -> entry.getKey() < 200 || entry.getKey() >= 400)
+                    .mapToLong(Map.Entry::getValue).sum();
+            lines.add(String.format("%-28s %9d %9.1f %9.2f %9.2f %9.2f %8.2f %7d", workload.getKey(),
+                    result.requests(), result.throughput(), result.percentileMillis(0.50),
+                    result.percentileMillis(0.95), result.percentileMillis(0.99),
+                    (double) statements / Math.max(result.requests(), 1), errors));
+            assertThat(errors).as("failed requests in %s", workload.getKey()).isZero();
+        }
+
+        writeReport(lines);
+    }
+
+    // Every workload alone, then all of them mixed with read-heavy weights
+    private Map<String, Function<ThreadLocalRandom, HttpRequest>> workloads() {
+        Map<String, Function<ThreadLocalRandom, HttpRequest>> workloads = new LinkedHashMap<>();
+        workloads.put("employee.get", random -> get("/api/employees/" + pick(random, employeeIds)));
+        workloads.put("employee.page", random -> get("/api/employees/paginated?size=20&sortBy=lastName&page="
+                + random.nextInt(Math.max(EMPLOYEES / 20, 1))));
+        workloads.put("employee.multi-get", random -> get("/api/employees?ids=" + pick(random, employeeIds) + ","
+                + pick(random, employeeIds) + "," + pick(random, employeeIds) + "," + pick(random, employeeIds)));
+        workloads.put("employee.by-position.sparse", random -> get("/api/employees/position/"
+                + pick(random, positionIds) + "?fields=id,firstName,lastName"));
+        workloads.put("employee.search", random -> get("/api/employees/search?keyword=Last" + random.nextInt(4_999)));
+        workloads.put("employee.patch", random -> HttpRequest.newBuilder(uri("/api/employees/" + pick(random, employeeIds)))
+                .header("Content-Type", "application/merge-patch+json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(
+                        "{\"salary\":" + (40_000 + random.nextInt(60_000)) + "}"))
+                .build());
+        workloads.put("department.list", random -> get("/api/departments"));
+        workloads.put("department.get", random -> get("/api/departments/" + pick(random, departmentIds)));
+        workloads.put("position.by-department", random -> get("/api/positions/department/" + pick(random, departmentIds)));
+
+        List<Function<ThreadLocalRandom, HttpRequest>> single = new ArrayList<>(workloads.values());
+        // get, page, multi-get, sparse, search, patch, department list/get, positions
+        int[] weights = {30, 15, 10, 10, 10, 5, 10, 5, 5};
+        int totalWeight = 0;
+        for (int weight : weights) {
+            totalWeight += weight;
+        }
+        int total = totalWeight;
+        workloads.put("mixed", random -> {
+            int roll = random.nextInt(total);
+            for (int i = 0; i < weights.length; i++) {
+                roll -= weights[i];
+                if (roll < 0) {
+                    return single.get(i).apply(random);
+                }
+            }
+            return single.get(0).apply(random);
+        });
+        return workloads;
+    }
+
+    private List<Long> fetchEmployeeIds() throws Exception {
+        String body = client.send(get("/api/employees?fields=id"),
+                HttpResponse.BodyHandlers.ofString()).body();
+        List<Long> ids = new ArrayList<>();
+        Matcher matcher = Pattern.compile("\"id\":(\\d+)").matcher(body);
+        while (matcher.find()) {
+            ids.add(Long.valueOf(matcher.group(1)));
+        }
+        return ids;
+    }
+
+    private void writeReport(List<String> lines) throws IOException {
+        System.out.println();
+        lines.forEach(System.out::println);
+        Files.createDirectories(REPORT.getParent());
+        Files.write(REPORT, lines);
+        System.out.println("Report written to " + REPORT.toAbsolutePath());
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).timeout(Duration.ofSeconds(30)).build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static Long pick(ThreadLocalRandom random, List<Long> ids) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+}
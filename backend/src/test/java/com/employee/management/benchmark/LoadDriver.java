@@ -0,0 +1,86 @@
+package com.employee.management.benchmark;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Closed-loop HTTP load shared by the load benchmarks: each client thread sends its next request as
+ * soon as the previous one answers, for a fixed duration.
+ */
+final class LoadDriver {
+
+    private LoadDriver() {
+    }
+
+    record Result(long[] sortedNanos, Map<Integer, Long> statuses, Duration duration) {
+
+        long requests() {
+            return sortedNanos.length;
+        }
+
+        double throughput() {
+            return sortedNanos.length / (duration.toNanos() / 1_000_000_000.0);
+        }
+
+        double percentileMillis(double quantile) {
+            if (sortedNanos.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sortedNanos.length) - 1;
+            return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+
+    // Status -1 stands for a request that failed without a response
+    static Result run(HttpClient client, int clients, Duration duration,
+                      Function<ThreadLocalRandom, HttpRequest> nextRequest) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ConcurrentLinkedQueue<long[]> perClient = new ConcurrentLinkedQueue<>();
+        Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        for (int c = 0; c < clients; c++) {
+            executor.execute(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long[] latencies = new long[1024];
+                int count = 0;
+                while (System.nanoTime() < deadline) {
+                    HttpRequest request = nextRequest.apply(random);
+                    long start = System.nanoTime();
+                    int status;
+                    try {
+                        status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    } catch (Exception e) {
+                        status = -1;
+                    }
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = System.nanoTime() - start;
+                    statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+                }
+                perClient.add(Arrays.copyOf(latencies, count));
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(duration.toSeconds() + 120, TimeUnit.SECONDS);
+
+        long[] all = perClient.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        Map<Integer, Long> counts = new TreeMap<>();
+        statuses.forEach((status, adder) -> counts.put(status, adder.sum()));
+        return new Result(all, counts, duration);
+    }
+}
@@ -0,0 +1,100 @@
+package com.employee.management.benchmark;
+
+import com.employee.management.dto.response.EmployeeResponseDTO;
+import com.employee.management.entity.enums.EmployeeStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Serialization time and bytes per employee for the list response encodings the API negotiates:
+ * JSON, JSON with gzip (server.compression), CBOR and Smile. Runs on generated DTOs, no database, e.g.
+ * {@code mvn test -Dtest=ResponseEncodingBenchmarkTest -Dbenchmark.encoding=true}
+ */
+@EnabledIfSystemProperty(named = "benchmark.encoding", matches = "true")
+class ResponseEncodingBenchmarkTest {
+
+    private static final int EMPLOYEES = Integer.getInteger("benchmark.rows", 20_000);
+    private static final int WARMUP = 10;
+    private static final int ITERATIONS = 15;
+
+    @Test
+    void compareEncodings() {
+        List<EmployeeResponseDTO> employees = employees();
+        ObjectMapper json = JsonMapper.builder().build();
+
+        System.out.printf("%nResponse encoding benchmark (%,d employees, median of %d runs)%n", EMPLOYEES, ITERATIONS);
+        System.out.printf("%-10s %14s %16s%n", "format", "encode (ms)", "bytes/employee");
+        int jsonSize = report("json", employees, json, false);
+        int gzipSize = report("json+gzip", employees, json, true);
+        int cborSize = report("cbor", employees, CBORMapper.builder().build(), false);
+        int smileSize = report("smile", employees, SmileMapper.builder().build(), false);
+
+        assertThat(gzipSize).isLessThan(jsonSize);
+        assertThat(cborSize).isLessThan(jsonSize);
+        assertThat(smileSize).isLessThan(jsonSize);
+    }
+
+    private int report(String format, List<EmployeeResponseDTO> employees, ObjectMapper mapper, boolean gzip) {
+        int size = 0;
+        for (int run = 0; run < WARMUP; run++) {
+            size = encode(employees, mapper, gzip);
+        }
+        double[] samples = new double[ITERATIONS];
+        for (int run = 0; run < ITERATIONS; run++) {
+            long start = System.nanoTime();
+            encode(employees, mapper, gzip);
+            samples[run] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(samples);
+        System.out.printf("%-10s %14.2f %16.1f%n", format, samples[ITERATIONS / 2], (double) size / EMPLOYEES);
+        return size;
+    }
+
+    private int encode(List<EmployeeResponseDTO> employees, ObjectMapper mapper, boolean gzip) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1 << 20);
+        try {
+            if (gzip) {
+                try (GZIPOutputStream out = new GZIPOutputStream(bytes, 8192)) {
+                    mapper.writeValue(out, employees);
+                }
+            } else {
+                mapper.writeValue(bytes, employees);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.size();
+    }
+
+    // Shaped like a department listing: shared department/position names, distinct people
+    private List<EmployeeResponseDTO> employees() {
+        List<EmployeeResponseDTO> employees = new ArrayList<>(EMPLOYEES);
+        LocalDateTime created = LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123_456_000);
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employees.add(new EmployeeResponseDTO((long) i + 1, "First" + i, "Last" + (i % 977),
+                    "employee" + i + "@example.com", "+1555" + (1_000_000 + i), LocalDate.of(1980 + i % 30, 1 + i % 12, 1 + i % 28),
+                    LocalDate.of(2010 + i % 15, 1 + i % 12, 1 + i % 28), BigDecimal.valueOf(40_000 + i % 60_000, 0).setScale(2),
+                    i + " Main Street", EmployeeStatus.values()[i % EmployeeStatus.values().length],
+                    (long) (1 + i % 20), "Department " + i % 20, (long) (1 + i % 60), "Position " + i % 60,
+                    created.plusMinutes(i), created.plusMinutes(i).plusDays(30), (long) i % 5));
+        }
+        return employees;
+    }
+}
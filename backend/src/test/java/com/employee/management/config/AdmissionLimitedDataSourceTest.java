@@ -0,0 +1,130 @@
+package com.employee.management.config;
+
+import com.employee.management.dto.request.DepartmentRequestDTO;
+import com.employee.management.exception.AdmissionRejectedException;
+import com.employee.management.repository.DepartmentRepository;
+import com.employee.management.service.DepartmentService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * With the only permit held by the test, routes that need a connection wait out max-wait and answer 503,
+ * while routes served from memory answer as usual.
+ */
+@SpringBootTest(properties = {
+        "employee.admission.enabled=true",
+        "employee.admission.max-concurrent=1",
+        "employee.admission.max-wait=200ms"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AdmissionLimitedDataSourceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long departmentId;
+
+    @BeforeEach
+    void setUp() {
+        departmentId = departmentService.createDepartment(new DepartmentRequestDTO("Engineering", null)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    void onlyDatabaseBoundRequestsQueueForAConnection() throws Exception {
+        double rejectedBefore = rejected();
+        try (Connection held = dataSource.getConnection()) {
+            assertThat(held.isValid(1)).isTrue();
+
+            mockMvc.perform(get("/api/departments/" + departmentId))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+            mockMvc.perform(get("/api/employees/autocomplete").param("q", "an"))
+                    .andExpect(status().isOk());
+            mockMvc.perform(post("/api/attendance/punches")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"employeeId\":1,\"type\":\"CHECK_IN\",\"timestamp\":\"2024-03-04T09:00:00\"}"))
+                    .andExpect(status().isAccepted());
+        }
+
+        assertThat(rejected()).isEqualTo(rejectedBefore + 1);
+        mockMvc.perform(get("/api/departments/" + departmentId)).andExpect(status().isOk());
+    }
+
+    @Test
+    void closingTwiceReturnsThePermitOnce() throws Exception {
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        try (Connection held = dataSource.getConnection()) {
+            assertThatThrownBy(dataSource::getConnection).isInstanceOf(AdmissionRejectedException.class);
+            assertThat(meterRegistry.get("employee.admission.in-flight").gauge().value()).isEqualTo(1);
+        }
+        assertThat(meterRegistry.get("employee.admission.in-flight").gauge().value()).isZero();
+    }
+
+    @Test
+    void abortingReturnsThePermit() throws Exception {
+        Connection connection = dataSource.getConnection();
+        connection.abort(Runnable::run);
+        connection.close();
+
+        try (Connection held = dataSource.getConnection()) {
+            assertThat(held.isValid(1)).isTrue();
+            assertThat(meterRegistry.get("employee.admission.in-flight").gauge().value()).isEqualTo(1);
+        }
+        assertThat(meterRegistry.get("employee.admission.in-flight").gauge().value()).isZero();
+    }
+
+    @Test
+    void connectionEqualsOnlyItself() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(connection).isEqualTo(connection);
+            assertThat(connection.hashCode()).isEqualTo(connection.hashCode());
+            assertThat(connection).isNotEqualTo(connection.unwrap(Connection.class));
+            assertThat(Set.of(connection)).contains(connection);
+        }
+    }
+
+    private double rejected() {
+        return meterRegistry.get("employee.admission.rejected").counter().count();
+    }
+}
@@ -0,0 +1,64 @@
+package com.employee.management.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the version backfill against a real PostgreSQL in a throwaway schema, e.g.
+ * {@code mvn test -Dtest=VersionColumnMigrationPostgresTest -Dtest.postgres.url=jdbc:postgresql://localhost:5433/employee_db}
+ * (credentials from test.postgres.username / test.postgres.password, default admin/admin)
+ */
+@EnabledIfSystemProperty(named = "test.postgres.url", matches = ".+")
+class VersionColumnMigrationPostgresTest {
+
+    private static final String SCHEMA = "version_migration_test";
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private VersionColumnMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SingleConnectionDataSource(System.getProperty("test.postgres.url"),
+                System.getProperty("test.postgres.username", "admin"),
+                System.getProperty("test.postgres.password", "admin"), true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA " + SCHEMA);
+        jdbcTemplate.execute("SET search_path TO " + SCHEMA);
+
+        // As Hibernate leaves them: employees got a nullable column, departments was created with it NOT NULL
+        jdbcTemplate.execute("CREATE TABLE employees (id BIGINT PRIMARY KEY, version BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE departments (id BIGINT PRIMARY KEY, version BIGINT NOT NULL)");
+        jdbcTemplate.execute("INSERT INTO employees SELECT g, CASE WHEN g % 2 = 0 THEN 3 END FROM generate_series(1, 10) g");
+        migration = new VersionColumnMigration(jdbcTemplate, new DataSourceTransactionManager(dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        dataSource.destroy();
+    }
+
+    @Test
+    void backfillsOnceAndLeavesTheColumnNotNull() {
+        assertThat(migration.migrate()).containsExactly("employees");
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employees WHERE version = 0", Integer.class))
+                .isEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employees WHERE version = 3", Integer.class))
+                .isEqualTo(5);
+        jdbcTemplate.update("INSERT INTO employees (id) VALUES (11)");
+        assertThat(jdbcTemplate.queryForObject("SELECT version FROM employees WHERE id = 11", Long.class)).isZero();
+
+        // Later starts find nothing to do
+        assertThat(migration.migrate()).isEmpty();
+    }
+}
@@ -0,0 +1,127 @@
+package com.employee.management.controller;
+
+import com.employee.management.dto.request.DepartmentRequestDTO;
+import com.employee.management.dto.request.PositionRequestDTO;
+import com.employee.management.repository.DepartmentRepository;
+import com.employee.management.repository.EmployeeRepository;
+import com.employee.management.repository.PositionRepository;
+import com.employee.management.service.DepartmentService;
+import com.employee.management.service.EmployeeService;
+import com.employee.management.service.PositionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import static com.employee.management.support.EmployeeFixtures.employeeRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The list endpoints answer Accept: application/cbor and application/x-jackson-smile with bodies the
+ * matching Jackson binary mapper decodes to the same tree as the JSON response.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BinaryEncodingTest {
+
+    private static final String CBOR = "application/cbor";
+    private static final String SMILE = "application/x-jackson-smile";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private PositionService positionService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private PositionRepository positionRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        Long departmentId = departmentService.createDepartment(new DepartmentRequestDTO("Engineering", null)).getId();
+        Long positionId = positionService.createPosition(new PositionRequestDTO("Developer", null, departmentId)).getId();
+        employeeService.createEmployee(employeeRequest("Anna", departmentId, positionId));
+        employeeService.createEmployee(employeeRequest("Bob", departmentId, null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAll();
+        positionRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    void cborBodiesDecodeToTheJsonResponse() throws Exception {
+        ObjectMapper cbor = CBORMapper.builder().build();
+        for (String path : new String[]{"/api/employees", "/api/departments", "/api/positions"}) {
+            assertThat(decode(path, CBOR, cbor)).as(path).isEqualTo(json(path));
+        }
+    }
+
+    @Test
+    void smileBodiesDecodeToTheJsonResponse() throws Exception {
+        ObjectMapper smile = SmileMapper.builder().build();
+        for (String path : new String[]{"/api/employees", "/api/departments", "/api/positions"}) {
+            assertThat(decode(path, SMILE, smile)).as(path).isEqualTo(json(path));
+        }
+    }
+
+    @Test
+    void binaryBodiesCarryTheListContent() throws Exception {
+        JsonNode employees = decode("/api/employees", CBOR, CBORMapper.builder().build());
+
+        assertThat(employees.isArray()).isTrue();
+        assertThat(employees.valueStream().map(employee -> employee.get("firstName").asString()))
+                .containsExactlyInAnyOrder("Anna", "Bob");
+        assertThat(decode("/api/departments", SMILE, SmileMapper.builder().build()).get(0).get("employeeCount").asInt())
+                .isEqualTo(2);
+    }
+
+    private JsonNode decode(String path, String mediaType, ObjectMapper mapper) throws Exception {
+        MvcResult result = mockMvc.perform(get(path).header(HttpHeaders.ACCEPT, mediaType))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(result.getResponse().getContentType()).startsWith(mediaType);
+        byte[] body = result.getResponse().getContentAsByteArray();
+        // Not JSON text in disguise
+        assertThat(body).isNotEmpty();
+        assertThat(body[0]).isNotIn((byte) '[', (byte) '{');
+        return mapper.readTree(body);
+    }
+
+    private JsonNode json(String path) throws Exception {
+        MvcResult result = mockMvc.perform(get(path).header(HttpHeaders.ACCEPT, "application/json"))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsByteArray());
+    }
+}
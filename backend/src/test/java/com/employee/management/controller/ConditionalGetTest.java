@@ -0,0 +1,151 @@
+package com.employee.management.controller;
+
+import com.employee.management.dto.request.DepartmentRequestDTO;
+import com.employee.management.dto.request.EmployeeRequestDTO;
+import com.employee.management.dto.response.DepartmentResponseDTO;
+import com.employee.management.dto.response.EmployeeResponseDTO;
+import com.employee.management.repository.DepartmentRepository;
+import com.employee.management.repository.EmployeeRepository;
+import com.employee.management.service.DepartmentService;
+import com.employee.management.service.EmployeeService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import tools.jackson.databind.ObjectMapper;
+
+
+import static com.employee.management.support.EmployeeFixtures.employeeRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private DepartmentResponseDTO department;
+    private EmployeeResponseDTO employee;
+
+    @BeforeEach
+    void setUp() {
+        department = departmentService.createDepartment(new DepartmentRequestDTO("Engineering", null));
+        employee = employeeService.createEmployee(employeeRequest("Anna", department.getId()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    void unchangedListIsAnswered304FromTheFingerprintQueryAlone() throws Exception {
+        String eTag = eTagOf("/api/departments");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        MvcResult result = mockMvc.perform(get("/api/departments").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified()).andReturn();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(result.getResponse().getContentAsString()).isEmpty();
+    }
+
+    @Test
+    void listETagChangesWhenAnEmployeeJoins() throws Exception {
+        String departments = eTagOf("/api/departments");
+        String positions = eTagOf("/api/positions");
+
+        employeeService.createEmployee(employeeRequest("Bob", department.getId()));
+
+        mockMvc.perform(get("/api/departments").header(HttpHeaders.IF_NONE_MATCH, departments))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/positions").header(HttpHeaders.IF_NONE_MATCH, positions))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void employeeETagFollowsEmbeddedDepartmentName() throws Exception {
+        String path = "/api/employees/" + employee.getId();
+        String eTag = eTagOf(path);
+        mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, eTag)).andExpect(status().isNotModified());
+
+        departmentService.updateDepartment(department.getId(), new DepartmentRequestDTO("Platform", null), null);
+
+        mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, eTag)).andExpect(status().isOk());
+    }
+
+    @Test
+    void tagFromAWriteMatchesTheNextRead() throws Exception {
+        String path = "/api/employees/" + employee.getId();
+        EmployeeRequestDTO request = employeeRequest("Anna", department.getId());
+        request.setPhone("5550100123");
+
+        String written = mockMvc.perform(put(path).contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Timestamps read back at database precision must not change the tag of an unchanged version
+        assertThat(written).startsWith("\"" + (employee.getVersion() + 1) + "-");
+        mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, written)).andExpect(status().isNotModified());
+    }
+
+    @Test
+    void sparseReadCarriesItsOwnTag() throws Exception {
+        String path = "/api/employees/" + employee.getId();
+        String full = eTagOf(path);
+        String names = eTagOf(path + "?fields=firstName,lastName");
+        String expanded = eTagOf(path + "?fields=firstName,lastName&expand=department");
+
+        assertThat(names).startsWith("\"" + employee.getVersion() + "-").isNotIn(full, expanded);
+        mockMvc.perform(get(path).param("fields", "firstName,lastName").header(HttpHeaders.IF_NONE_MATCH, names))
+                .andExpect(status().isNotModified());
+
+        departmentService.updateDepartment(department.getId(), new DepartmentRequestDTO("Platform", null), null);
+
+        assertThat(eTagOf(path + "?fields=firstName,lastName")).isEqualTo(names);
+        assertThat(eTagOf(path + "?fields=firstName,lastName&expand=department")).isNotEqualTo(expanded);
+    }
+
+    private String eTagOf(String path) throws Exception {
+        String eTag = mockMvc.perform(get(path)).andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotBlank();
+        return eTag;
+    }
+}
@@ -0,0 +1,173 @@
+package com.employee.management.controller;
+
+import com.employee.management.dto.request.DepartmentRequestDTO;
+import com.employee.management.dto.request.EmployeeRequestDTO;
+import com.employee.management.repository.DepartmentRepository;
+import com.employee.management.repository.EmployeeRepository;
+import com.employee.management.service.DepartmentService;
+import com.employee.management.service.EmployeeService;
+import com.employee.management.util.CsvReader;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.employee.management.support.EmployeeFixtures.employeeRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EmployeeExportTest {
+
+    // Every character CSV has to quote: separator, quote, line breaks
+    private static final String ADDRESS = "1 Main St, Apt \"B\"\nSpringfield\r\nUSA";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Environment environment;
+
+    @BeforeEach
+    void setUp() {
+        Long departmentId = departmentService.createDepartment(new DepartmentRequestDTO("R&D, \"Labs\"", null)).getId();
+        EmployeeRequestDTO anna = employeeRequest("Anna", departmentId);
+        anna.setAddress(ADDRESS);
+        employeeService.createEmployee(anna);
+        employeeService.createEmployee(employeeRequest("Bob", null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    void ndjsonIsOneEmployeeObjectPerLine() throws Exception {
+        MvcResult result = export("application/x-ndjson");
+
+        assertThat(result.getResponse().getContentType()).startsWith("application/x-ndjson");
+        String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : lines) {
+            rows.add(objectMapper.readTree(line));
+        }
+        assertThat(rows).extracting(row -> row.get("firstName").asString()).containsExactlyInAnyOrder("Anna", "Bob");
+        JsonNode anna = rows.stream().filter(row -> row.get("firstName").asString().equals("Anna")).findFirst().orElseThrow();
+        assertThat(anna.get("address").asString()).isEqualTo(ADDRESS);
+        assertThat(anna.get("departmentName").asString()).isEqualTo("R&D, \"Labs\"");
+    }
+
+    @Test
+    void csvQuotesCommasQuotesAndLineBreaks() throws Exception {
+        MvcResult result = export("text/csv");
+
+        assertThat(result.getResponse().getContentType()).startsWith("text/csv");
+        assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_DISPOSITION)).contains("employees.csv");
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(body).contains("\"1 Main St, Apt \"\"B\"\"\nSpringfield\r\nUSA\"", "\"R&D, \"\"Labs\"\"\"");
+
+        List<List<String>> records = new ArrayList<>();
+        try (CsvReader reader = new CsvReader(new StringReader(body))) {
+            for (List<String> record = reader.readRecord(); record != null; record = reader.readRecord()) {
+                records.add(record);
+            }
+        }
+        assertThat(records).hasSize(3);
+        List<String> header = records.get(0);
+        assertThat(header).hasSize(16);
+        List<String> anna = records.stream().filter(record -> record.get(1).equals("Anna")).findFirst().orElseThrow();
+        assertThat(anna).hasSize(16);
+        assertThat(anna.get(header.indexOf("address"))).isEqualTo(ADDRESS);
+        assertThat(anna.get(header.indexOf("departmentName"))).isEqualTo("R&D, \"Labs\"");
+        List<String> bob = records.stream().filter(record -> record.get(1).equals("Bob")).findFirst().orElseThrow();
+        assertThat(bob.get(header.indexOf("departmentName"))).isEmpty();
+    }
+
+    @Test
+    void formatFollowsQualityValuesNotSubstrings() throws Exception {
+        assertThat(export("application/x-ndjson, text/csv;q=0.1").getResponse().getContentType())
+                .startsWith("application/x-ndjson");
+        assertThat(export("text/csv;q=0.5, application/x-ndjson;q=0.9").getResponse().getContentType())
+                .startsWith("application/x-ndjson");
+        assertThat(export("application/x-ndjson;q=0.2, text/csv").getResponse().getContentType())
+                .startsWith("text/csv");
+        assertThat(export("text/*").getResponse().getContentType()).startsWith("text/csv");
+        assertThat(export("*/*").getResponse().getContentType()).startsWith("application/x-ndjson");
+    }
+
+    @Test
+    void exportReadsProjectionsWithoutLoadingEntities() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        export("text/csv");
+        export("application/x-ndjson");
+
+        // Rows are mapped straight to DTOs, so nothing is attached to the persistence context while streaming
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getEntityFetchCount()).isZero();
+    }
+
+    @Test
+    void onlyTheExportGetsTheLongAsyncTimeout() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/employees/export").header(HttpHeaders.ACCEPT, "text/csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(started.getRequest().getAsyncContext().getTimeout()).isEqualTo(Duration.ofMinutes(10).toMillis());
+        // Everything else keeps the default async timeout
+        assertThat(environment.containsProperty("spring.mvc.async.request-timeout")).isFalse();
+        mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+    }
+
+    private MvcResult export(String accept) throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/employees/export").header(HttpHeaders.ACCEPT, accept))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk()).andReturn();
+    }
+}
@@ -0,0 +1,164 @@
+package com.employee.management.controller;
+
+import com.employee.management.dto.request.EmployeeRequestDTO;
+import com.employee.management.dto.response.EmployeeResponseDTO;
+import com.employee.management.repository.EmployeeRepository;
+import com.employee.management.service.EmployeeService;
+import com.employee.management.util.SqlStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import tools.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class OptimisticConcurrencyTest {
+
+    private static final int WRITERS = 8;
+    private static final int INCREMENTS_PER_WRITER = 25;
+    // Generous for 200 GET + PUT cycles on H2; a writer blocked on a row lock would blow through it
+    private static final long WRITERS_TIMEOUT_SECONDS = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private EmployeeResponseDTO employee;
+
+    @BeforeEach
+    void setUp() {
+        EmployeeRequestDTO request = new EmployeeRequestDTO();
+        request.setFirstName("Anna");
+        request.setLastName("Smith");
+        request.setEmail("anna.smith@example.com");
+        request.setHireDate(LocalDate.of(2020, 1, 1));
+        request.setSalary(BigDecimal.ZERO);
+        employee = employeeService.createEmployee(request);
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentReadModifyWriteLosesNoUpdates() throws Exception {
+        Set<String> statements = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int w = 0; w < WRITERS; w++) {
+                writers.add(executor.submit(() -> {
+                    SqlStats stats = SqlStats.open();
+                    try {
+                        for (int i = 0; i < INCREMENTS_PER_WRITER; i++) {
+                            while (!incrementSalary()) {
+                                // lost the race with a 412; re-read and retry
+                            }
+                        }
+                    } finally {
+                        SqlStats.close(stats);
+                        statements.addAll(stats.getShapes().keySet());
+                    }
+                    return null;
+                }));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(WRITERS_TIMEOUT_SECONDS);
+            for (Future<?> writer : writers) {
+                writer.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        EmployeeResponseDTO result = employeeService.getEmployeeById(employee.getId());
+        int writes = WRITERS * INCREMENTS_PER_WRITER;
+        assertThat(result.getSalary()).isEqualByComparingTo(BigDecimal.valueOf(writes));
+        assertThat(result.getVersion()).isEqualTo(employee.getVersion() + writes);
+        // Conflicts surface as 412s on the version check, never as a writer parked behind a row lock
+        assertThat(statements).isNotEmpty()
+                .noneMatch(sql -> sql.toLowerCase().contains("for update"));
+    }
+
+    @Test
+    void staleIfMatchIsRejectedOnPutAndDelete() throws Exception {
+        String path = "/api/employees/" + employee.getId();
+        String original = mockMvc.perform(get(path)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        String body = objectMapper.writeValueAsString(requestFrom(employee, BigDecimal.ONE));
+        String updated = mockMvc.perform(put(path).header(HttpHeaders.IF_MATCH, original)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk()).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(updated).isNotEqualTo(original);
+
+        mockMvc.perform(put(path).header(HttpHeaders.IF_MATCH, original)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete(path).header(HttpHeaders.IF_MATCH, original))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete(path).header(HttpHeaders.IF_MATCH, "W/\"weak\""))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete(path).header(HttpHeaders.IF_MATCH, updated))
+                .andExpect(status().isNoContent());
+    }
+
+    // One GET + conditional PUT cycle; false when another writer got there first
+    private boolean incrementSalary() throws Exception {
+        String path = "/api/employees/" + employee.getId();
+        MvcResult read = mockMvc.perform(get(path)).andExpect(status().isOk()).andReturn();
+        EmployeeResponseDTO current = objectMapper.readValue(read.getResponse().getContentAsString(),
+                EmployeeResponseDTO.class);
+
+        String body = objectMapper.writeValueAsString(requestFrom(current, current.getSalary().add(BigDecimal.ONE)));
+        int status = mockMvc.perform(put(path)
+                        .header(HttpHeaders.IF_MATCH, read.getResponse().getHeader(HttpHeaders.ETAG))
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andReturn().getResponse().getStatus();
+        assertThat(status).isIn(200, 412);
+        return status == 200;
+    }
+
+    private EmployeeRequestDTO requestFrom(EmployeeResponseDTO employee, BigDecimal salary) {
+        EmployeeRequestDTO request = new EmployeeRequestDTO();
+        request.setFirstName(employee.getFirstName());
+        request.setLastName(employee.getLastName());
+        request.setEmail(employee.getEmail());
+        request.setHireDate(employee.getHireDate());
+        request.setSalary(salary);
+        return request;
+    }
+}
@@ -0,0 +1,125 @@
+package com.employee.management.controller;
+
+import com.employee.management.config.SqlStatsHeaderAdvice;
+import com.employee.management.dto.request.DepartmentRequestDTO;
+import com.employee.management.dto.request.PositionRequestDTO;
+import com.employee.management.dto.response.DepartmentResponseDTO;
+import com.employee.management.dto.response.EmployeeResponseDTO;
+import com.employee.management.dto.response.PositionResponseDTO;
+import com.employee.management.repository.DepartmentRepository;
+import com.employee.management.repository.EmployeeRepository;
+import com.employee.management.repository.PositionRepository;
+import com.employee.management.service.DepartmentService;
+import com.employee.management.service.EmployeeService;
+import com.employee.management.service.PositionService;
+import com.employee.management.support.QueryBudget;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+
+import static com.employee.management.support.EmployeeFixtures.employeeRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Locks the number of SQL statements each hot endpoint issues, independent of how many rows it returns,
+ * so an N+1 introduced by a mapping or DTO change fails here instead of in production.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class QueryBudgetTest {
+
+    private static final int EMPLOYEES = 12;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private PositionService positionService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private PositionRepository positionRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private EmployeeResponseDTO employee;
+
+    @BeforeEach
+    void setUp() {
+        DepartmentResponseDTO[] departments = {
+                departmentService.createDepartment(new DepartmentRequestDTO("Engineering", null)),
+                departmentService.createDepartment(new DepartmentRequestDTO("Sales", null))
+        };
+        PositionResponseDTO[] positions = new PositionResponseDTO[departments.length];
+        for (int i = 0; i < departments.length; i++) {
+            positions[i] = positionService.createPosition(new PositionRequestDTO(
+                    "Position " + i, null, departments[i].getId()));
+        }
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employee = employeeService.createEmployee(
+                    employeeRequest("Emp" + i, departments[i % 2].getId(), positions[i % 2].getId()));
+        }
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAll();
+        positionRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    void readEndpointsStayWithinTheirStatementBudgets() throws Exception {
+        assertStatements(1, get("/api/employees/" + employee.getId()));
+        assertStatements(1, get("/api/employees"));
+        assertStatements(2, get("/api/employees/paginated").param("size", "5"));
+        assertStatements(2, get("/api/departments"));
+        assertStatements(2, get("/api/positions"));
+    }
+
+    @Test
+    void mergePatchLoadsOnceAndUpdatesOnce() throws Exception {
+        assertStatements(2, patch("/api/employees/" + employee.getId())
+                .contentType("application/merge-patch+json")
+                .content("{\"firstName\":\"Renamed\"}"));
+    }
+
+    @Test
+    void countsAreReportedAsResponseHeaders() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/employees")).andExpect(status().isOk()).andReturn();
+
+        assertThat(result.getResponse().getHeader(SqlStatsHeaderAdvice.STATEMENTS_HEADER)).isEqualTo("1");
+        assertThat(result.getResponse().getHeader(SqlStatsHeaderAdvice.ROWS_HEADER)).isEqualTo(String.valueOf(EMPLOYEES));
+        assertThat(result.getResponse().getHeader(SqlStatsHeaderAdvice.TIME_HEADER)).isNotNull();
+    }
+
+    private void assertStatements(int expected, RequestBuilder request) throws Exception {
+        QueryBudget.assertExactly(expected, () -> mockMvc.perform(request).andExpect(status().is2xxSuccessful()));
+    }
+}
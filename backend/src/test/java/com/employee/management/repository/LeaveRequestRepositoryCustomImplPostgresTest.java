@@ -0,0 +1,88 @@
+package com.employee.management.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Adds the leave overlap exclusion constraint against a real PostgreSQL in a throwaway schema, e.g.
+ * {@code mvn test -Dtest=LeaveRequestRepositoryCustomImplPostgresTest -Dtest.postgres.url=jdbc:postgresql://localhost:5433/employee_db}
+ * (credentials from test.postgres.username / test.postgres.password, default admin/admin)
+ */
+@EnabledIfSystemProperty(named = "test.postgres.url", matches = ".+")
+class LeaveRequestRepositoryCustomImplPostgresTest {
+
+    private static final String SCHEMA = "leave_constraint_test";
+    private static final String CONSTRAINT = "leave_requests_no_overlap";
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private LeaveRequestRepositoryCustomImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SingleConnectionDataSource(System.getProperty("test.postgres.url"),
+                System.getProperty("test.postgres.username", "admin"),
+                System.getProperty("test.postgres.password", "admin"), true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS btree_gist");
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA " + SCHEMA);
+        // public for the btree_gist operator classes
+        jdbcTemplate.execute("SET search_path TO " + SCHEMA + ", public");
+        jdbcTemplate.execute("CREATE TABLE leave_requests (id BIGINT PRIMARY KEY, employee_id BIGINT NOT NULL, " +
+                "start_date DATE NOT NULL, end_date DATE NOT NULL, status VARCHAR(20) NOT NULL)");
+        repository = new LeaveRequestRepositoryCustomImpl(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        dataSource.destroy();
+    }
+
+    @Test
+    void addsTheConstraintOnceAndKeepsItOnLaterStarts() {
+        assertThat(repository.addNoOverlapConstraintIfMissing(CONSTRAINT)).isTrue();
+        Long oid = constraintOid();
+
+        assertThat(repository.addNoOverlapConstraintIfMissing(CONSTRAINT)).isFalse();
+
+        assertThat(constraintOid()).isEqualTo(oid);
+        insert(1, 7, "2024-07-01", "2024-07-05", "APPROVED");
+        insert(2, 7, "2024-07-06", "2024-07-08", "PENDING");
+        insert(3, 7, "2024-07-03", "2024-07-04", "REJECTED");
+        assertThatThrownBy(() -> insert(4, 7, "2024-07-05", "2024-07-06", "PENDING"))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .hasMessageContaining(CONSTRAINT);
+    }
+
+    @Test
+    void overlappingRowsLeaveTheTableWithoutTheConstraint() {
+        insert(1, 7, "2024-07-01", "2024-07-05", "APPROVED");
+        insert(2, 7, "2024-07-05", "2024-07-08", "PENDING");
+
+        assertThatThrownBy(() -> repository.addNoOverlapConstraintIfMissing(CONSTRAINT))
+                .isInstanceOf(DataAccessException.class);
+
+        assertThat(constraintOid()).isNull();
+    }
+
+    private Long constraintOid() {
+        return jdbcTemplate.queryForObject("SELECT (SELECT oid::bigint FROM pg_constraint " +
+                "WHERE conrelid = to_regclass('leave_requests') AND conname = ?)", Long.class, CONSTRAINT);
+    }
+
+    private void insert(long id, long employeeId, String start, String end, String status) {
+        jdbcTemplate.update("INSERT INTO leave_requests VALUES (?, ?, CAST(? AS DATE), CAST(? AS DATE), ?)",
+                id, employeeId, start, end, status);
+    }
+}
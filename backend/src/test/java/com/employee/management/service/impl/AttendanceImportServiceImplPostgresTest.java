@@ -0,0 +1,184 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.dto.response.AttendanceImportResponseDTO;
+import com.employee.management.repository.AttendanceRepository;
+import com.employee.management.repository.AttendanceRepositoryCustomImpl;
+import com.employee.management.service.AttendancePartitionService;
+import com.employee.management.service.AttendanceService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the COPY import against a real PostgreSQL in a throwaway schema, e.g.
+ * {@code mvn test -Dtest=AttendanceImportServiceImplPostgresTest -Dtest.postgres.url=jdbc:postgresql://localhost:5433/employee_db}
+ * (credentials from test.postgres.username / test.postgres.password, default admin/admin)
+ */
+@EnabledIfSystemProperty(named = "test.postgres.url", matches = ".+")
+class AttendanceImportServiceImplPostgresTest {
+
+    private static final String SCHEMA = "attendance_import_test";
+
+    @TempDir
+    Path rejectsDirectory;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private AttendanceService attendanceService;
+    private AttendancePartitionService partitionService;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SingleConnectionDataSource(System.getProperty("test.postgres.url"),
+                System.getProperty("test.postgres.username", "admin"),
+                System.getProperty("test.postgres.password", "admin"), true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA " + SCHEMA);
+        jdbcTemplate.execute("SET search_path TO " + SCHEMA);
+
+        jdbcTemplate.execute("CREATE TABLE employees (id BIGINT PRIMARY KEY, email VARCHAR(255) NOT NULL UNIQUE)");
+        jdbcTemplate.execute("CREATE SEQUENCE attendance_seq INCREMENT BY 50");
+        jdbcTemplate.execute("CREATE TABLE attendance (id BIGINT PRIMARY KEY, created_at TIMESTAMP, updated_at TIMESTAMP, " +
+                "check_in_time TIMESTAMP, check_out_time TIMESTAMP, date DATE NOT NULL, hours_worked NUMERIC(4,2), " +
+                "employee_id BIGINT NOT NULL REFERENCES employees (id), version BIGINT, UNIQUE (employee_id, date))");
+        jdbcTemplate.update("INSERT INTO employees VALUES (1, 'ada@example.com'), (2, 'alan@example.com'), " +
+                "(3, 'grace@example.com')");
+
+        attendanceService = mock(AttendanceService.class);
+        partitionService = mock(AttendancePartitionService.class);
+        when(partitionService.getRetainedFrom()).thenReturn(LocalDate.of(2024, 1, 1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        dataSource.destroy();
+    }
+
+    @Test
+    void importsValidRowsAndWritesTheRestToTheRejectsFile() throws Exception {
+        String csv = "email,date,checkIn,checkOut\n"
+                + "ada@example.com,2024-03-04,08:30,17:00\n"
+                + "ADA@example.com,2024-03-04,08:10,\n"
+                + "alan@example.com,2024-03-04,22:00,2024-03-05T06:00\n"
+                + "nobody@example.com,2024-03-04,08:00,17:00\n"
+                + "grace@example.com,2024-02-30,08:00,17:00\n"
+                + "grace@example.com,2024-03-04,17:00,08:00\n"
+                + "grace@example.com,2023-12-29,08:00,17:00\n"
+                + "\"grace@example.com\",2024-03-05,09:15,\"17:45\"\n";
+
+        AttendanceImportResponseDTO response = service(1000).importAttendance(new StringReader(csv));
+
+        assertThat(response.getRowsRead()).isEqualTo(8);
+        assertThat(response.getAccepted()).isEqualTo(4);
+        assertThat(response.getRejected()).isEqualTo(4);
+        // The two rows of Ada's day fold into one: earliest check-in, latest check-out
+        assertThat(response.getWritten()).isEqualTo(3);
+        assertThat(response.getFrom()).isEqualTo(LocalDate.of(2024, 3, 4));
+        assertThat(response.getTo()).isEqualTo(LocalDate.of(2024, 3, 5));
+
+        assertThat(hoursWorked(1, "2024-03-04")).isEqualByComparingTo("8.83");
+        assertThat(hoursWorked(2, "2024-03-04")).isEqualByComparingTo("8.00");
+        assertThat(hoursWorked(3, "2024-03-05")).isEqualByComparingTo("8.50");
+        verify(attendanceService).rebuildRollups(LocalDate.of(2024, 3, 4), LocalDate.of(2024, 3, 5));
+        verify(partitionService).ensurePartitions(LocalDate.of(2024, 3, 4), LocalDate.of(2024, 3, 5));
+
+        List<String> rejects = Files.readAllLines(Path.of(response.getRejectsFile()));
+        assertThat(rejects).hasSize(5);
+        assertThat(rejects.get(0)).isEqualTo("line,reason,email,date,checkIn,checkOut");
+        assertThat(rejects.get(1)).startsWith("5,No employee with email 'nobody@example.com',nobody@example.com,");
+        assertThat(rejects.get(2)).startsWith("6,Malformed date or time '2024-02-30'");
+        assertThat(rejects.get(3)).startsWith("7,checkOut is not after checkIn");
+        assertThat(rejects.get(4)).startsWith("8,\"date is before 2024-01-01, which has been archived\"");
+    }
+
+    @Test
+    void mergesAcrossChunksAndReplaysWithoutWriting() throws Exception {
+        StringBuilder csv = new StringBuilder("date,email,checkIn,checkOut\n");
+        for (int day = 1; day <= 9; day++) {
+            csv.append("2024-04-0").append(day).append(",ada@example.com,08:00,16:00\n");
+        }
+        AttendanceImportServiceImpl service = service(4);
+
+        AttendanceImportResponseDTO first = service.importAttendance(new StringReader(csv.toString()));
+        AttendanceImportResponseDTO replay = service.importAttendance(new StringReader(csv.toString()));
+        AttendanceImportResponseDTO later = service.importAttendance(new StringReader(
+                "email,date,checkOut\nada@example.com,2024-04-02,18:30\n"));
+
+        assertThat(first.getWritten()).isEqualTo(9);
+        assertThat(first.getRejectsFile()).isNull();
+        assertThat(replay.getAccepted()).isEqualTo(9);
+        assertThat(replay.getWritten()).isZero();
+        assertThat(later.getWritten()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM attendance", Long.class)).isEqualTo(9L);
+        assertThat(hoursWorked(1, "2024-04-02")).isEqualByComparingTo("10.50");
+    }
+
+    @Test
+    void rebuildsRollupsForCommittedChunksWhenALaterChunkFails() {
+        StringBuilder csv = new StringBuilder("date,email,checkIn,checkOut\n");
+        for (int day = 1; day <= 9; day++) {
+            csv.append("2024-04-0").append(day).append(",ada@example.com,08:00,16:00\n");
+        }
+        IllegalStateException failure = new IllegalStateException("partition maintenance failed");
+        doThrow(failure).when(partitionService).ensurePartitions(LocalDate.of(2024, 4, 9), LocalDate.of(2024, 4, 9));
+
+        assertThatThrownBy(() -> service(4).importAttendance(new StringReader(csv.toString()))).isSameAs(failure);
+
+        // The first two chunks stay committed; the third rolled back
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM attendance", Long.class)).isEqualTo(8L);
+        verify(attendanceService).rebuildRollups(LocalDate.of(2024, 4, 1), LocalDate.of(2024, 4, 8));
+    }
+
+    @Test
+    void rejectsAFileWithoutTheRequiredColumns() {
+        AttendanceImportServiceImpl service = service(1000);
+
+        assertThatThrownBy(() -> service.importAttendance(new StringReader("email,checkIn\nada@example.com,08:00\n")))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("missing columns: [date]");
+        verify(attendanceService, never()).rebuildRollups(any(), any());
+    }
+
+    private AttendanceImportServiceImpl service(int chunkRows) {
+        AttendanceRepositoryCustomImpl custom = new AttendanceRepositoryCustomImpl(jdbcTemplate);
+        AttendanceRepository attendanceRepository = mock(AttendanceRepository.class);
+        when(attendanceRepository.mergeStaged(anyString()))
+                .thenAnswer(invocation -> custom.mergeStaged(invocation.getArgument(0)));
+        return new AttendanceImportServiceImpl(jdbcTemplate, attendanceRepository, attendanceService, partitionService,
+                new DataSourceTransactionManager(dataSource), new SimpleMeterRegistry(), chunkRows,
+                rejectsDirectory.toString());
+    }
+
+    private BigDecimal hoursWorked(long employeeId, String date) {
+        Map<String, Object> row = jdbcTemplate.queryForMap("SELECT hours_worked FROM attendance " +
+                "WHERE employee_id = ? AND date = CAST(? AS DATE)", employeeId, date);
+        return (BigDecimal) row.get("hours_worked");
+    }
+}
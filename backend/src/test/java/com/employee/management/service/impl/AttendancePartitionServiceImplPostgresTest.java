@@ -0,0 +1,143 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.dto.response.AttendanceArchiveResponseDTO;
+import com.employee.management.dto.response.AttendancePartitionDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the partition conversion, pre-creation and archiving against a real PostgreSQL in a throwaway
+ * schema, since none of it exists on H2, e.g.
+ * {@code mvn test -Dtest=AttendancePartitionServiceImplPostgresTest -Dtest.postgres.url=jdbc:postgresql://localhost:5433/employee_db}
+ * (credentials from test.postgres.username / test.postgres.password, default admin/admin)
+ */
+@EnabledIfSystemProperty(named = "test.postgres.url", matches = ".+")
+class AttendancePartitionServiceImplPostgresTest {
+
+    private static final String SCHEMA = "attendance_partition_test";
+
+    // Fixed "today" of 2024-06-15: with 3 months of retention everything before March 2024 is archived
+    private final Clock clock = Clock.fixed(LocalDate.of(2024, 6, 15).atStartOfDay().toInstant(ZoneOffset.UTC),
+            ZoneOffset.UTC);
+
+    @TempDir
+    Path archiveDirectory;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private AttendancePartitionServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SingleConnectionDataSource(System.getProperty("test.postgres.url"),
+                System.getProperty("test.postgres.username", "admin"),
+                System.getProperty("test.postgres.password", "admin"), true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA " + SCHEMA);
+        jdbcTemplate.execute("SET search_path TO " + SCHEMA);
+
+        // The plain table as Hibernate creates it
+        jdbcTemplate.execute("CREATE TABLE employees (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE attendance (id BIGINT NOT NULL PRIMARY KEY, created_at TIMESTAMP, " +
+                "updated_at TIMESTAMP, check_in_time TIMESTAMP, check_out_time TIMESTAMP, date DATE NOT NULL, " +
+                "hours_worked NUMERIC(4,2), employee_id BIGINT NOT NULL, version BIGINT, " +
+                "CONSTRAINT uk_attendance_day UNIQUE (employee_id, date))");
+        jdbcTemplate.execute("INSERT INTO employees SELECT generate_series(1, 50)");
+        jdbcTemplate.execute("INSERT INTO attendance (id, date, employee_id, hours_worked, version) " +
+                "SELECT row_number() OVER (), d, e, 8.00, 0 FROM generate_series(1, 50) e, " +
+                "generate_series(DATE '2024-01-01', DATE '2024-04-30', INTERVAL '1 day') d");
+
+        service = new AttendancePartitionServiceImpl(jdbcTemplate, new DataSourceTransactionManager(dataSource),
+                true, 2, 3, archiveDirectory, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        dataSource.destroy();
+    }
+
+    @Test
+    void startupConvertsTheTableAndArchivesMonthsPastRetention() throws Exception {
+        service.afterSingletonsInstantiated();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT relkind::text FROM pg_class WHERE oid = to_regclass('attendance')",
+                String.class)).isEqualTo("p");
+        assertThat(jdbcTemplate.queryForList("SELECT conname FROM pg_constraint " +
+                "WHERE conrelid = to_regclass('attendance') ORDER BY conname", String.class))
+                .containsExactly("attendance_employee_id_fkey", "attendance_pkey", "uk_attendance_day");
+
+        // January and February archived; March and April kept; June to August created ahead
+        assertThat(service.getPartitions()).extracting(AttendancePartitionDTO::getName)
+                .containsExactly("attendance_p2024_03", "attendance_p2024_04", "attendance_p2024_06",
+                        "attendance_p2024_07", "attendance_p2024_08");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM attendance", Long.class)).isEqualTo(50L * (31 + 30));
+        assertThat(jdbcTemplate.queryForObject("SELECT to_regclass('attendance_p2024_01')", String.class)).isNull();
+
+        Path january = archiveDirectory.resolve("attendance_p2024_01.csv.gz");
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(january)), StandardCharsets.UTF_8))) {
+            assertThat(reader.readLine()).startsWith("id,");
+            assertThat(reader.lines().count()).isEqualTo(50L * 31);
+        }
+        assertThat(archiveDirectory.resolve("attendance_p2024_02.csv.gz")).exists();
+        assertThat(archiveDirectory).isDirectoryNotContaining("glob:**.part");
+    }
+
+    @Test
+    void dateBoundedQueriesOnlyScanTheirMonth() {
+        service.afterSingletonsInstantiated();
+        jdbcTemplate.execute("ANALYZE attendance");
+
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN SELECT * FROM attendance " +
+                "WHERE employee_id = 7 AND date BETWEEN DATE '2024-04-01' AND DATE '2024-04-30'", String.class));
+
+        assertThat(plan).contains("attendance_p2024_04").doesNotContain("attendance_p2024_03");
+    }
+
+    @Test
+    void ensurePartitionsCreatesMissingMonthsOnDemand() {
+        service.afterSingletonsInstantiated();
+
+        service.ensurePartitions(LocalDate.of(2024, 10, 30), LocalDate.of(2024, 12, 2));
+        jdbcTemplate.update("INSERT INTO attendance (id, date, employee_id, version) VALUES (100000, DATE '2024-11-05', 1, 0)");
+
+        assertThat(service.getPartitions()).extracting(AttendancePartitionDTO::getName)
+                .contains("attendance_p2024_10", "attendance_p2024_11", "attendance_p2024_12")
+                .doesNotContain("attendance_p2024_09");
+    }
+
+    @Test
+    void archivingPicksUpPartitionsDetachedByAFailedRun() {
+        service.afterSingletonsInstantiated();
+        jdbcTemplate.execute("CREATE TABLE attendance_p2023_12 (LIKE attendance)");
+        jdbcTemplate.update("INSERT INTO attendance_p2023_12 (id, date, employee_id, version) VALUES (1, DATE '2023-12-01', 1, 0)");
+
+        List<AttendanceArchiveResponseDTO> archived = service.archiveExpiredPartitions();
+
+        assertThat(archived).extracting(AttendanceArchiveResponseDTO::getPartition).containsExactly("attendance_p2023_12");
+        assertThat(archived.get(0).getRows()).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject("SELECT to_regclass('attendance_p2023_12')", String.class)).isNull();
+        assertThat(service.getRetainedFrom()).isEqualTo(LocalDate.of(2024, 3, 1));
+    }
+}
@@ -0,0 +1,310 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.dto.request.AttendancePunchRequestDTO;
+import com.employee.management.dto.response.AttendanceDepartmentReportDTO;
+import com.employee.management.dto.response.AttendanceMonthlyReportDTO;
+import com.employee.management.dto.response.AttendanceResponseDTO;
+import com.employee.management.entity.Department;
+import com.employee.management.entity.Employee;
+import com.employee.management.entity.enums.PunchType;
+import com.employee.management.exception.BufferFullException;
+import com.employee.management.repository.AttendanceDepartmentDailyRollupRepository;
+import com.employee.management.repository.AttendanceMonthlyRollupRepository;
+import com.employee.management.repository.AttendanceRepository;
+import com.employee.management.repository.DepartmentRepository;
+import com.employee.management.repository.EmployeeRepository;
+import com.employee.management.service.AttendancePartitionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+// Not transactional: each flush commits on its own, as it does in the application
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AttendanceServiceImplTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 4);
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private AttendanceMonthlyRollupRepository monthlyRollupRepository;
+
+    @Autowired
+    private AttendanceDepartmentDailyRollupRepository departmentDailyRollupRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private FailingDataSource failingDataSource;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AttendancePartitionService partitionService = mock(AttendancePartitionService.class);
+    private AttendanceServiceImpl attendanceService;
+    private Long employeeId;
+    private Long departmentId;
+
+    @BeforeEach
+    void setUp() {
+        attendanceService = new AttendanceServiceImpl(attendanceRepository, employeeRepository, monthlyRollupRepository,
+                departmentDailyRollupRepository, partitionService, transactionManager, meterRegistry,
+                5, 2, "09:00", Duration.ZERO);
+        Department department = new Department();
+        department.setName("Engineering");
+        departmentId = departmentRepository.save(department).getId();
+        Employee employee = new Employee();
+        employee.setDepartment(department);
+        employee.setFirstName("Ada");
+        employee.setLastName("Lovelace");
+        employee.setEmail("ada@example.com");
+        employee.setHireDate(LocalDate.of(2020, 1, 1));
+        employeeId = employeeRepository.save(employee).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        monthlyRollupRepository.deleteAll();
+        departmentDailyRollupRepository.deleteAll();
+        attendanceRepository.deleteAll();
+        employeeRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    void flushMergesPunchesIntoOneRowPerDayWithHoursWorked() {
+        attendanceService.recordPunches(List.of(
+                punch(PunchType.CHECK_IN, DAY.atTime(9, 5)),
+                punch(PunchType.CHECK_IN, DAY.atTime(8, 30)),
+                punch(PunchType.CHECK_OUT, DAY.atTime(17, 0))));
+
+        assertThat(attendanceService.flush()).isEqualTo(3);
+
+        AttendanceResponseDTO day = single();
+        assertThat(day.getCheckInTime()).isEqualTo(DAY.atTime(8, 30));
+        assertThat(day.getCheckOutTime()).isEqualTo(DAY.atTime(17, 0));
+        assertThat(day.getHoursWorked()).isEqualByComparingTo(new BigDecimal("8.50"));
+        assertThat(meterRegistry.get("employee.attendance.flush").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void checkOutInALaterFlushCompletesTheDayAndReplaysChangeNothing() {
+        attendanceService.recordPunches(List.of(punch(PunchType.CHECK_IN, DAY.atTime(9, 0))));
+        attendanceService.flush();
+        assertThat(single().getHoursWorked()).isNull();
+
+        attendanceService.recordPunches(List.of(punch(PunchType.CHECK_OUT, DAY.atTime(12, 45))));
+        attendanceService.flush();
+        AttendanceResponseDTO completed = single();
+        assertThat(completed.getHoursWorked()).isEqualByComparingTo(new BigDecimal("3.75"));
+
+        attendanceService.recordPunches(List.of(
+                punch(PunchType.CHECK_IN, DAY.atTime(9, 0)),
+                punch(PunchType.CHECK_OUT, DAY.atTime(12, 45))));
+        attendanceService.flush();
+        assertThat(single()).isEqualTo(completed);
+    }
+
+    @Test
+    void refusesPunchesThatDoNotFitTheQueue() {
+        attendanceService.recordPunches(List.of(
+                punch(PunchType.CHECK_IN, DAY.atTime(9, 0)),
+                punch(PunchType.CHECK_IN, DAY.plusDays(1).atTime(9, 0)),
+                punch(PunchType.CHECK_IN, DAY.plusDays(2).atTime(9, 0))));
+
+        assertThatThrownBy(() -> attendanceService.recordPunches(List.of(
+                punch(PunchType.CHECK_IN, DAY.plusDays(3).atTime(9, 0)),
+                punch(PunchType.CHECK_IN, DAY.plusDays(4).atTime(9, 0)),
+                punch(PunchType.CHECK_IN, DAY.plusDays(5).atTime(9, 0)))))
+                .isInstanceOf(BufferFullException.class);
+        assertThat(meterRegistry.get("employee.attendance.queue.depth").gauge().value()).isEqualTo(3);
+
+        attendanceService.flush();
+        assertThat(attendanceService.recordPunches(List.of(
+                punch(PunchType.CHECK_IN, DAY.plusDays(3).atTime(9, 0)))).getQueueDepth()).isEqualTo(1);
+    }
+
+    @Test
+    void unknownEmployeeIsDroppedWithoutFailingTheRestOfItsBatch() {
+        attendanceService.recordPunches(List.of(
+                new AttendancePunchRequestDTO(employeeId + 1000, PunchType.CHECK_IN, DAY.atTime(9, 0), null),
+                punch(PunchType.CHECK_IN, DAY.atTime(9, 0))));
+
+        attendanceService.flush();
+
+        assertThat(single().getCheckInTime()).isEqualTo(DAY.atTime(9, 0));
+        assertThat(meterRegistry.get("employee.attendance.punches.dropped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void failedFlushesKeepTheirPunchesUntilTheyCommit() {
+        attendanceService.recordPunches(List.of(
+                punch(PunchType.CHECK_IN, DAY.atTime(8, 0)),
+                punch(PunchType.CHECK_OUT, DAY.atTime(16, 0)),
+                punch(PunchType.CHECK_IN, DAY.plusDays(1).atTime(9, 30))));
+
+        // The employee lookup, then the write transaction, cannot get a connection; then partitioning fails
+        failingDataSource.failAfter(0);
+        assertThat(attendanceService.flush()).isZero();
+        failingDataSource.failAfter(1);
+        assertThat(attendanceService.flush()).isZero();
+        doThrow(new IllegalStateException("partition DDL failed")).doNothing()
+                .when(partitionService).ensurePartitions(any(), any());
+        assertThat(attendanceService.flush()).isZero();
+
+        assertThat(attendanceService.getAttendance(employeeId, DAY, DAY.plusDays(1))).isEmpty();
+        assertThat(meterRegistry.get("employee.attendance.queue.depth").gauge().value()).isEqualTo(3);
+        assertThatThrownBy(() -> attendanceService.recordPunches(List.of(
+                punch(PunchType.CHECK_IN, DAY.plusDays(2).atTime(9, 0)),
+                punch(PunchType.CHECK_IN, DAY.plusDays(3).atTime(9, 0)),
+                punch(PunchType.CHECK_IN, DAY.plusDays(4).atTime(9, 0)))))
+                .isInstanceOf(BufferFullException.class);
+
+        assertThat(attendanceService.flush()).isEqualTo(3);
+
+        assertThat(single().getHoursWorked()).isEqualByComparingTo("8.00");
+        assertMonth("8.00", 2, 1);
+        assertThat(meterRegistry.get("employee.attendance.punches.dropped").counter().count()).isZero();
+        assertThat(meterRegistry.get("employee.attendance.queue.depth").gauge().value()).isZero();
+    }
+
+    @Test
+    void rollupsFollowEachFlushIncludingCorrections() {
+        attendanceService.recordPunches(List.of(
+                punch(PunchType.CHECK_IN, DAY.atTime(9, 30)),
+                punch(PunchType.CHECK_OUT, DAY.atTime(17, 30)),
+                punch(PunchType.CHECK_IN, DAY.plusDays(1).atTime(8, 45))));
+        attendanceService.flush();
+        assertMonth("8.00", 2, 1);
+
+        // An earlier badge read for the first day turns it into an on-time 9-hour day; replays change nothing
+        attendanceService.recordPunches(List.of(
+                punch(PunchType.CHECK_IN, DAY.atTime(8, 30)),
+                punch(PunchType.CHECK_OUT, DAY.plusDays(1).atTime(12, 45)),
+                punch(PunchType.CHECK_OUT, DAY.atTime(17, 30))));
+        attendanceService.flush();
+        assertMonth("13.00", 2, 0);
+
+        List<AttendanceDepartmentReportDTO> departments = attendanceService.getDepartmentReport(DAY, DAY.plusDays(1));
+        assertThat(departments).singleElement().satisfies(report -> {
+            assertThat(report.getDepartmentId()).isEqualTo(departmentId);
+            assertThat(report.getTotalHours()).isEqualByComparingTo("13.00");
+            assertThat(report.getDaysPresent()).isEqualTo(2);
+            assertThat(report.getLateArrivals()).isZero();
+        });
+    }
+
+    @Test
+    void rebuildReproducesTheIncrementalRollups() {
+        attendanceService.recordPunches(List.of(
+                punch(PunchType.CHECK_IN, DAY.atTime(9, 15)),
+                punch(PunchType.CHECK_OUT, DAY.atTime(18, 0)),
+                punch(PunchType.CHECK_IN, DAY.plusDays(1).atTime(8, 0)),
+                punch(PunchType.CHECK_IN, DAY.plusMonths(1).atTime(8, 0))));
+        attendanceService.flush();
+        monthlyRollupRepository.deleteAll();
+        departmentDailyRollupRepository.deleteAll();
+
+        // One transaction per month: both months come back
+        assertThat(attendanceService.rebuildRollups(DAY, DAY.plusMonths(1)).getMonthlyRows()).isEqualTo(2);
+
+        assertMonth("8.75", 2, 1);
+        assertThat(attendanceService.getDepartmentReport(DAY.withDayOfMonth(1), DAY.withDayOfMonth(31)))
+                .singleElement().satisfies(report -> assertThat(report.getLateArrivals()).isEqualTo(1));
+    }
+
+    private void assertMonth(String totalHours, int daysPresent, int lateArrivals) {
+        List<AttendanceMonthlyReportDTO> report = attendanceService.getMonthlyReport(YearMonth.from(DAY), departmentId);
+        assertThat(report).singleElement().satisfies(row -> {
+            assertThat(row.getEmployeeId()).isEqualTo(employeeId);
+            assertThat(row.getTotalHours()).isEqualByComparingTo(totalHours);
+            assertThat(row.getDaysPresent()).isEqualTo(daysPresent);
+            assertThat(row.getLateArrivals()).isEqualTo(lateArrivals);
+        });
+    }
+
+    private AttendanceResponseDTO single() {
+        List<AttendanceResponseDTO> days = attendanceService.getAttendance(employeeId, DAY, DAY);
+        assertThat(days).hasSize(1);
+        return days.get(0);
+    }
+
+    private AttendancePunchRequestDTO punch(PunchType type, LocalDateTime at) {
+        return new AttendancePunchRequestDTO(employeeId, type, at, null);
+    }
+
+    // Refuses one connection after letting the given number through, like a database that drops out briefly
+    static class FailingDataSource extends DelegatingDataSource {
+
+        private final AtomicInteger untilFailure = new AtomicInteger(-1);
+
+        FailingDataSource(DataSource target) {
+            super(target);
+        }
+
+        void failAfter(int connections) {
+            untilFailure.set(connections);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (untilFailure.getAndUpdate(n -> n >= 0 ? n - 1 : n) == 0) {
+                throw new SQLTransientConnectionException("Connection refused");
+            }
+            return super.getConnection();
+        }
+    }
+
+    @TestConfiguration
+    static class FailingDataSourceConfig {
+
+        @Bean
+        static BeanPostProcessor failingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && !(bean instanceof FailingDataSource)
+                            ? new FailingDataSource(dataSource) : bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.config.CacheConfig;
+import com.employee.management.dto.response.DepartmentResponseDTO;
+import com.employee.management.entity.Department;
+import com.employee.management.entity.Employee;
+import com.employee.management.support.QueryBudget;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({DepartmentServiceImpl.class, CacheConfig.class, QueryBudget.Instrumentation.class})
+class DepartmentServiceImplTest {
+
+    @Autowired
+    private DepartmentServiceImpl departmentService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private int seeded;
+
+    @Test
+    void listingIsOneStatementRegardlessOfDepartmentCount() throws Exception {
+        seedDepartments(3, 2);
+        QueryBudget.assertExactly(1, () -> departmentService.getAllDepartments());
+
+        seedDepartments(20, 2);
+        QueryBudget.assertExactly(1, () -> departmentService.getAllDepartments());
+    }
+
+    @Test
+    void countsIncludeEmptyDepartments() throws Exception {
+        List<Department> departments = seedDepartments(2, 3);
+        seedDepartments(1, 0);
+
+        List<DepartmentResponseDTO> response = departmentService.getAllDepartments();
+
+        assertThat(response).extracting(DepartmentResponseDTO::getEmployeeCount).containsExactly(3, 3, 0);
+        QueryBudget.assertExactly(1, () -> departmentService.getDepartmentById(departments.get(0).getId()));
+        assertThat(departmentService.getDepartmentByName(departments.get(1).getName()).getEmployeeCount())
+                .isEqualTo(3);
+    }
+
+    private List<Department> seedDepartments(int count, int employeesEach) {
+        List<Department> departments = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            seeded++;
+            Department department = new Department();
+            department.setName("Department" + seeded);
+            entityManager.persist(department);
+            departments.add(department);
+
+            for (int j = 0; j < employeesEach; j++) {
+                Employee employee = new Employee();
+                employee.setFirstName("First");
+                employee.setLastName("Last");
+                employee.setEmail("employee" + seeded + "." + j + "@example.com");
+                employee.setHireDate(LocalDate.of(2020, 1, 1));
+                employee.setDepartment(department);
+                entityManager.persist(employee);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return departments;
+    }
+
+}
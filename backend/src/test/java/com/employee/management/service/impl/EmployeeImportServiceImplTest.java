@@ -0,0 +1,110 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.dto.request.EmployeeRequestDTO;
+import com.employee.management.dto.response.BulkImportResponseDTO;
+import com.employee.management.entity.Department;
+import com.employee.management.entity.Employee;
+import com.employee.management.event.EmployeeBatchChangedEvent;
+import com.employee.management.event.EmployeeChangedEvent;
+import com.employee.management.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({EmployeeImportServiceImpl.class, LocalValidatorFactoryBean.class})
+@RecordApplicationEvents
+class EmployeeImportServiceImplTest {
+
+    @Autowired
+    private EmployeeImportServiceImpl importService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    private Department department;
+
+    @BeforeEach
+    void setUp() {
+        department = new Department();
+        department.setName("Engineering");
+        entityManager.persist(department);
+        entityManager.flush();
+    }
+
+    @Test
+    void importsEveryRowAcrossSeveralBatches() {
+        List<EmployeeRequestDTO> requests = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            requests.add(request("employee" + i + "@example.com"));
+        }
+
+        BulkImportResponseDTO response = importService.importEmployees(requests);
+
+        assertThat(response.getCreated()).isEqualTo(1200);
+        assertThat(employeeRepository.countByDepartmentId(department.getId())).isEqualTo(1200);
+        // One event per flushed batch of 500, none per row
+        assertThat(events.stream(EmployeeBatchChangedEvent.class).map(event -> event.getEmployees().size()))
+                .containsExactly(500, 500, 200);
+        assertThat(events.stream(EmployeeChangedEvent.class)).isEmpty();
+    }
+
+    @Test
+    void rejectsTheWholeBatchWhenAnyRowIsInvalid() {
+        List<EmployeeRequestDTO> requests = List.of(
+                request("first@example.com"),
+                request("first@example.com"),
+                request("not-an-email"));
+
+        assertThatThrownBy(() -> importService.importEmployees(requests))
+                .hasMessageContaining("2 error(s)")
+                .hasMessageContaining("appears more than once");
+        assertThat(employeeRepository.count()).isZero();
+    }
+
+    @Test
+    void importsCsvWithQuotedFields() throws Exception {
+        String csv = "firstName,lastName,email,hireDate,departmentId,address\r\n"
+                + "Ada,Lovelace,ada@example.com,2020-01-01," + department.getId() + ",\"12 Main St, \"\"Apt\"\" 4\"\r\n"
+                + "Alan,Turing,alan@example.com,2021-06-15,,\r\n";
+
+        BulkImportResponseDTO response = importService.importEmployeesFromCsv(new StringReader(csv));
+
+        assertThat(response.getCreated()).isEqualTo(2);
+        Employee ada = employeeRepository.findByEmail("ada@example.com").orElseThrow();
+        assertThat(ada.getAddress()).isEqualTo("12 Main St, \"Apt\" 4");
+        assertThat(ada.getDepartment().getId()).isEqualTo(department.getId());
+    }
+
+    private EmployeeRequestDTO request(String email) {
+        EmployeeRequestDTO request = new EmployeeRequestDTO();
+        request.setFirstName("First");
+        request.setLastName("Last");
+        request.setEmail(email);
+        request.setHireDate(LocalDate.of(2020, 1, 1));
+        request.setDepartmentId(department.getId());
+        return request;
+    }
+}
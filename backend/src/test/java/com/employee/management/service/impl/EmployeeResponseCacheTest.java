@@ -0,0 +1,127 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.config.CacheConfig;
+import com.employee.management.dto.request.DepartmentRequestDTO;
+import com.employee.management.dto.request.EmployeeBulkStatusRequestDTO;
+import com.employee.management.dto.request.EmployeeRequestDTO;
+import com.employee.management.dto.response.DepartmentResponseDTO;
+import com.employee.management.dto.response.EmployeeBatchResponseDTO;
+import com.employee.management.dto.response.EmployeeResponseDTO;
+import com.employee.management.entity.enums.EmployeeStatus;
+import com.employee.management.repository.DepartmentRepository;
+import com.employee.management.repository.EmployeeRepository;
+import com.employee.management.service.DepartmentService;
+import com.employee.management.service.EmployeeService;
+import com.employee.management.support.QueryBudget;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.employee.management.support.EmployeeFixtures.employeeRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EmployeeResponseCacheTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private DepartmentResponseDTO department;
+    private EmployeeResponseDTO employee;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE).clear();
+        department = departmentService.createDepartment(new DepartmentRequestDTO("Engineering", null));
+        employee = employeeService.createEmployee(employeeRequest("Anna", department.getId()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    void repeatedLookupsAreServedFromCache() throws Exception {
+        employeeService.getEmployeeById(employee.getId());
+
+        QueryBudget.assertExactly(0, () -> employeeService.getEmployeeById(employee.getId()));
+        assertThat(meterRegistry.get("cache.gets").tag("cache", CacheConfig.EMPLOYEES_CACHE)
+                .tag("result", "hit").functionCounter().count()).isPositive();
+    }
+
+    @Test
+    void updateEvictsTheCachedResponse() {
+        employeeService.getEmployeeById(employee.getId());
+
+        employeeService.updateEmployee(employee.getId(), employeeRequest("Annie", department.getId()), null);
+
+        assertThat(employeeService.getEmployeeById(employee.getId()).getFirstName()).isEqualTo("Annie");
+    }
+
+    @Test
+    void departmentRenameEvictsItsEmployees() {
+        employeeService.getEmployeeById(employee.getId());
+
+        departmentService.updateDepartment(department.getId(), new DepartmentRequestDTO("Platform", null), null);
+
+        assertThat(employeeService.getEmployeeById(employee.getId()).getDepartmentName()).isEqualTo("Platform");
+    }
+
+    @Test
+    void bulkStatusUpdateEvictsAffectedEmployees() {
+        employeeService.getEmployeeById(employee.getId());
+
+        employeeService.updateStatuses(new EmployeeBulkStatusRequestDTO(
+                List.of(employee.getId()), null, null, EmployeeStatus.ON_LEAVE));
+
+        assertThat(employeeService.getEmployeeById(employee.getId()).getStatus()).isEqualTo(EmployeeStatus.ON_LEAVE);
+    }
+
+    @Test
+    void multiGetQueriesOnlyCacheMissesAndKeepsRequestOrder() throws Exception {
+        EmployeeRequestDTO second = employeeRequest("Bob", department.getId());
+        EmployeeResponseDTO bob = employeeService.createEmployee(second);
+        employeeService.getEmployeeById(employee.getId());
+        long unknown = bob.getId() + 1000;
+
+        AtomicReference<EmployeeBatchResponseDTO> result = new AtomicReference<>();
+        QueryBudget.assertExactly(1, () -> result.set(employeeService.getEmployeesByIds(
+                List.of(bob.getId(), unknown, employee.getId(), bob.getId()))));
+
+        assertThat(result.get().getEmployees()).extracting(EmployeeResponseDTO::getFirstName)
+                .containsExactly("Bob", "Anna");
+        assertThat(result.get().getMissing()).containsExactly(unknown);
+
+        // Both are cached now; only the unknown id goes back to the database
+        QueryBudget.assertExactly(1, () -> employeeService.getEmployeesByIds(
+                List.of(employee.getId(), bob.getId(), unknown)));
+        QueryBudget.assertExactly(0, () -> employeeService.getEmployeesByIds(
+                List.of(employee.getId(), bob.getId())));
+    }
+}
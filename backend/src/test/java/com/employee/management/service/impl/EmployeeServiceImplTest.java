@@ -0,0 +1,353 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.config.CacheConfig;
+import com.employee.management.dto.request.EmployeeBulkDepartmentRequestDTO;
+import com.employee.management.dto.request.EmployeeBulkStatusRequestDTO;
+import com.employee.management.dto.request.EmployeeFieldSelection;
+import com.employee.management.dto.response.EmployeeResponseDTO;
+import com.employee.management.dto.response.EmployeeScrollResponseDTO;
+import com.employee.management.entity.Department;
+import com.employee.management.entity.Employee;
+import com.employee.management.entity.Position;
+import com.employee.management.entity.enums.EmployeeStatus;
+import com.employee.management.support.QueryBudget;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jackson.autoconfigure.JacksonAutoConfiguration;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.boot.validation.autoconfigure.ValidationAutoConfiguration;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+import tools.jackson.databind.node.JsonNodeFactory;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "com.employee.management.service.impl.EmployeeServiceImplTest$RecordingStatementInspector")
+@ActiveProfiles("test")
+@Import({EmployeeServiceImpl.class, CacheConfig.class, QueryBudget.Instrumentation.class})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+class EmployeeServiceImplTest {
+
+    // Keeps the SQL Hibernate prepares, so tests can check which columns an UPDATE writes
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @Autowired
+    private EmployeeServiceImpl employeeService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Department department;
+    private Position position;
+    private int seeded;
+
+    @BeforeEach
+    void setUp() {
+        department = new Department();
+        department.setName("Engineering");
+        entityManager.persist(department);
+
+        position = new Position();
+        position.setTitle("Developer");
+        position.setDepartment(department);
+        entityManager.persist(position);
+    }
+
+    @Test
+    void listEndpointsIssueConstantStatementCount() throws Exception {
+        seedEmployees(5);
+        long small = QueryBudget.count(() -> employeeService.getAllEmployees());
+
+        seedEmployees(50);
+        long large = QueryBudget.count(() -> employeeService.getAllEmployees());
+
+        assertThat(small).isEqualTo(1);
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void filteredListsAreSingleStatements() throws Exception {
+        seedEmployees(20);
+
+        QueryBudget.assertExactly(1, () -> employeeService.getEmployeesByDepartment(department.getId()));
+        QueryBudget.assertExactly(1, () -> employeeService.getEmployeesByPosition(position.getId()));
+        QueryBudget.assertExactly(1, () -> employeeService.getEmployeesByStatus(EmployeeStatus.ACTIVE));
+        QueryBudget.assertExactly(1, () -> employeeService.searchEmployees("first"));
+        // Page content plus the total count
+        QueryBudget.assertExactly(2, () -> employeeService.getAllEmployeesPaginated(
+                PageRequest.of(0, 5, Sort.by("lastName"))));
+    }
+
+    @Test
+    void projectionCarriesDepartmentAndPosition() {
+        seedEmployees(1);
+
+        List<EmployeeResponseDTO> employees = employeeService.getAllEmployees();
+
+        assertThat(employees).hasSize(1);
+        assertThat(employees.get(0).getDepartmentName()).isEqualTo("Engineering");
+        assertThat(employees.get(0).getPositionTitle()).isEqualTo("Developer");
+    }
+
+    @Test
+    void scrollWalksEveryEmployeeOnceInSortOrder() {
+        seedEmployees(23);
+
+        List<String> lastNames = new ArrayList<>();
+        String cursor = null;
+        do {
+            EmployeeScrollResponseDTO window = employeeService.scrollEmployees(cursor, 5, "lastName", "DESC");
+            window.getContent().forEach(employee -> lastNames.add(employee.getLastName()));
+            cursor = window.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(lastNames).hasSize(23).doesNotHaveDuplicates()
+                .isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    void scrollRejectsTamperedCursors() {
+        for (String raw : List.of("lastName|ASC", "lastName|ASC|abc|Smith", "hireDate|ASC|1|not-a-date",
+                "createdAt|DESC|1|2024-13-01T00:00")) {
+            String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+            String sortBy = raw.substring(0, raw.indexOf('|'));
+
+            assertThatThrownBy(() -> employeeService.scrollEmployees(cursor, 5, sortBy, "ASC"))
+                    .hasMessage("Invalid cursor: " + cursor);
+        }
+        assertThatThrownBy(() -> employeeService.scrollEmployees("%%%", 5, "lastName", "ASC"))
+                .hasMessage("Invalid cursor: %%%");
+    }
+
+    @Test
+    void searchRefusesPagesPastTheRankedMatches() {
+        seedEmployees(3);
+
+        assertThat(employeeService.searchEmployees("first", PageRequest.of(49, 20)).getContent()).isEmpty();
+        assertThatThrownBy(() -> employeeService.searchEmployees("first", PageRequest.of(50, 20)))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("first 1000 matches");
+    }
+
+    @Test
+    void bulkStatusUpdateIsConstantStatementsAndCountsOnlyChangedRows() throws Exception {
+        seedEmployees(30);
+        EmployeeBulkStatusRequestDTO request =
+                new EmployeeBulkStatusRequestDTO(null, department.getId(), null, EmployeeStatus.ON_LEAVE);
+
+        // Id selection, one UPDATE, one reload for cache/index consumers
+        QueryBudget.assertExactly(3, () -> employeeService.updateStatuses(request));
+        assertThat(employeeService.getEmployeesByStatus(EmployeeStatus.ON_LEAVE)).hasSize(30);
+
+        // Already ON_LEAVE - nothing left to change
+        assertThat(employeeService.updateStatuses(request).getAffected()).isZero();
+    }
+
+    @Test
+    void bulkDepartmentReassignmentMovesSelectedEmployees() {
+        seedEmployees(10);
+        Department sales = new Department();
+        sales.setName("Sales");
+        entityManager.persist(sales);
+        Position rep = new Position();
+        rep.setTitle("Representative");
+        rep.setDepartment(sales);
+        entityManager.persist(rep);
+
+        List<Long> ids = employeeService.getAllEmployees().stream().limit(4).map(EmployeeResponseDTO::getId).toList();
+        EmployeeBulkDepartmentRequestDTO request =
+                new EmployeeBulkDepartmentRequestDTO(ids, null, null, sales.getId(), rep.getId());
+
+        assertThat(employeeService.reassignDepartment(request).getAffected()).isEqualTo(4);
+        assertThat(employeeService.getEmployeesByDepartment(sales.getId()))
+                .extracting(EmployeeResponseDTO::getPositionTitle).containsOnly("Representative").hasSize(4);
+        assertThat(employeeService.getEmployeesByDepartment(department.getId())).hasSize(6);
+    }
+
+    @Test
+    void bulkUpdateWithoutFilterIsRejected() {
+        seedEmployees(3);
+
+        assertThatThrownBy(() -> employeeService.updateStatuses(
+                new EmployeeBulkStatusRequestDTO(null, null, null, EmployeeStatus.TERMINATED)))
+                .hasMessageContaining("at least one filter");
+    }
+
+    @Test
+    void namePatchIsOneSelectAndANarrowUpdate() throws Exception {
+        seedEmployees(1);
+        Long id = employeeService.getAllEmployees().get(0).getId();
+        ObjectNode patch = JsonNodeFactory.instance.objectNode().put("firstName", "Renamed");
+
+        RecordingStatementInspector.STATEMENTS.clear();
+        QueryBudget.assertExactly(2, () -> employeeService.patchEmployee(id, patch, null));
+
+        String update = RecordingStatementInspector.STATEMENTS.stream()
+                .filter(sql -> sql.startsWith("update")).findFirst().orElseThrow();
+        assertThat(update).contains("first_name", "version")
+                .doesNotContain("last_name", "email", "salary", "address", "department_id", "position_id");
+        assertThat(employeeService.getEmployeeById(id).getFirstName()).isEqualTo("Renamed");
+    }
+
+    @Test
+    void patchKeepsAbsentFieldsAndClearsNullOnes() {
+        seedEmployees(1);
+        EmployeeResponseDTO before = employeeService.getAllEmployees().get(0);
+        Department sales = new Department();
+        sales.setName("Sales");
+        entityManager.persist(sales);
+        ObjectNode patch = JsonNodeFactory.instance.objectNode()
+                .put("departmentId", sales.getId())
+                .putNull("positionId");
+
+        EmployeeResponseDTO after = employeeService.patchEmployee(before.getId(), patch, null);
+
+        assertThat(after.getDepartmentName()).isEqualTo("Sales");
+        assertThat(after.getPositionId()).isNull();
+        assertThat(after.getEmail()).isEqualTo(before.getEmail());
+        assertThat(after.getHireDate()).isEqualTo(before.getHireDate());
+        assertThat(after.getVersion()).isEqualTo(before.getVersion() + 1);
+    }
+
+    @Test
+    void patchThatBreaksValidationIsRejected() {
+        seedEmployees(1);
+        Long id = employeeService.getAllEmployees().get(0).getId();
+
+        assertThatThrownBy(() -> employeeService.patchEmployee(id,
+                JsonNodeFactory.instance.objectNode().putNull("firstName"), null))
+                .hasMessageContaining("firstName");
+    }
+
+    @Test
+    void patchToAMissingDepartmentNamesIt() {
+        seedEmployees(1);
+        Long id = employeeService.getAllEmployees().get(0).getId();
+
+        assertThatThrownBy(() -> employeeService.patchEmployee(id,
+                JsonNodeFactory.instance.objectNode().put("departmentId", 999_999L), null))
+                .hasMessage("Department not found with ID: 999999");
+        assertThatThrownBy(() -> employeeService.patchEmployee(id,
+                JsonNodeFactory.instance.objectNode().put("positionId", 999_999L), null))
+                .hasMessage("Position not found with ID: 999999");
+    }
+
+    @Test
+    void patchWithAnUnknownFieldIsRejected() {
+        seedEmployees(1);
+        Long id = employeeService.getAllEmployees().get(0).getId();
+
+        assertThatThrownBy(() -> employeeService.patchEmployee(id,
+                JsonNodeFactory.instance.objectNode().put("fristName", "Typo"), null))
+                .isInstanceOfSatisfying(ResponseStatusException.class, e -> {
+                    assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+                    assertThat(e.getReason()).contains("fristName");
+                });
+        assertThat(employeeService.getEmployeeById(id).getFirstName()).isNotEqualTo("Typo");
+    }
+
+    @Test
+    void sparsePageSortIsCheckedBeforeTheQuery() {
+        seedEmployees(1);
+        EmployeeFieldSelection selection = EmployeeFieldSelection.parse("id,departmentName", null);
+
+        RecordingStatementInspector.STATEMENTS.clear();
+        for (String sortBy : List.of("departmentName", "nickname")) {
+            assertThatThrownBy(() -> employeeService.getEmployeeFieldsPaginated(selection,
+                    PageRequest.of(0, 10, Sort.by(sortBy))))
+                    .isInstanceOfSatisfying(ResponseStatusException.class,
+                            e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST))
+                    .hasMessageContaining("Cannot sort by '" + sortBy + "'");
+        }
+        assertThat(RecordingStatementInspector.STATEMENTS).isEmpty();
+        assertThat(employeeService.getEmployeeFieldsPaginated(selection, PageRequest.of(0, 10, Sort.by("lastName"))))
+                .hasSize(1);
+    }
+
+    @Test
+    void sparseFieldsSelectOnlyRequestedColumnsWithoutJoins() {
+        seedEmployees(3);
+
+        RecordingStatementInspector.STATEMENTS.clear();
+        List<Map<String, Object>> rows = employeeService.getEmployeeFields(
+                EmployeeFieldSelection.parse("id,lastName,departmentId", null), Map.of("department.id", department.getId()));
+
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0)).containsOnlyKeys("id", "lastName", "departmentId")
+                .containsEntry("departmentId", department.getId());
+        assertThat(RecordingStatementInspector.STATEMENTS).singleElement().satisfies(sql -> assertThat(sql)
+                .contains("last_name", "department_id")
+                .doesNotContain("first_name", "email", "salary", "join"));
+    }
+
+    @Test
+    void expansionJoinsOnlyTheRequestedAssociation() {
+        seedEmployees(2);
+
+        RecordingStatementInspector.STATEMENTS.clear();
+        List<Map<String, Object>> rows = employeeService.getEmployeeFieldsPaginated(
+                EmployeeFieldSelection.parse("firstName", "department"),
+                PageRequest.of(0, 5, Sort.by("lastName"))).getContent();
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0)).containsOnlyKeys("firstName", "department")
+                .containsEntry("department", Map.of("id", department.getId(), "name", "Engineering"));
+        // Page smaller than the page size, so no count query either
+        assertThat(RecordingStatementInspector.STATEMENTS).singleElement().satisfies(sql -> assertThat(sql)
+                .contains("join departments").doesNotContain("positions"));
+    }
+
+    @Test
+    void unknownFieldsAreRejected() {
+        assertThatThrownBy(() -> EmployeeFieldSelection.parse("id,password", null))
+                .hasMessageContaining("Unknown field 'password'");
+        assertThatThrownBy(() -> EmployeeFieldSelection.parse(null, "user"))
+                .hasMessageContaining("Unknown expansion 'user'");
+    }
+
+    private void seedEmployees(int count) {
+        for (int i = 0; i < count; i++) {
+            seeded++;
+            Employee employee = new Employee();
+            employee.setFirstName("First" + seeded);
+            employee.setLastName("Last" + seeded);
+            employee.setEmail("employee" + seeded + "@example.com");
+            employee.setHireDate(LocalDate.of(2020, 1, 1));
+            employee.setDepartment(department);
+            employee.setPosition(position);
+            entityManager.persist(employee);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+}
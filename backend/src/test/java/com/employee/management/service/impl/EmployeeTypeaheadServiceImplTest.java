@@ -0,0 +1,90 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.dto.response.EmployeeResponseDTO;
+import com.employee.management.dto.response.EmployeeSuggestionDTO;
+import com.employee.management.entity.enums.EmployeeStatus;
+import com.employee.management.event.EmployeeBatchChangedEvent;
+import com.employee.management.event.EmployeeChangedEvent;
+import com.employee.management.repository.EmployeeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmployeeTypeaheadServiceImplTest {
+
+    private final EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EmployeeTypeaheadServiceImpl typeaheadService;
+
+    @BeforeEach
+    void setUp() {
+        when(employeeRepository.findSuggestionsByStatusNot(EmployeeStatus.TERMINATED)).thenReturn(List.of(
+                new EmployeeSuggestionDTO(1L, "Anna", "Smith", "anna.smith@example.com"),
+                new EmployeeSuggestionDTO(2L, "Annabel", "Jones", "ajones@example.com"),
+                new EmployeeSuggestionDTO(3L, "José", "Annan", "jose@example.com")));
+        typeaheadService = new EmployeeTypeaheadServiceImpl(employeeRepository, meterRegistry);
+        typeaheadService.registerMetrics();
+        typeaheadService.rebuild();
+    }
+
+    @Test
+    void matchesPrefixesOfAnyNameOrEmailToken() {
+        assertThat(ids(typeaheadService.suggest("ann", 10))).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(ids(typeaheadService.suggest("ajon", 10))).containsExactly(2L);
+        assertThat(ids(typeaheadService.suggest("xyz", 10))).isEmpty();
+    }
+
+    @Test
+    void everyTermMustMatchAndAccentsAreIgnored() {
+        assertThat(ids(typeaheadService.suggest("ann sm", 10))).containsExactly(1L);
+        assertThat(ids(typeaheadService.suggest("JOSE", 10))).containsExactly(3L);
+    }
+
+    @Test
+    void respectsLimit() {
+        assertThat(typeaheadService.suggest("ann", 2)).hasSize(2);
+    }
+
+    @Test
+    void followsCommittedChanges() {
+        typeaheadService.onEmployeeChanged(new EmployeeChangedEvent(employee(1L, "Anne", "Taylor", EmployeeStatus.ACTIVE)));
+        assertThat(ids(typeaheadService.suggest("smith", 10))).isEmpty();
+        assertThat(ids(typeaheadService.suggest("tay", 10))).containsExactly(1L);
+
+        typeaheadService.onEmployeeChanged(new EmployeeChangedEvent(employee(2L, "Annabel", "Jones", EmployeeStatus.TERMINATED)));
+        assertThat(ids(typeaheadService.suggest("annabel", 10))).isEmpty();
+        assertThat(meterRegistry.get("employee.typeahead.entries").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void appliesBatchChangesInOnePass() {
+        typeaheadService.onEmployeeBatchChanged(new EmployeeBatchChangedEvent(List.of(
+                employee(1L, "Anna", "Smith", EmployeeStatus.TERMINATED),
+                employee(3L, "José", "Annan", EmployeeStatus.ON_LEAVE),
+                employee(4L, "Annika", "Berg", EmployeeStatus.ACTIVE))));
+
+        assertThat(ids(typeaheadService.suggest("ann", 10))).containsExactlyInAnyOrder(2L, 3L, 4L);
+        assertThat(ids(typeaheadService.suggest("example", 10))).containsExactly(2L, 3L, 4L);
+        assertThat(meterRegistry.get("employee.typeahead.entries").gauge().value()).isEqualTo(3);
+    }
+
+    private EmployeeResponseDTO employee(Long id, String firstName, String lastName, EmployeeStatus status) {
+        EmployeeResponseDTO dto = new EmployeeResponseDTO();
+        dto.setId(id);
+        dto.setFirstName(firstName);
+        dto.setLastName(lastName);
+        dto.setEmail(firstName.toLowerCase() + "@example.com");
+        dto.setStatus(status);
+        return dto;
+    }
+
+    private List<Long> ids(List<EmployeeSuggestionDTO> suggestions) {
+        return suggestions.stream().map(EmployeeSuggestionDTO::getId).toList();
+    }
+}
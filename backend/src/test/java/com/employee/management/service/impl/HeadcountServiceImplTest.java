@@ -0,0 +1,91 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.dto.response.EmployeePlacementDTO;
+import com.employee.management.dto.response.EmployeeResponseDTO;
+import com.employee.management.dto.response.HeadcountResponseDTO;
+import com.employee.management.entity.enums.EmployeeStatus;
+import com.employee.management.event.EmployeeBatchChangedEvent;
+import com.employee.management.event.EmployeeChangedEvent;
+import com.employee.management.repository.EmployeeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HeadcountServiceImplTest {
+
+    private final EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private HeadcountServiceImpl headcountService;
+
+    @BeforeEach
+    void setUp() {
+        when(employeeRepository.findAllPlacements()).thenReturn(List.of(
+                new EmployeePlacementDTO(1L, 10L, 100L, EmployeeStatus.ACTIVE),
+                new EmployeePlacementDTO(2L, 10L, 101L, EmployeeStatus.ON_LEAVE),
+                new EmployeePlacementDTO(3L, 20L, null, EmployeeStatus.ACTIVE),
+                new EmployeePlacementDTO(4L, 20L, 200L, EmployeeStatus.TERMINATED)));
+        headcountService = new HeadcountServiceImpl(employeeRepository, meterRegistry);
+        headcountService.registerMetrics();
+        headcountService.seed();
+    }
+
+    @Test
+    void seedsCountsFromTheDatabase() {
+        HeadcountResponseDTO headcount = headcountService.getHeadcount();
+
+        assertThat(headcount.getTotal()).isEqualTo(3);
+        assertThat(headcount.getByStatus()).containsEntry(EmployeeStatus.ACTIVE, 2L)
+                .containsEntry(EmployeeStatus.ON_LEAVE, 1L).containsEntry(EmployeeStatus.TERMINATED, 1L);
+        assertThat(headcount.getByDepartment()).isEqualTo(Map.of(10L, 2L, 20L, 1L));
+        assertThat(headcount.getByPosition()).isEqualTo(Map.of(100L, 1L, 101L, 1L));
+    }
+
+    @Test
+    void committedChangesMoveCountsWithoutQueries() {
+        headcountService.onEmployeeChanged(new EmployeeChangedEvent(employee(1L, 20L, null, EmployeeStatus.ACTIVE)));
+        headcountService.onEmployeeChanged(new EmployeeChangedEvent(employee(5L, 10L, 100L, EmployeeStatus.ACTIVE)));
+        headcountService.onEmployeeBatchChanged(new EmployeeBatchChangedEvent(List.of(
+                employee(2L, 10L, 101L, EmployeeStatus.TERMINATED),
+                employee(3L, 20L, null, EmployeeStatus.ACTIVE))));
+
+        HeadcountResponseDTO headcount = headcountService.getHeadcount();
+
+        assertThat(headcount.getTotal()).isEqualTo(3);
+        assertThat(headcount.getByStatus()).containsEntry(EmployeeStatus.TERMINATED, 2L);
+        assertThat(headcount.getByDepartment()).isEqualTo(Map.of(10L, 1L, 20L, 2L));
+        assertThat(headcount.getByPosition()).isEqualTo(Map.of(100L, 1L));
+        verify(employeeRepository).findAllPlacements();
+    }
+
+    @Test
+    void reconciliationCorrectsDrift() {
+        // A change that bypassed the service layer
+        when(employeeRepository.findAllPlacements()).thenReturn(List.of(
+                new EmployeePlacementDTO(1L, 10L, 100L, EmployeeStatus.ACTIVE),
+                new EmployeePlacementDTO(2L, 10L, 101L, EmployeeStatus.ACTIVE),
+                new EmployeePlacementDTO(3L, 20L, null, EmployeeStatus.ACTIVE)));
+
+        assertThat(headcountService.reconcile()).isEqualTo(2);
+        assertThat(headcountService.getHeadcount().getByStatus()).containsEntry(EmployeeStatus.ACTIVE, 3L)
+                .containsEntry(EmployeeStatus.ON_LEAVE, 0L).containsEntry(EmployeeStatus.TERMINATED, 0L);
+        assertThat(meterRegistry.get("employee.headcount.corrections").counter().count()).isEqualTo(2);
+        assertThat(headcountService.reconcile()).isZero();
+    }
+
+    private EmployeeResponseDTO employee(Long id, Long departmentId, Long positionId, EmployeeStatus status) {
+        EmployeeResponseDTO dto = new EmployeeResponseDTO();
+        dto.setId(id);
+        dto.setDepartmentId(departmentId);
+        dto.setPositionId(positionId);
+        dto.setStatus(status);
+        return dto;
+    }
+}
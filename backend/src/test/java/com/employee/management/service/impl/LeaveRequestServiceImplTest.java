@@ -0,0 +1,230 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.dto.request.DepartmentRequestDTO;
+import com.employee.management.dto.request.LeaveRequestDTO;
+import com.employee.management.dto.response.LeaveRequestResponseDTO;
+import com.employee.management.entity.enums.LeaveStatus;
+import com.employee.management.entity.enums.LeaveType;
+import com.employee.management.repository.DepartmentRepository;
+import com.employee.management.repository.EmployeeRepository;
+import com.employee.management.repository.LeaveRequestRepository;
+import com.employee.management.service.DepartmentService;
+import com.employee.management.service.EmployeeService;
+import com.employee.management.service.LeaveRequestService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.employee.management.support.EmployeeFixtures.employeeRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class LeaveRequestServiceImplTest {
+
+    @Autowired
+    private LeaveRequestService leaveRequestService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private LeaveRequestRepository leaveRequestRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Four people in one department: at most two of them may be on approved leave on the same day
+    private final List<Long> team = new ArrayList<>();
+    private Long manager;
+
+    @BeforeEach
+    void setUp() {
+        Long departmentId = departmentService.createDepartment(new DepartmentRequestDTO("Support", null)).getId();
+        for (String name : List.of("Anna", "Bob", "Carl", "Dora")) {
+            team.add(employeeService.createEmployee(employeeRequest(name, departmentId)).getId());
+        }
+        manager = employeeService.createEmployee(employeeRequest("Mia", null)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        leaveRequestRepository.deleteAll();
+        employeeRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    void refusesLeaveOverlappingAPendingOrApprovedLeave() {
+        LeaveRequestResponseDTO first = submit(team.get(0), "2024-07-01", "2024-07-05");
+
+        assertConflict(() -> submit(team.get(0), "2024-07-05", "2024-07-09"), "leave request " + first.getId());
+        assertConflict(() -> submit(team.get(0), "2024-06-20", "2024-07-20"), "leave request " + first.getId());
+
+        // Adjacent days and other employees' leave do not clash
+        submit(team.get(0), "2024-07-06", "2024-07-08");
+        submit(team.get(1), "2024-07-01", "2024-07-05");
+        leaveRequestService.approveLeaveRequest(first.getId(), manager);
+        assertConflict(() -> submit(team.get(0), "2024-06-30", "2024-07-01"), "APPROVED");
+    }
+
+    @Test
+    void clashOnlyInThisInstancesIndexIsCheckedAgainstTheDatabase() {
+        LeaveRequestResponseDTO moved = submit(team.get(0), "2024-07-01", "2024-07-05");
+        LeaveRequestResponseDTO deleted = submit(team.get(1), "2024-07-01", "2024-07-05");
+        LeaveRequestResponseDTO rejected = submit(team.get(2), "2024-07-01", "2024-07-05");
+
+        // Another instance moves, deletes and rejects them; none of it reaches this instance's index
+        jdbcTemplate.update("UPDATE leave_requests SET start_date = ?, end_date = ? WHERE id = ?",
+                LocalDate.parse("2024-08-01"), LocalDate.parse("2024-08-05"), moved.getId());
+        jdbcTemplate.update("DELETE FROM leave_requests WHERE id = ?", deleted.getId());
+        jdbcTemplate.update("UPDATE leave_requests SET status = 'REJECTED' WHERE id = ?", rejected.getId());
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(submit(team.get(i), "2024-07-02", "2024-07-03").getStatus()).isEqualTo(LeaveStatus.PENDING);
+        }
+        // The refreshed entry guards the moved request's new days
+        assertConflict(() -> submit(team.get(0), "2024-08-04", "2024-08-06"), "leave request " + moved.getId());
+    }
+
+    @Test
+    void rejectedLeaveFreesItsDays() {
+        LeaveRequestResponseDTO first = submit(team.get(0), "2024-07-01", "2024-07-05");
+
+        LeaveRequestResponseDTO rejected = leaveRequestService.rejectLeaveRequest(first.getId(), manager);
+
+        assertThat(rejected.getStatus()).isEqualTo(LeaveStatus.REJECTED);
+        assertThat(rejected.getApprovedById()).isEqualTo(manager);
+        assertThat(submit(team.get(0), "2024-07-03", "2024-07-04").getStatus()).isEqualTo(LeaveStatus.PENDING);
+        assertConflict(() -> leaveRequestService.approveLeaveRequest(first.getId(), manager), "already REJECTED");
+    }
+
+    @Test
+    void refusesApprovalThatLeavesTheDepartmentShortOnAnyDay() {
+        approve(submit(team.get(0), "2024-07-01", "2024-07-03"));
+        approve(submit(team.get(1), "2024-07-08", "2024-07-10"));
+        // Overlaps each of them, but never both on the same day
+        approve(submit(team.get(2), "2024-07-03", "2024-07-08"));
+        LeaveRequestResponseDTO fourth = submit(team.get(3), "2024-07-06", "2024-07-12");
+
+        assertConflict(() -> approve(fourth), "on leave on 2024-07-08");
+
+        assertThat(leaveRequestService.getLeaveRequestById(fourth.getId()).getStatus()).isEqualTo(LeaveStatus.PENDING);
+        leaveRequestService.rejectLeaveRequest(fourth.getId(), manager);
+        assertThat(approve(submit(team.get(3), "2024-07-11", "2024-07-12")).getStatus())
+                .isEqualTo(LeaveStatus.APPROVED);
+    }
+
+    @Test
+    void concurrentApprovalsForOneDepartmentWaitForEachOther() throws Exception {
+        approve(submit(team.get(0), "2024-07-01", "2024-07-05"));
+        LeaveRequestResponseDTO second = submit(team.get(1), "2024-07-01", "2024-07-05");
+        LeaveRequestResponseDTO third = submit(team.get(2), "2024-07-03", "2024-07-04");
+        CountDownLatch approved = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+
+        // The first approval holds its transaction, and so the department lock, open until told to commit
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    approve(second);
+                    approved.countDown();
+                    await(commit);
+                }));
+        assertThat(approved.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<LeaveRequestResponseDTO> waiting = CompletableFuture.supplyAsync(() -> approve(third));
+
+        Thread.sleep(300);
+        assertThat(waiting).isNotDone();
+        commit.countDown();
+        first.get(5, TimeUnit.SECONDS);
+
+        // Checked against the committed approval, not a snapshot from before it
+        assertThatThrownBy(() -> waiting.get(5, TimeUnit.SECONDS)).cause()
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("on leave on 2024-07-03");
+    }
+
+    @Test
+    void startupLoadRebuildsTheIndexFromTheDatabase() {
+        LeaveRequestResponseDTO pending = submit(team.get(0), "2024-07-01", "2024-07-05");
+        LeaveRequestResponseDTO approved = approve(submit(team.get(1), "2024-07-01", "2024-07-05"));
+        leaveRequestService.rejectLeaveRequest(submit(team.get(2), "2024-07-01", "2024-07-05").getId(), manager);
+
+        LeaveRequestServiceImpl restarted = new LeaveRequestServiceImpl(leaveRequestRepository, employeeRepository,
+                departmentRepository, eventPublisher, 0.5);
+        restarted.loadIndex();
+
+        assertConflict(() -> restarted.submitLeaveRequest(leave(team.get(0), "2024-07-04", "2024-07-06")),
+                "leave request " + pending.getId());
+        assertConflict(() -> restarted.submitLeaveRequest(leave(team.get(1), "2024-06-28", "2024-07-01")),
+                "APPROVED leave request " + approved.getId());
+        assertThat(restarted.submitLeaveRequest(leave(team.get(2), "2024-07-02", "2024-07-03")).getStatus())
+                .isEqualTo(LeaveStatus.PENDING);
+    }
+
+    @Test
+    void rejectsEndBeforeStart() {
+        assertThatThrownBy(() -> submit(team.get(0), "2024-07-05", "2024-07-01"))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(e -> assertThat(((ResponseStatusException) e).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    private LeaveRequestResponseDTO submit(Long employeeId, String start, String end) {
+        return leaveRequestService.submitLeaveRequest(leave(employeeId, start, end));
+    }
+
+    private LeaveRequestResponseDTO approve(LeaveRequestResponseDTO leaveRequest) {
+        return leaveRequestService.approveLeaveRequest(leaveRequest.getId(), manager);
+    }
+
+    private static void assertConflict(Runnable action, String message) {
+        assertThatThrownBy(action::run)
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining(message)
+                .satisfies(e -> assertThat(((ResponseStatusException) e).getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static LeaveRequestDTO leave(Long employeeId, String start, String end) {
+        return new LeaveRequestDTO(employeeId, LeaveType.VACATION, LocalDate.parse(start), LocalDate.parse(end), null);
+    }
+}
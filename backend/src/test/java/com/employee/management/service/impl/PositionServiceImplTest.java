@@ -0,0 +1,95 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.config.CacheConfig;
+import com.employee.management.dto.response.PositionResponseDTO;
+import com.employee.management.entity.Department;
+import com.employee.management.entity.Employee;
+import com.employee.management.entity.Position;
+import com.employee.management.support.QueryBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({PositionServiceImpl.class, CacheConfig.class, QueryBudget.Instrumentation.class})
+class PositionServiceImplTest {
+
+    @Autowired
+    private PositionServiceImpl positionService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Department department;
+    private int seeded;
+
+    @BeforeEach
+    void setUp() {
+        department = new Department();
+        department.setName("Engineering");
+        entityManager.persist(department);
+    }
+
+    @Test
+    void listingIsOneStatementRegardlessOfPositionCount() throws Exception {
+        seedPositions(3, 2);
+        QueryBudget.assertExactly(1, () -> positionService.getAllPositions());
+
+        seedPositions(20, 2);
+        QueryBudget.assertExactly(1, () -> positionService.getAllPositions());
+        // Department existence check plus the listing
+        QueryBudget.assertExactly(2, () -> positionService.getPositionsByDepartment(department.getId()));
+    }
+
+    @Test
+    void responsesCarryDepartmentNameAndEmployeeCount() throws Exception {
+        List<Position> positions = seedPositions(2, 4);
+        seedPositions(1, 0);
+
+        assertThat(positionService.getAllPositions())
+                .extracting(PositionResponseDTO::getEmployeeCount).containsExactly(4, 4, 0);
+
+        PositionResponseDTO[] single = new PositionResponseDTO[1];
+        QueryBudget.assertExactly(1, () -> single[0] = positionService.getPositionById(positions.get(0).getId()));
+        assertThat(single[0].getDepartmentName()).isEqualTo("Engineering");
+        assertThat(single[0].getEmployeeCount()).isEqualTo(4);
+    }
+
+    private List<Position> seedPositions(int count, int employeesEach) {
+        List<Position> positions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            seeded++;
+            Position position = new Position();
+            position.setTitle("Position" + seeded);
+            position.setDepartment(department);
+            entityManager.persist(position);
+            positions.add(position);
+
+            for (int j = 0; j < employeesEach; j++) {
+                Employee employee = new Employee();
+                employee.setFirstName("First");
+                employee.setLastName("Last");
+                employee.setEmail("employee" + seeded + "." + j + "@example.com");
+                employee.setHireDate(LocalDate.of(2020, 1, 1));
+                employee.setDepartment(department);
+                employee.setPosition(position);
+                entityManager.persist(employee);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return positions;
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.employee.management.support;
+
+import com.employee.management.dto.request.EmployeeRequestDTO;
+
+import java.time.LocalDate;
+
+// Request bodies shared by the tests that create employees through the service or the API
+public final class EmployeeFixtures {
+
+    private EmployeeFixtures() {
+    }
+
+    // A valid employee named <firstName> Smith, with an email derived from the first name
+    public static EmployeeRequestDTO employeeRequest(String firstName, Long departmentId) {
+        return employeeRequest(firstName, departmentId, null);
+    }
+
+    public static EmployeeRequestDTO employeeRequest(String firstName, Long departmentId, Long positionId) {
+        EmployeeRequestDTO request = new EmployeeRequestDTO();
+        request.setFirstName(firstName);
+        request.setLastName("Smith");
+        request.setEmail(firstName.toLowerCase() + ".smith@example.com");
+        request.setHireDate(LocalDate.of(2020, 1, 1));
+        request.setDepartmentId(departmentId);
+        request.setPositionId(positionId);
+        return request;
+    }
+}
@@ -0,0 +1,53 @@
+package com.employee.management.support;
+
+import com.employee.management.config.SqlInstrumentationConfig;
+import com.employee.management.util.SqlStats;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statement budgets for tests, counted by SqlStats on the calling thread: every JDBC execution inside the
+ * action, whatever issued it. Full application contexts are instrumented already; slices such as
+ * {@code @DataJpaTest} need {@code @Import(QueryBudget.Instrumentation.class)} so their DataSource is proxied.
+ */
+public final class QueryBudget {
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    // Wraps the DataSource the way SqlInstrumentationConfig does, without its web filter and metrics
+    @TestConfiguration(proxyBeanMethods = false)
+    public static class Instrumentation {
+
+        @Bean
+        static BeanPostProcessor sqlStatsDataSourceProxy() {
+            return SqlInstrumentationConfig.sqlStatsDataSourceProxy();
+        }
+    }
+
+    private QueryBudget() {
+    }
+
+    public static int count(Action action) throws Exception {
+        SqlStats stats = SqlStats.open();
+        try {
+            action.run();
+        } finally {
+            SqlStats.close(stats);
+        }
+        return stats.getStatements();
+    }
+
+    public static void assertExactly(int expected, Action action) throws Exception {
+        assertThat(count(action)).as("SQL statements").isEqualTo(expected);
+    }
+
+    public static void assertAtMost(int max, Action action) throws Exception {
+        assertThat(count(action)).as("SQL statements").isLessThanOrEqualTo(max);
+    }
+}